@@ -0,0 +1,69 @@
+package com.shop.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.domain.category.entity.Category;
+import com.shop.domain.order.dto.OrderSummaryResponse;
+import com.shop.domain.product.dto.ProductSummaryResponse;
+import com.shop.domain.product.entity.Product;
+import com.shop.global.response.ApiResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * ApiResponse Jackson 직렬화 벤치마크
+ * ObjectMapper 는 Spring Boot 기본 구성과 같은 Jackson2ObjectMapperBuilder 로 생성합니다. (JavaTimeModule, ISO 날짜)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<ProductSummaryResponse>> productPage;
+    private ApiResponse<List<OrderSummaryResponse>> orderPage;
+    private ApiResponse<Void> error;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        Category category = BenchmarkFixtures.category(1L, "아우터");
+        List<Product> products = LongStream.rangeClosed(1, 20)
+                .mapToObj(id -> BenchmarkFixtures.product(id, category))
+                .toList();
+
+        productPage = ApiResponse.ok(products.stream()
+                .map(product -> BenchmarkFixtures.summary(product, null))
+                .toList());
+        orderPage = ApiResponse.ok(LongStream.rangeClosed(1, 10)
+                .mapToObj(id -> OrderSummaryResponse.from(BenchmarkFixtures.order(id, products.subList(0, 3))))
+                .toList());
+        error = ApiResponse.fail("PRODUCT_NOT_FOUND", "상품을 찾을 수 없습니다.");
+    }
+
+    @Benchmark
+    public byte[] productPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(productPage);
+    }
+
+    @Benchmark
+    public byte[] orderPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(orderPage);
+    }
+
+    @Benchmark
+    public byte[] error() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(error);
+    }
+}
@@ -0,0 +1,135 @@
+package com.shop.benchmark;
+
+import com.shop.domain.category.entity.Category;
+import com.shop.domain.common.BaseEntity;
+import com.shop.domain.curation.entity.Curation;
+import com.shop.domain.curation.entity.CurationProduct;
+import com.shop.domain.order.entity.Order;
+import com.shop.domain.order.entity.OrderItem;
+import com.shop.domain.product.dto.ProductSummaryResponse;
+import com.shop.domain.product.entity.Product;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 벤치마크용 엔티티 픽스처 - DB 없이 영속 상태와 같은 모양의 엔티티를 만듭니다.
+ * 엔티티 대부분이 protected 생성자만 가지므로 리플렉션으로 필드를 채웁니다.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Category category(long id, String name) {
+        Category category = BeanUtils.instantiateClass(Category.class);
+        set(category, "id", id);
+        set(category, "name", name);
+        return category;
+    }
+
+    static Product product(long id, Category category) {
+        return product(id, category, "벤치마크 상품 " + id);
+    }
+
+    static Product product(long id, Category category, String name) {
+        Product product = BeanUtils.instantiateClass(Product.class);
+        set(product, "id", id);
+        set(product, "name", name);
+        set(product, "price", BigDecimal.valueOf(29_000 + id % 100 * 100));
+        set(product, "stock", 100);
+        set(product, "category", category);
+        set(product, "productCode", "BMK-" + id);
+        set(product, "thumbnailUrl", id % 2 == 0 ? "/images/products/" + id + ".jpg" : null);
+        set(product, "shippingFee", BigDecimal.valueOf(3_000));
+        set(product, "shippingInfo", "무료배송");
+        return product;
+    }
+
+    /**
+     * 엔티티 기반 목록 응답 변환 - 목록 조회 모델 도입 전 방식과의 비교용 (운영 코드는 ProductListingView 에서 변환)
+     *
+     * @param firstImageUrl 썸네일이 비어 있을 때 대신 사용할 첫 번째 이미지 URL (없으면 null)
+     */
+    static ProductSummaryResponse summary(Product product, String firstImageUrl) {
+        String thumbnail = product.hasThumbnail() ? product.getThumbnailUrl() : firstImageUrl;
+
+        return ProductSummaryResponse.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .price(product.getPrice())
+                .stock(product.getStock())
+                .categoryId(product.getCategory() != null ? product.getCategory().getId() : null)
+                .categoryName(product.getCategory() != null ? product.getCategory().getName() : null)
+                .thumbnailUrl(thumbnail)
+                .productCode(product.getProductCode())
+                .status(product.getStatus().name())
+                .shippingFee(product.getShippingFee())
+                .build();
+    }
+
+    static Order order(long id, List<Product> products) {
+        Order order = Order.builder()
+                .totalPrice(BigDecimal.ZERO)
+                .shippingAddress("서울시 강남구 테헤란로 1")
+                .receiverName("홍길동")
+                .receiverPhone("010-1234-5678")
+                .orderNumber("ORD" + String.format("%020d", id))
+                .build();
+        set(order, "id", id);
+        set(order, BaseEntity.class, "createdAt", LocalDateTime.of(2025, 1, 1, 12, 0));
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (Product product : products) {
+            OrderItem item = OrderItem.builder()
+                    .order(order)
+                    .product(product)
+                    .quantity(2)
+                    .priceAtOrder(product.getPrice())
+                    .productName(product.getName())
+                    .build();
+            order.addItem(item);
+            total = total.add(item.getSubtotal());
+        }
+        order.updateTotalPrice(total);
+        return order;
+    }
+
+    static Curation curation(long id, List<Product> products) {
+        Curation curation = BeanUtils.instantiateClass(Curation.class);
+        set(curation, "id", id);
+        set(curation, "title", "이번 주 추천");
+        set(curation, "description", "벤치마크 큐레이션");
+        set(curation, "imageUrl", "/images/curations/" + id + ".jpg");
+
+        for (int i = 0; i < products.size(); i++) {
+            Product product = products.get(i);
+            CurationProduct curationProduct = BeanUtils.instantiateClass(CurationProduct.class);
+            set(curationProduct, "id", (long) i + 1);
+            set(curationProduct, "curation", curation);
+            set(curationProduct, "product", product);
+            set(curationProduct, "displayOrder", i);
+            set(curationProduct, "badgeText", i % 3 == 0 ? "BEST" : null);
+            set(curationProduct, "originalPrice", i % 2 == 0 ? product.getPrice().add(BigDecimal.valueOf(10_000)) : null);
+            curation.getCurationProducts().add(curationProduct);
+        }
+        return curation;
+    }
+
+    private static void set(Object target, String name, Object value) {
+        set(target, target.getClass(), name, value);
+    }
+
+    private static void set(Object target, Class<?> owner, String name, Object value) {
+        Field field = ReflectionUtils.findField(owner, name);
+        if (field == null) {
+            throw new IllegalArgumentException(owner.getSimpleName() + "." + name + " 필드가 없습니다.");
+        }
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,148 @@
+package com.shop.benchmark;
+
+import com.shop.ShopApplication;
+import com.shop.domain.claim.repository.ClaimRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 클레임 가능 수량 확인 벤치마크 - 인메모리 H2 에 주문 상품 itemCount 개짜리 주문과 기존 반품 클레임 하나를 적재한 뒤
+ * 주문 상품 전체의 클레임된 수량을 조회
+ * - perItemPath: 기존 방식 (주문 상품마다 SUM 집계 쿼리)
+ * - groupedPath: 주문 단위 GROUP BY 집계 쿼리 한 번
+ * 절대값보다 두 경로의 상대 비교를 위한 것이며, 실제 수치는 PostgreSQL 에서 다시 확인해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClaimQuantityBenchmark {
+
+    @Param({"5", "30", "100"})
+    public int itemCount;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private EntityManager entityManager;
+    private ClaimRepository claimRepository;
+    private Long orderId;
+    private List<Long> orderItemIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShopApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:claim-benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.sql.init.mode=never",
+                        "shop.search.index-dir=",
+                        "jwt.secret=benchmark-secret-key-for-benchmark-purposes-only",
+                        "jwt.expiration=86400000",
+                        "shop.order-number.node-id=0")
+                .run();
+
+        entityManager = context.getBean(EntityManager.class);
+        claimRepository = context.getBean(ClaimRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Map<Long, Integer> perItemPath() {
+        return readOnlyTransaction.execute(status -> {
+            Map<Long, Integer> claimed = new HashMap<>();
+            for (Long orderItemId : orderItemIds) {
+                Long sum = entityManager.createQuery(
+                                "SELECT COALESCE(SUM(ci.quantity), 0) FROM ClaimItem ci " +
+                                "WHERE ci.orderItem.id = :orderItemId " +
+                                "AND ci.claim.status NOT IN (com.shop.domain.claim.entity.ClaimStatus.REJECTED)",
+                                Long.class)
+                        .setParameter("orderItemId", orderItemId)
+                        .getSingleResult();
+                claimed.put(orderItemId, sum.intValue());
+            }
+            return claimed;
+        });
+    }
+
+    @Benchmark
+    public Map<Long, Integer> groupedPath() {
+        return readOnlyTransaction.execute(status -> claimRepository.sumClaimedQuantitiesByOrderId(orderId).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).intValue())));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update(
+                "INSERT INTO users (email, password, name, role, login_type, created_at, updated_at) " +
+                "VALUES ('bench@test.com', 'password', '벤치마크', 'USER', 'LOCAL', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'bench@test.com'", Long.class);
+
+        jdbcTemplate.update(
+                "INSERT INTO categories (name, description, display_order, depth, created_at, updated_at) " +
+                "VALUES ('벤치마크', '벤치마크 카테고리', 1, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+        Long categoryId = jdbcTemplate.queryForObject("SELECT id FROM categories WHERE name = '벤치마크'", Long.class);
+
+        for (int i = 1; i <= itemCount; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO products (name, description, price, stock, category_id, product_code, status, created_at, updated_at) " +
+                    "VALUES (?, '벤치마크', 10000, 100, ?, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    "벤치마크 상품 " + i, categoryId, "BMK-CLM-" + i);
+        }
+
+        jdbcTemplate.update(
+                "INSERT INTO orders (id, user_id, total_price, status, order_number, shipping_address, receiver_name, receiver_phone, created_at, updated_at) " +
+                "VALUES (NEXT VALUE FOR orders_seq, ?, 0, 'DELIVERED', 'ORD202501010001', '서울시', '홍길동', '010-0000-0000', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                userId);
+        orderId = jdbcTemplate.queryForObject("SELECT id FROM orders WHERE order_number = 'ORD202501010001'", Long.class);
+
+        jdbcTemplate.update(
+                "INSERT INTO order_items (id, order_id, product_id, quantity, price_at_order, product_name) " +
+                "SELECT NEXT VALUE FOR order_items_seq, ?, id, 3, 10000, name FROM products", orderId);
+        orderItemIds = jdbcTemplate.queryForList("SELECT id FROM order_items WHERE order_id = ? ORDER BY id", Long.class, orderId);
+
+        // 모든 주문 상품에 1개씩 반품 접수된 클레임
+        jdbcTemplate.update(
+                "INSERT INTO claims (id, order_id, user_id, claim_type, status, reason, refund_amount, refund_method, created_at, updated_at) " +
+                "VALUES (NEXT VALUE FOR claims_seq, ?, ?, 'RETURN', 'RECEIVED', '벤치마크', 0, 'CARD', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                orderId, userId);
+        Long claimId = jdbcTemplate.queryForObject("SELECT id FROM claims WHERE order_id = ?", Long.class, orderId);
+        jdbcTemplate.update(
+                "INSERT INTO claim_items (id, claim_id, order_item_id, quantity, product_name) " +
+                "SELECT NEXT VALUE FOR claim_items_seq, ?, id, 1, product_name FROM order_items WHERE order_id = ?",
+                claimId, orderId);
+    }
+}
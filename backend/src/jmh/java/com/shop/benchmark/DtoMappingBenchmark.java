@@ -0,0 +1,81 @@
+package com.shop.benchmark;
+
+import com.shop.domain.category.entity.Category;
+import com.shop.domain.curation.dto.CurationResponse;
+import com.shop.domain.curation.entity.Curation;
+import com.shop.domain.order.dto.OrderSummaryResponse;
+import com.shop.domain.order.entity.Order;
+import com.shop.domain.product.entity.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 목록/주문/큐레이션 응답 DTO 변환 벤치마크
+ * - 상품 목록 한 페이지(20건) 변환
+ * - 주문 목록 한 페이지(주문 10건 x 상품 3개) 변환
+ * - 큐레이션 변환 시 전체 상품 좋아요 수 맵(likeCountMapSize) 조회 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "100000"})
+    public int likeCountMapSize;
+
+    private List<Product> products;
+    private List<Order> orders;
+    private Curation curation;
+    private Map<Long, Long> likeCountMap;
+
+    @Setup
+    public void setUp() {
+        Category category = BenchmarkFixtures.category(1L, "아우터");
+        products = LongStream.rangeClosed(1, PAGE_SIZE)
+                .mapToObj(id -> BenchmarkFixtures.product(id, category))
+                .toList();
+        orders = LongStream.rangeClosed(1, 10)
+                .mapToObj(id -> BenchmarkFixtures.order(id, products.subList(0, 3)))
+                .toList();
+        curation = BenchmarkFixtures.curation(1L, products);
+
+        likeCountMap = new HashMap<>();
+        for (long id = 1; id <= likeCountMapSize; id++) {
+            likeCountMap.put(id, id % 500);
+        }
+    }
+
+    @Benchmark
+    public void productSummaryPage(Blackhole bh) {
+        for (Product product : products) {
+            bh.consume(BenchmarkFixtures.summary(product, "/images/fallback.jpg"));
+        }
+    }
+
+    @Benchmark
+    public void orderSummaryPage(Blackhole bh) {
+        for (Order order : orders) {
+            bh.consume(OrderSummaryResponse.from(order));
+        }
+    }
+
+    @Benchmark
+    public CurationResponse curationWithLikeCounts() {
+        return CurationResponse.from(curation, likeCountMap);
+    }
+}
@@ -0,0 +1,83 @@
+package com.shop.benchmark;
+
+import com.shop.global.security.JwtUtil;
+import com.shop.global.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 벤치마크 - JwtAuthenticationFilter 가 요청마다 수행하는 경로를 비교합니다.
+ * - legacyFilterPath: 이전 필터 방식 (validateToken + getUserId/getEmail/getRole, 호출마다 파서 생성 · 서명 검증 4회)
+ * - parseOnce: 공유 파서로 한 번만 파싱 · 검증 (JwtUtil.verify)
+ * - cachedToken: 검증된 토큰 캐시 적중 (VerifiedTokenCache.authenticate)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-256-bits-long!!";
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET);
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, new SimpleMeterRegistry(), true, 10_000);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        accessToken = jwtUtil.generateAccessToken(1L, "bench@test.com", "USER");
+    }
+
+    @Benchmark
+    public void legacyFilterPath(Blackhole bh) {
+        legacyParse(accessToken);
+        bh.consume(legacyParse(accessToken).get("userId", Long.class));
+        bh.consume(legacyParse(accessToken).get("email", String.class));
+        bh.consume(legacyParse(accessToken).get("role", String.class));
+    }
+
+    @Benchmark
+    public void parseOnce(Blackhole bh) {
+        bh.consume(jwtUtil.verify(accessToken));
+    }
+
+    @Benchmark
+    public void cachedToken(Blackhole bh) {
+        bh.consume(verifiedTokenCache.authenticate(accessToken));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return jwtUtil.getUserId(accessToken);
+    }
+
+    private Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,41 @@
+package com.shop.benchmark;
+
+import com.shop.domain.order.service.OrderNumberGenerator;
+import com.shop.domain.order.service.TimeOrderedOrderNumberGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문번호 생성 벤치마크 - 단일 스레드와 동시 주문(8 스레드) 상황에서의 생성 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderNumberGeneratorBenchmark {
+
+    private OrderNumberGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new TimeOrderedOrderNumberGenerator(1);
+    }
+
+    @Benchmark
+    public String generate() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generateContended() {
+        return generator.generate();
+    }
+}
@@ -0,0 +1,166 @@
+package com.shop.benchmark;
+
+import com.shop.ShopApplication;
+import com.shop.domain.product.dto.ProductSort;
+import com.shop.domain.product.dto.ProductSummaryResponse;
+import com.shop.domain.product.entity.Product;
+import com.shop.domain.product.repository.ProductImageRepository;
+import com.shop.domain.product.repository.ProductListingRepository;
+import com.shop.domain.product.repository.ProductRepository;
+import com.shop.domain.product.service.ProductListingProjector;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 목록 조회 벤치마크 - 인메모리 H2 에 productCount 건을 적재한 뒤 최신순 페이지(20건) 조회
+ * - entityPath: 기존 방식 (ID 페이지 + COUNT → 상품 · 카테고리 엔티티 로드 → 대표 이미지 조회 → DTO 변환)
+ * - projectionPath: 목록 조회 모델(product_listings) 프로젝션 페이지 + COUNT
+ * 절대값보다 두 경로의 상대 비교를 위한 것이며, 실제 수치는 PostgreSQL 에서 다시 확인해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductListingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_SIZE = 5_000;
+
+    @Param({"10000", "100000"})
+    public int productCount;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnlyTransaction;
+    private EntityManager entityManager;
+    private ProductRepository productRepository;
+    private ProductImageRepository productImageRepository;
+    private ProductListingRepository productListingRepository;
+    private PageRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShopApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:listing-benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.sql.init.mode=never",
+                        "shop.search.index-dir=",
+                        "jwt.secret=benchmark-secret-key-for-benchmark-purposes-only",
+                        "jwt.expiration=86400000",
+                        "shop.order-number.node-id=0")
+                .run();
+
+        entityManager = context.getBean(EntityManager.class);
+        productRepository = context.getBean(ProductRepository.class);
+        productImageRepository = context.getBean(ProductImageRepository.class);
+        productListingRepository = context.getBean(ProductListingRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        pageRequest = PageRequest.of(10, PAGE_SIZE, ProductSort.LATEST.toSort());
+
+        seed(context.getBean(JdbcTemplate.class));
+        context.getBean(ProductListingProjector.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<ProductSummaryResponse> entityPath() {
+        return readOnlyTransaction.execute(status -> {
+            List<Long> ids = entityManager.createQuery(
+                            "SELECT p.id FROM Product p WHERE p.status = 'ACTIVE' ORDER BY p.createdAt DESC, p.id DESC",
+                            Long.class)
+                    .setFirstResult((int) pageRequest.getOffset())
+                    .setMaxResults(PAGE_SIZE)
+                    .getResultList();
+            long total = entityManager.createQuery(
+                            "SELECT COUNT(p) FROM Product p WHERE p.status = 'ACTIVE'", Long.class)
+                    .getSingleResult();
+
+            Map<Long, Product> products = productRepository.findAllWithCategoryByIdIn(ids).stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+            Map<Long, String> firstImageUrls = productImageRepository.findFirstImageUrlsByProductIdIn(ids).stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> (String) row[1], (first, second) -> first));
+
+            List<ProductSummaryResponse> content = ids.stream()
+                    .map(id -> BenchmarkFixtures.summary(products.get(id), firstImageUrls.get(id)))
+                    .toList();
+            return new PageImpl<>(content, pageRequest, total);
+        });
+    }
+
+    @Benchmark
+    public Page<ProductSummaryResponse> projectionPath() {
+        return readOnlyTransaction.execute(status -> productListingRepository
+                .findPage(null, null, null, null, pageRequest)
+                .map(ProductSummaryResponse::from));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        for (int i = 1; i <= 8; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO categories (name, description, display_order, depth, created_at, updated_at) " +
+                    "VALUES (?, ?, ?, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                    "카테고리 " + i, "벤치마크 카테고리", i);
+        }
+        List<Long> categoryIds = jdbcTemplate.queryForList("SELECT id FROM categories ORDER BY id", Long.class);
+
+        List<Object[]> products = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= productCount; i++) {
+            products.add(new Object[]{
+                    "벤치마크 상품 " + i, 29_000 + i % 100 * 100, 100,
+                    categoryIds.get(i % categoryIds.size()), "BMK-" + i,
+                    i % 2 == 0 ? "/images/products/" + i + ".jpg" : null});
+            if (products.size() == BATCH_SIZE || i == productCount) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO products (name, description, price, stock, category_id, product_code, " +
+                        "thumbnail_url, status, created_at, updated_at) " +
+                        "VALUES (?, '벤치마크', ?, ?, ?, ?, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                        products);
+                products.clear();
+            }
+        }
+
+        // 썸네일이 없는 상품마다 이미지 2장
+        jdbcTemplate.update(
+                "INSERT INTO product_images (product_id, url, image_order) " +
+                "SELECT id, CONCAT('/images/products/', id, '-1.jpg'), 1 FROM products WHERE thumbnail_url IS NULL");
+        jdbcTemplate.update(
+                "INSERT INTO product_images (product_id, url, image_order) " +
+                "SELECT id, CONCAT('/images/products/', id, '-2.jpg'), 2 FROM products WHERE thumbnail_url IS NULL");
+    }
+}
@@ -0,0 +1,99 @@
+package com.shop.benchmark;
+
+import com.shop.domain.category.entity.Category;
+import com.shop.domain.product.dto.ProductSort;
+import com.shop.domain.product.entity.Product;
+import com.shop.domain.product.service.ProductSearchIndex;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상품 검색 색인 조회 벤치마크 - 힙 메모리 색인에 productCount 건을 적재한 뒤 첫 페이지(20건) 조회
+ * - 좁은 검색어(일부 상품만 일치) / 넓은 검색어(대부분 일치) x 관련도순 / 가격순 / 카테고리 필터
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProductSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_SIZE = 10_000;
+    private static final String[] ITEMS = {"코트", "티셔츠", "맨투맨", "니트", "청바지", "슬랙스", "원피스", "스커트"};
+    private static final String[] ADJECTIVES = {"프리미엄", "베이직", "오버핏", "캐시미어", "린넨", "데님", "울", "코튼"};
+
+    @Param({"100000", "1000000"})
+    public int productCount;
+
+    private ProductSearchIndex index;
+    private Long categoryId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        index = new ProductSearchIndex(new ByteBuffersDirectory());
+
+        List<Category> categories = List.of(
+                BenchmarkFixtures.category(1L, "여성 아우터"),
+                BenchmarkFixtures.category(2L, "남성 상의"),
+                BenchmarkFixtures.category(3L, "여성 하의"),
+                BenchmarkFixtures.category(4L, "남성 하의"));
+        categoryId = categories.get(0).getId();
+
+        List<Product> batch = new ArrayList<>(BATCH_SIZE);
+        for (long id = 1; id <= productCount; id++) {
+            String name = ADJECTIVES[(int) (id % ADJECTIVES.length)] + " "
+                    + ITEMS[(int) (id / ADJECTIVES.length % ITEMS.length)] + " " + id;
+            batch.add(BenchmarkFixtures.product(id, categories.get((int) (id % categories.size())), name));
+            if (batch.size() == BATCH_SIZE) {
+                index.upsert(batch);
+                batch.clear();
+            }
+        }
+        index.upsert(batch);
+        index.commit();
+        index.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Benchmark
+    public ProductSearchIndex.SearchResult narrowKeyword_relevance() {
+        return index.search("캐시미어 코트", null, null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ProductSearchIndex.SearchResult broadKeyword_relevance() {
+        return index.search("여성", null, null, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ProductSearchIndex.SearchResult keyword_priceAsc() {
+        return index.search("티셔츠", null, ProductSort.PRICE_ASC, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ProductSearchIndex.SearchResult keyword_categoryFilter_latest() {
+        return index.search("코트", List.of(categoryId), ProductSort.LATEST, 0, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public ProductSearchIndex.SearchResult productCode() {
+        return index.search("BMK-" + productCount / 2, null, null, 0, PAGE_SIZE);
+    }
+}
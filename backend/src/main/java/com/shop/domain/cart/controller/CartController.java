@@ -1,6 +1,8 @@
 package com.shop.domain.cart.controller;
 
 import com.shop.domain.cart.dto.AddCartRequest;
+import com.shop.domain.cart.dto.CartBatchRequest;
+import com.shop.domain.cart.dto.CartBatchResponse;
 import com.shop.domain.cart.dto.CartItemResponse;
 import com.shop.domain.cart.dto.CartResponse;
 import com.shop.domain.cart.dto.UpdateCartRequest;
@@ -53,6 +55,18 @@ public class CartController {
         return ResponseEntity.ok(ApiResponse.ok(response));
     }
 
+    @Operation(summary = "장바구니 일괄 변경",
+               description = "담기(ADD) · 수량 변경(UPDATE) · 삭제(REMOVE)를 요청 순서대로 한 번에 적용합니다. " +
+                             "실패한 변경만 건너뛰며 변경별 결과와 적용 후 장바구니를 반환합니다.")
+    @PatchMapping("/items")
+    public ResponseEntity<ApiResponse<CartBatchResponse>> applyOperations(
+            @AuthenticationPrincipal UserPrincipal principal,
+            @RequestBody @Valid CartBatchRequest request) {
+
+        CartBatchResponse response = cartService.applyOperations(principal.getUserId(), request);
+        return ResponseEntity.ok(ApiResponse.ok(response));
+    }
+
     @Operation(summary = "장바구니 아이템 삭제", description = "장바구니에서 특정 아이템을 삭제합니다.")
     @DeleteMapping("/{cartItemId}")
     public ResponseEntity<ApiResponse<Void>> removeCartItem(
@@ -0,0 +1,42 @@
+package com.shop.domain.cart.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CartBatchRequest {
+
+    @Valid
+    @NotEmpty(message = "변경 목록은 필수입니다.")
+    @Size(max = 100, message = "한 번에 최대 100개까지 변경할 수 있습니다.")
+    private List<Operation> operations;
+
+    public enum Type {
+        ADD,     // 담기 (productId, quantity) - 이미 담긴 상품이면 수량 추가
+        UPDATE,  // 수량 변경 (cartItemId, quantity)
+        REMOVE   // 삭제 (cartItemId)
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Operation {
+
+        @NotNull(message = "변경 유형은 필수입니다.")
+        private Type type;
+
+        private Long productId;
+
+        private Long cartItemId;
+
+        @Min(value = 1, message = "수량은 최소 1개 이상이어야 합니다.")
+        private Integer quantity;
+    }
+}
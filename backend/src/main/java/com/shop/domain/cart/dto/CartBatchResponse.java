@@ -0,0 +1,56 @@
+package com.shop.domain.cart.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.shop.domain.cart.service.CartLine;
+import com.shop.global.exception.ErrorCode;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CartBatchResponse {
+
+    /** 요청 순서와 같은 순서의 변경별 결과 */
+    private List<OperationResult> results;
+
+    /** 모든 변경을 적용한 뒤의 장바구니 */
+    private CartResponse cart;
+
+    @Getter
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class OperationResult {
+
+        private int index;
+        private CartBatchRequest.Type type;
+        private boolean success;
+        private Long cartItemId;
+        private Long productId;
+        private Integer quantity;
+        private String errorCode;
+        private String message;
+
+        public static OperationResult success(int index, CartBatchRequest.Type type, CartLine line) {
+            return OperationResult.builder()
+                    .index(index)
+                    .type(type)
+                    .success(true)
+                    .cartItemId(line.id())
+                    .productId(line.productId())
+                    .quantity(type == CartBatchRequest.Type.REMOVE ? null : line.quantity())
+                    .build();
+        }
+
+        public static OperationResult failure(int index, CartBatchRequest.Type type, ErrorCode errorCode) {
+            return OperationResult.builder()
+                    .index(index)
+                    .type(type)
+                    .success(false)
+                    .errorCode(errorCode.getCode())
+                    .message(errorCode.getMessage())
+                    .build();
+        }
+    }
+}
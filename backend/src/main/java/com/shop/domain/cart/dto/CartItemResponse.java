@@ -1,12 +1,11 @@
 package com.shop.domain.cart.dto;
 
-import com.shop.domain.cart.entity.CartItem;
-import com.shop.domain.product.entity.ProductImage;
+import com.shop.domain.cart.service.CartLine;
+import com.shop.domain.product.repository.ProductListingView;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.math.BigDecimal;
-import java.util.List;
 
 @Getter
 @Builder
@@ -20,20 +19,19 @@ public class CartItemResponse {
     private int quantity;
     private BigDecimal subtotal;
 
-    public static CartItemResponse from(CartItem cartItem) {
-        List<ProductImage> images = cartItem.getProduct().getImages();
-        String imageUrl = images.isEmpty() ? null : images.get(0).getUrl();
-
-        BigDecimal subtotal = cartItem.getProduct().getPrice()
-                .multiply(BigDecimal.valueOf(cartItem.getQuantity()));
+    /**
+     * 장바구니 줄 + 상품 목록 조회 모델(이름, 가격, 대표 이미지)
+     */
+    public static CartItemResponse from(CartLine line, ProductListingView product) {
+        BigDecimal subtotal = product.getPrice().multiply(BigDecimal.valueOf(line.quantity()));
 
         return CartItemResponse.builder()
-                .id(cartItem.getId())
-                .productId(cartItem.getProduct().getId())
-                .productName(cartItem.getProduct().getName())
-                .productPrice(cartItem.getProduct().getPrice())
-                .imageUrl(imageUrl)
-                .quantity(cartItem.getQuantity())
+                .id(line.id())
+                .productId(line.productId())
+                .productName(product.getName())
+                .productPrice(product.getPrice())
+                .imageUrl(product.getThumbnailUrl())
+                .quantity(line.quantity())
                 .subtotal(subtotal)
                 .build();
     }
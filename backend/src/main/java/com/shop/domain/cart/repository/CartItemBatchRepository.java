@@ -0,0 +1,67 @@
+package com.shop.domain.cart.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장바구니 일괄 반영용 JDBC 배치 - ID 를 미리 할당한 행을 JDBC 배치 한 번으로 INSERT / UPDATE 합니다.
+ * (JPA 는 ID 가 채워진 새 엔티티를 persist 할 수 없고, 네이티브 @Modifying 쿼리는 배치로 묶이지 않습니다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartItemBatchRepository {
+
+    public record Row(Long id, Long userId, Long productId, int quantity) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO cart_items (id, user_id, product_id, quantity, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?)",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, row.id());
+                    ps.setLong(2, row.userId());
+                    ps.setLong(3, row.productId());
+                    ps.setInt(4, row.quantity());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                });
+    }
+
+    /**
+     * 수량 일괄 변경 - 변경된 행이 없는(다른 곳에서 삭제된) ID 목록을 반환합니다.
+     */
+    public List<Long> updateQuantities(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "UPDATE cart_items SET quantity = ?, updated_at = ? WHERE id = ?",
+                rows, rows.size(), (ps, row) -> {
+                    ps.setInt(1, row.quantity());
+                    ps.setTimestamp(2, now);
+                    ps.setLong(3, row.id());
+                });
+        // 배치는 한 번이므로 counts[0] 이 rows 순서와 같음 (SUCCESS_NO_INFO 는 변경된 것으로 간주)
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < counts[0].length; i++) {
+            if (counts[0][i] == 0) {
+                missingIds.add(rows.get(i).id());
+            }
+        }
+        return missingIds;
+    }
+}
@@ -2,20 +2,26 @@ package com.shop.domain.cart.repository;
 
 import com.shop.domain.cart.entity.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
 
-    @Query("SELECT ci FROM CartItem ci JOIN FETCH ci.product p LEFT JOIN FETCH p.images WHERE ci.user.id = :userId")
-    List<CartItem> findByUserId(@Param("userId") Long userId);
+    /**
+     * 장바구니 적재용 - 상품 정보는 조회 모델에서 가져오므로 ID 와 수량만 조회합니다. [id, productId, quantity]
+     */
+    @Query("SELECT ci.id, ci.product.id, ci.quantity FROM CartItem ci WHERE ci.user.id = :userId ORDER BY ci.id")
+    List<Object[]> findLinesByUserId(@Param("userId") Long userId);
 
-    Optional<CartItem> findByUserIdAndProductId(Long userId, Long productId);
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
 
-    void deleteByUserIdAndId(Long userId, Long id);
-
-    void deleteAllByUserId(Long userId);
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
 }
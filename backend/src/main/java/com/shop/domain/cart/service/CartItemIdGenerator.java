@@ -0,0 +1,52 @@
+package com.shop.domain.cart.service;
+
+import com.shop.domain.cart.entity.CartItem;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장바구니 아이템 ID 발급 - CartItem 엔티티의 시퀀스 생성기(cart_items_seq, pooled)를 그대로 사용하므로
+ * JPA 로 저장되는 행과 ID 가 겹치지 않고, 대부분의 발급은 DB 왕복 없이 메모리에서 끝납니다.
+ * 장바구니 담기는 메모리에만 반영되고 DB 저장은 나중에 일괄로 이뤄지므로, 응답에 쓸 ID 를 먼저 받아 둡니다.
+ */
+@Component
+public class CartItemIdGenerator {
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final BeforeExecutionGenerator generator;
+
+    public CartItemIdGenerator(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.generator = (BeforeExecutionGenerator) sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(CartItem.class)
+                .getGenerator();
+    }
+
+    public Long nextId() {
+        return nextIds(1).get(0);
+    }
+
+    /**
+     * ID 를 count 개 한꺼번에 발급 - 세션을 한 번만 열며, 시퀀스 왕복은 pooled 블록을 다 쓸 때만 일어납니다.
+     */
+    public List<Long> nextIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        if (count == 0) {
+            return ids;
+        }
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            for (int i = 0; i < count; i++) {
+                ids.add((Long) generator.generate((SharedSessionContractImplementor) session, null, null, EventType.INSERT));
+            }
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,7 @@
+package com.shop.domain.cart.service;
+
+/**
+ * 장바구니 한 줄의 읽기 전용 스냅샷 - id 는 cart_items.id 와 같습니다.
+ */
+public record CartLine(Long id, Long productId, int quantity) {
+}
@@ -1,114 +1,265 @@
 package com.shop.domain.cart.service;
 
 import com.shop.domain.cart.dto.AddCartRequest;
+import com.shop.domain.cart.dto.CartBatchRequest;
+import com.shop.domain.cart.dto.CartBatchResponse;
 import com.shop.domain.cart.dto.CartItemResponse;
 import com.shop.domain.cart.dto.CartResponse;
 import com.shop.domain.cart.dto.UpdateCartRequest;
-import com.shop.domain.cart.entity.CartItem;
 import com.shop.domain.cart.repository.CartItemRepository;
-import com.shop.domain.product.entity.Product;
-import com.shop.domain.product.entity.ProductStatus;
-import com.shop.domain.product.repository.ProductRepository;
-import com.shop.domain.user.entity.User;
-import com.shop.domain.user.repository.UserRepository;
+import com.shop.domain.product.repository.ProductListingRepository;
+import com.shop.domain.product.repository.ProductListingView;
 import com.shop.global.exception.BusinessException;
 import com.shop.global.exception.ErrorCode;
+import com.shop.global.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+/**
+ * 장바구니 서비스 - 장바구니 내용은 CartStore(인메모리, DB 지연 반영)에서,
+ * 상품 이름 · 가격 · 대표 이미지 · 재고는 상품 목록 조회 모델(product_listings)에서 가져옵니다.
+ * 판매 중이 아닌 상품은 조회 모델에 없으므로 장바구니 조회에서 제외됩니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class CartService {
 
+    private static final int MAX_PRODUCT_LOAD_ATTEMPTS = 3;
+
+    private final CartStore cartStore;
     private final CartItemRepository cartItemRepository;
-    private final ProductRepository productRepository;
-    private final UserRepository userRepository;
+    private final ProductListingRepository productListingRepository;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 장바구니 조회
      */
     @Transactional(readOnly = true)
     public CartResponse getCart(Long userId) {
-        List<CartItemResponse> items = cartItemRepository.findByUserId(userId).stream()
-                .map(CartItemResponse::from)
-                .toList();
-
-        return CartResponse.from(items);
+        List<CartLine> lines = cartStore.getLines(userId);
+        return toCartResponse(lines, findProducts(lines.stream().map(CartLine::productId).toList()));
     }
 
     /**
      * 장바구니 담기 (이미 담겨 있으면 수량 추가)
      */
     public CartItemResponse addToCart(Long userId, AddCartRequest request) {
-        Product product = productRepository.findByIdAndStatus(request.getProductId(), ProductStatus.ACTIVE)
+        ProductListingView product = findProduct(request.getProductId())
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
 
         if (product.getStock() <= 0) {
             throw new BusinessException(ErrorCode.OUT_OF_STOCK);
         }
 
-        CartItem cartItem = cartItemRepository.findByUserIdAndProductId(userId, product.getId())
-                .map(existing -> {
-                    int newQuantity = existing.getQuantity() + request.getQuantity();
-                    if (newQuantity > product.getStock()) {
-                        throw new BusinessException(ErrorCode.OUT_OF_STOCK);
-                    }
-                    existing.addQuantity(request.getQuantity());
-                    return existing;
-                })
-                .orElseGet(() -> {
-                    if (request.getQuantity() > product.getStock()) {
-                        throw new BusinessException(ErrorCode.OUT_OF_STOCK);
-                    }
-                    User user = userRepository.getReferenceById(userId);
-                    return cartItemRepository.save(
-                            CartItem.builder()
-                                    .user(user)
-                                    .product(product)
-                                    .quantity(request.getQuantity())
-                                    .build()
-                    );
-                });
+        CartLine line = cartStore.add(userId, product.getId(), request.getQuantity(), product.getStock());
 
-        return CartItemResponse.from(cartItem);
+        recordOperation("add");
+        return CartItemResponse.from(line, product);
     }
 
     /**
-     * 수량 변경
+     * 수량 변경 - 판매 중이 아닌 상품은 재고 0 으로 간주합니다.
      */
     public CartItemResponse updateCartItem(Long userId, Long cartItemId, UpdateCartRequest request) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .filter(ci -> ci.getUser().getId().equals(userId))
-                .orElseThrow(() -> new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND));
+        CartLine line = findLine(userId, cartItemId);
+        ProductListingView product = findProduct(line.productId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.OUT_OF_STOCK));
 
-        if (request.getQuantity() > cartItem.getProduct().getStock()) {
+        if (request.getQuantity() > product.getStock()) {
             throw new BusinessException(ErrorCode.OUT_OF_STOCK);
         }
 
-        cartItem.updateQuantity(request.getQuantity());
+        CartLine updated = cartStore.updateQuantity(userId, cartItemId, request.getQuantity());
 
-        return CartItemResponse.from(cartItem);
+        recordOperation("update");
+        return CartItemResponse.from(updated, product);
     }
 
     /**
      * 장바구니 아이템 삭제
      */
     public void removeCartItem(Long userId, Long cartItemId) {
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .filter(ci -> ci.getUser().getId().equals(userId))
-                .orElseThrow(() -> new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND));
-
-        cartItemRepository.delete(cartItem);
+        cartStore.remove(userId, cartItemId);
+        recordOperation("remove");
     }
 
     /**
      * 장바구니 전체 비우기 (주문 완료 시 사용)
+     * DB 행은 호출 측 트랜잭션에서 바로 지우고 메모리 장바구니도 바로 비우며, 트랜잭션이 롤백되면 메모리 장바구니를 되돌립니다.
      */
     public void clearCart(Long userId) {
         cartItemRepository.deleteAllByUserId(userId);
+        List<CartLine> cleared = cartStore.clear(userId);
+        TransactionCallbacks.afterCompletion(() -> { }, () -> cartStore.restore(userId, cleared));
+        recordOperation("clear");
+    }
+
+    /**
+     * 장바구니 일괄 변경 - 요청 순서대로 적용하며 실패한 변경만 건너뛰고 변경별 결과를 돌려줍니다.
+     * 소유 확인은 메모리 장바구니로, 재고 확인은 관련 상품 전체를 조회 모델에서 한 번에 읽어 처리하고,
+     * 성공한 변경은 장바구니 단위로 한 번에 적용되어 같은 반영 주기에 함께 저장됩니다.
+     * 상품은 장바구니 잠금 밖에서 읽으므로, 그 사이 다른 요청이 담은 줄의 상품이 빠져 있으면 아무것도 바꾸지 않고
+     * 빠진 상품까지 읽어 다시 시도합니다. (MAX_PRODUCT_LOAD_ATTEMPTS 회 안에 맞추지 못하면 CART_CONCURRENTLY_MODIFIED)
+     */
+    public CartBatchResponse applyOperations(Long userId, CartBatchRequest request) {
+        List<CartBatchRequest.Operation> operations = request.getOperations();
+        Set<Long> productIds = new HashSet<>();
+        cartStore.getLines(userId).forEach(line -> productIds.add(line.productId()));
+        operations.stream()
+                .filter(operation -> operation.getType() == CartBatchRequest.Type.ADD && operation.getProductId() != null)
+                .forEach(operation -> productIds.add(operation.getProductId()));
+
+        int addCount = (int) operations.stream()
+                .filter(operation -> operation.getType() == CartBatchRequest.Type.ADD)
+                .count();
+
+        for (int attempt = 1; ; attempt++) {
+            Set<Long> loadedIds = Set.copyOf(productIds);
+            Map<Long, ProductListingView> products = findProducts(loadedIds);
+            try {
+                return cartStore.edit(userId, addCount, cart -> {
+                    requireLoaded(cart.lines(), loadedIds);
+                    return applyAll(cart, operations, products);
+                });
+            } catch (UnloadedProductsException e) {
+                if (attempt >= MAX_PRODUCT_LOAD_ATTEMPTS) {
+                    throw new BusinessException(ErrorCode.CART_CONCURRENTLY_MODIFIED);
+                }
+                productIds.addAll(e.productIds);
+            }
+        }
+    }
+
+    private CartBatchResponse applyAll(CartStore.CartEditor cart, List<CartBatchRequest.Operation> operations,
+                                       Map<Long, ProductListingView> products) {
+        List<CartBatchResponse.OperationResult> results = new ArrayList<>();
+        for (int index = 0; index < operations.size(); index++) {
+            CartBatchRequest.Operation operation = operations.get(index);
+            try {
+                CartLine line = apply(cart, operation, products);
+                recordOperation(operation.getType().name().toLowerCase(Locale.ROOT));
+                results.add(CartBatchResponse.OperationResult.success(index, operation.getType(), line));
+            } catch (BusinessException e) {
+                results.add(CartBatchResponse.OperationResult.failure(index, operation.getType(), e.getErrorCode()));
+            }
+        }
+        return CartBatchResponse.builder()
+                .results(results)
+                .cart(toCartResponse(cart.lines(), products))
+                .build();
+    }
+
+    /**
+     * 장바구니 잠금 안에서 확인 - 읽어 두지 않은 상품의 줄이 있으면 변경 전에 중단
+     * (조회 모델에 없어서 빠진 판매 중지 상품과, 아예 읽지 않은 상품을 구분하기 위해 읽은 ID 집합과 비교)
+     */
+    private static void requireLoaded(List<CartLine> lines, Set<Long> loadedIds) {
+        List<Long> unloaded = lines.stream()
+                .map(CartLine::productId)
+                .filter(productId -> !loadedIds.contains(productId))
+                .toList();
+        if (!unloaded.isEmpty()) {
+            throw new UnloadedProductsException(unloaded);
+        }
+    }
+
+    /**
+     * applyOperations 재시도 신호 - CartStore.edit 밖으로 전파되어 장바구니는 바뀌지 않은 채로 끝납니다.
+     */
+    private static class UnloadedProductsException extends RuntimeException {
+
+        private final List<Long> productIds;
+
+        UnloadedProductsException(List<Long> productIds) {
+            super(null, null, false, false);
+            this.productIds = productIds;
+        }
+    }
+
+    private CartLine apply(CartStore.CartEditor cart, CartBatchRequest.Operation operation,
+                           Map<Long, ProductListingView> products) {
+        return switch (operation.getType()) {
+            case ADD -> {
+                require(operation.getProductId() != null);
+                ProductListingView product = products.get(operation.getProductId());
+                if (product == null) {
+                    throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+                }
+                int quantity = operation.getQuantity() != null ? operation.getQuantity() : 1;
+                yield cart.add(product.getId(), quantity, product.getStock());
+            }
+            case UPDATE -> {
+                require(operation.getCartItemId() != null && operation.getQuantity() != null);
+                CartLine line = cart.find(operation.getCartItemId());
+                ProductListingView product = products.get(line.productId());
+                if (product == null || operation.getQuantity() > product.getStock()) {
+                    throw new BusinessException(ErrorCode.OUT_OF_STOCK);
+                }
+                yield cart.updateQuantity(line.id(), operation.getQuantity());
+            }
+            case REMOVE -> {
+                require(operation.getCartItemId() != null);
+                yield cart.remove(operation.getCartItemId());
+            }
+        };
+    }
+
+    private static void require(boolean condition) {
+        if (!condition) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+    }
+
+    private Map<Long, ProductListingView> findProducts(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productListingRepository.findAllViewsByIdIn(productIds).stream()
+                .collect(Collectors.toMap(ProductListingView::getId, Function.identity()));
+    }
+
+    private static CartResponse toCartResponse(List<CartLine> lines, Map<Long, ProductListingView> products) {
+        List<CartItemResponse> items = lines.stream()
+                .filter(line -> products.containsKey(line.productId()))
+                .map(line -> CartItemResponse.from(line, products.get(line.productId())))
+                .toList();
+        return CartResponse.from(items);
+    }
+
+    private CartLine findLine(Long userId, Long cartItemId) {
+        return cartStore.getLines(userId).stream()
+                .filter(line -> line.id().equals(cartItemId))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND));
+    }
+
+    private Optional<ProductListingView> findProduct(Long productId) {
+        return productListingRepository.findAllViewsByIdIn(List.of(productId)).stream().findFirst();
+    }
+
+    /**
+     * 성공한 장바구니 작업 수 - 실패는 business.exceptions 에서 오류 코드별로 집계됩니다.
+     */
+    private void recordOperation(String operation) {
+        Counter.builder("cart.operations")
+                .description("장바구니 작업 수")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .increment();
     }
 }
@@ -0,0 +1,713 @@
+package com.shop.domain.cart.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.shop.domain.cart.repository.CartItemBatchRepository;
+import com.shop.domain.cart.repository.CartItemRepository;
+import com.shop.global.exception.BusinessException;
+import com.shop.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 인메모리 장바구니 저장소 (write-behind)
+ *
+ * - 사용자별 장바구니를 크기 제한 캐시에 보관하고, 없으면 cart_items 에서 ID · 상품 ID · 수량만 읽어 적재합니다.
+ * - 담기 · 수량 변경 · 삭제는 메모리에만 반영하고, 변경된 장바구니를 주기적으로 한 트랜잭션에서 일괄 반영합니다.
+ *   새 아이템 ID 는 CartItem 시퀀스에서 미리 받아 두므로 DB 반영 전에도 응답과 이후 요청에 같은 ID 를 씁니다.
+ * - 반영 전 장바구니는 캐시에서 축출되어도 dirtyCarts 에 남아 있으므로 변경이 유실되지 않으며, 다음 적재 때 그대로 복귀합니다.
+ * - 반영이 실패하면 그대로 두고 다음 주기에 재시도합니다.
+ * - 다른 곳에서 같은 행을 바꾼 충돌(같은 상품 행이 이미 있음, 수정할 행이 지워져 0건 변경)은 DB 에서 장바구니를 다시 읽어
+ *   반영 전 변경을 그 위에 다시 얹은 뒤 반영합니다. 다른 곳에서 지운 줄의 변경은 삭제를 따르고, 다시 반영해도 실패하면
+ *   (상품 삭제 등) 장바구니를 버립니다. 버린 경우는 cart.store.discarded, 충돌은 cart.store.conflicts 로 집계합니다.
+ * - DB 조회(적재 · ID 발급)는 캐시 잠금과 장바구니 잠금 밖에서 합니다. 적재 중에는 자리표시 future 만 캐시에 두어
+ *   같은 사용자의 동시 요청은 그 결과를 기다리고, 다른 사용자의 요청은 막지 않습니다.
+ * 다른 인스턴스의 변경(비우기 · 주문 후 정리 등)은 이 인스턴스의 캐시에 바로 보이지 않으므로, 적재 후 expire-after-load 가
+ * 지나면 반영 대기 중이 아닌 장바구니는 버리고 DB 에서 다시 적재합니다.
+ * (접근할 때마다 연장되는 expireAfterAccess 는 여러 인스턴스를 번갈아 쓰는 사용자의 오래된 장바구니를 계속 남기므로 쓰지 않습니다)
+ *
+ * 메모리 장바구니는 단일 인스턴스(또는 사용자별 고정 라우팅) 환경에서만 활성화합니다. (shop.cart.store.enabled, 기본값 false)
+ * 비활성화하면 캐시 없이 요청마다 DB 에서 읽고, 변경은 호출 측 트랜잭션에서 바로 저장합니다.
+ */
+@Slf4j
+@Component
+public class CartStore {
+
+    private static final String CACHE_NAME = "cart";
+
+    private final CartItemRepository cartItemRepository;
+    private final CartItemBatchRepository cartItemBatchRepository;
+    private final CartItemIdGenerator idGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Counter conflicts;
+    private final Counter discarded;
+
+    /**
+     * 활성 사용자 장바구니 - 최대 개수를 넘거나 적재 후 expire-after-load 가 지나면 축출
+     * 축출되는 장바구니는 축출과 원자적으로 retired 로 표시되어, 이미 참조를 쥔 요청도 더 이상 변경하지 못하고 다시 조회합니다.
+     */
+    private final AsyncCache<Long, UserCart> carts;
+
+    /** DB 반영을 기다리는 장바구니 - 반영이 끝날 때까지 축출과 무관하게 유지 */
+    private final ConcurrentMap<Long, UserCart> dirtyCarts = new ConcurrentHashMap<>();
+
+    /** 반영 작업이 동시에 실행되지 않도록 보호 - 같은 행의 INSERT 와 DELETE 순서를 지키기 위함 */
+    private final Lock flushLock = new ReentrantLock();
+
+    public CartStore(CartItemRepository cartItemRepository,
+                     CartItemBatchRepository cartItemBatchRepository,
+                     CartItemIdGenerator idGenerator,
+                     PlatformTransactionManager transactionManager,
+                     MeterRegistry meterRegistry,
+                     @Value("${shop.cart.store.enabled:false}") boolean enabled,
+                     @Value("${shop.cart.store.maximum-size:100000}") long maximumSize,
+                     @Value("${shop.cart.store.expire-after-load:30s}") Duration expireAfterLoad) {
+        this.cartItemRepository = cartItemRepository;
+        this.cartItemBatchRepository = cartItemBatchRepository;
+        this.idGenerator = idGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        // 장바구니 변경은 캐시 항목을 다시 쓰지 않으므로 expireAfterWrite 는 "적재 후 경과 시간" 으로 동작
+        this.carts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterLoad)
+                .evictionListener((Long userId, UserCart cart, RemovalCause cause) -> retire(cart))
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, carts.synchronous(), CACHE_NAME);
+        Gauge.builder("cart.store.dirty", dirtyCarts, Map::size)
+                .description("DB 반영을 기다리는 장바구니 수")
+                .register(meterRegistry);
+        this.conflicts = Counter.builder("cart.store.conflicts")
+                .description("다른 곳의 변경과 충돌해 DB 에서 다시 읽고 반영한 장바구니 수")
+                .register(meterRegistry);
+        this.discarded = Counter.builder("cart.store.discarded")
+                .description("반영 전 변경의 일부 또는 전체를 버린 장바구니 수")
+                .register(meterRegistry);
+    }
+
+    public List<CartLine> getLines(Long userId) {
+        if (!enabled) {
+            return loadFromDb(userId).snapshot();
+        }
+        UserCart cart = cartFor(userId);
+        synchronized (cart) {
+            return cart.snapshot();
+        }
+    }
+
+    /**
+     * 담기 - 이미 담긴 상품이면 수량을 더하고, 합계가 stock 을 넘으면 OUT_OF_STOCK
+     */
+    public CartLine add(Long userId, Long productId, int quantity, int stock) {
+        return mutate(userId, 1, (cart, newIds) -> cart.add(productId, quantity, stock, newIds));
+    }
+
+    public CartLine updateQuantity(Long userId, Long cartItemId, int quantity) {
+        return mutate(userId, 0, (cart, newIds) -> cart.updateQuantity(cartItemId, quantity));
+    }
+
+    public CartLine remove(Long userId, Long cartItemId) {
+        return mutate(userId, 0, (cart, newIds) -> cart.remove(cartItemId));
+    }
+
+    /**
+     * 여러 변경을 한 번에 적용 - 적용하는 동안 같은 사용자의 다른 변경 · 축출이 끼어들지 않고, 같은 반영 주기에 함께 저장됩니다.
+     * 각 변경은 검증을 통과한 뒤에만 반영되므로, 편집 함수가 변경 단위로 BusinessException 을 잡아 계속 진행할 수 있습니다.
+     * maxNewLines 는 편집 중 새로 담을 수 있는 줄 수(ADD 변경 수)이며, 그만큼의 ID 를 잠금 밖에서 미리 받아 둡니다.
+     * 편집 함수는 장바구니 잠금 안에서 실행되므로 DB 조회 등 오래 걸리는 작업을 하지 않아야 합니다.
+     */
+    public <T> T edit(Long userId, int maxNewLines, Function<CartEditor, T> edit) {
+        return mutate(userId, maxNewLines, (cart, newIds) -> edit.apply(cart.editor(newIds)));
+    }
+
+    /**
+     * edit 에서 사용하는 장바구니 편집 인터페이스 - 실패하면 BusinessException(CART_ITEM_NOT_FOUND, OUT_OF_STOCK)
+     */
+    public interface CartEditor {
+
+        List<CartLine> lines();
+
+        CartLine find(Long cartItemId);
+
+        CartLine add(Long productId, int quantity, int stock);
+
+        CartLine updateQuantity(Long cartItemId, int quantity);
+
+        CartLine remove(Long cartItemId);
+    }
+
+    /**
+     * 전체 비우기 - 메모리에 있는 장바구니만 비우며 DB 적재는 하지 않습니다. (DB 행은 호출 측 트랜잭션에서 삭제)
+     * 비운 줄을 반환하므로 호출 측 트랜잭션이 롤백되면 restore 로 되돌립니다.
+     */
+    public List<CartLine> clear(Long userId) {
+        if (!enabled) {
+            return List.of();
+        }
+        while (true) {
+            CompletableFuture<UserCart> cached = carts.getIfPresent(userId);
+            UserCart cart = cached != null ? cached.join() : dirtyCarts.get(userId);
+            if (cart == null) {
+                return List.of();
+            }
+            synchronized (cart) {
+                if (!cart.retired) {
+                    List<CartLine> cleared = cart.clear();
+                    markDirty(userId, cart);
+                    return cleared;
+                }
+            }
+            evictRetired(userId, cart);
+        }
+    }
+
+    /**
+     * clear 되돌리기 - 그 사이 DB 행이 지워졌을 수 있으므로 되돌린 줄은 다음 반영 때 DELETE 후 다시 INSERT 합니다.
+     */
+    public void restore(Long userId, List<CartLine> lines) {
+        if (lines.isEmpty()) {
+            return;
+        }
+        mutate(userId, 0, (cart, newIds) -> {
+            cart.restore(lines);
+            return null;
+        });
+    }
+
+    /**
+     * 변경된 장바구니를 DB에 일괄 반영 - 모든 삭제를 먼저 실행해 (사용자, 상품) 유니크 제약과 충돌하지 않게 합니다.
+     */
+    @Scheduled(fixedDelayString = "${shop.cart.store.flush-interval-ms:500}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushPending() {
+        List<PendingWrites> pending = new ArrayList<>();
+        dirtyCarts.forEach((userId, cart) -> {
+            synchronized (cart) {
+                pending.add(cart.pendingWrites(userId));
+            }
+        });
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            write(pending);
+            pending.forEach(this::markWritten);
+            log.debug("장바구니 반영 완료 - {}명", pending.size());
+        } catch (DataIntegrityViolationException | CartConflictException e) {
+            // 어느 장바구니가 원인인지 모르므로 사용자별로 나눠 다시 반영하고, 충돌한 장바구니만 DB 기준으로 다시 맞춤
+            log.warn("장바구니 일괄 반영 중 충돌 - 사용자별로 다시 반영합니다. 대상 {}명", pending.size(), e);
+            pending.forEach(this::writeAlone);
+        } catch (RuntimeException e) {
+            log.error("장바구니 DB 반영 실패 - 다음 주기에 재시도합니다. 대상 {}명", pending.size(), e);
+        }
+    }
+
+    private void writeAlone(PendingWrites writes) {
+        try {
+            write(List.of(writes));
+            markWritten(writes);
+        } catch (DataIntegrityViolationException | CartConflictException e) {
+            log.warn("장바구니 반영 충돌 - DB 에서 다시 읽어 변경을 다시 얹습니다. userId={}", writes.userId(), e);
+            rebaseAndWrite(writes);
+        } catch (RuntimeException e) {
+            log.error("장바구니 DB 반영 실패 - 다음 주기에 재시도합니다. userId={}", writes.userId(), e);
+        }
+    }
+
+    /**
+     * 충돌한 장바구니를 DB 기준으로 다시 맞춘 뒤 반영 - 그래도 실패하면(상품 삭제 등) 장바구니를 버리고 다음 조회 때 다시 적재
+     */
+    private void rebaseAndWrite(PendingWrites writes) {
+        conflicts.increment();
+        UserCart cart = writes.cart();
+        Long userId = writes.userId();
+        try {
+            List<Object[]> rows = cartItemRepository.findLinesByUserId(userId);
+            PendingWrites rebased;
+            synchronized (cart) {
+                if (cart.rebase(rows) > 0) {
+                    discarded.increment();
+                    log.warn("다른 곳에서 삭제된 장바구니 줄의 반영 전 변경을 버립니다. userId={}", userId);
+                }
+                if (!cart.hasPendingWrites()) {
+                    dirtyCarts.remove(userId, cart);
+                    return;
+                }
+                rebased = cart.pendingWrites(userId);
+            }
+            write(List.of(rebased));
+            markWritten(rebased);
+        } catch (DataIntegrityViolationException | CartConflictException e) {
+            discarded.increment();
+            discard(writes);
+            log.error("장바구니 반영 불가 - 메모리 변경을 버리고 DB 에서 다시 적재합니다. userId={}", userId, e);
+        } catch (RuntimeException e) {
+            log.error("장바구니 DB 반영 실패 - 다음 주기에 재시도합니다. userId={}", userId, e);
+        }
+    }
+
+    private void write(List<PendingWrites> pending) {
+        List<Long> deletes = new ArrayList<>();
+        List<CartItemBatchRepository.Row> inserts = new ArrayList<>();
+        List<CartItemBatchRepository.Row> updates = new ArrayList<>();
+        for (PendingWrites writes : pending) {
+            deletes.addAll(writes.deletes());
+            writes.inserts().forEach(line -> inserts.add(row(writes.userId(), line)));
+            writes.updates().forEach(line -> updates.add(row(writes.userId(), line)));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!deletes.isEmpty()) {
+                cartItemRepository.deleteAllByIdIn(deletes);
+            }
+            cartItemBatchRepository.insertAll(inserts);
+            List<Long> missingIds = cartItemBatchRepository.updateQuantities(updates);
+            if (!missingIds.isEmpty()) {
+                // 다른 곳에서 지운 행 - 트랜잭션을 롤백하고 호출 측이 DB 기준으로 다시 맞춤
+                throw new CartConflictException(missingIds);
+            }
+        });
+    }
+
+    /**
+     * 수정할 장바구니 행이 없음 - 다른 인스턴스 · 요청이 먼저 지움
+     */
+    private static class CartConflictException extends RuntimeException {
+
+        CartConflictException(List<Long> missingIds) {
+            super("수정할 장바구니 행이 없습니다: " + missingIds);
+        }
+    }
+
+    private static CartItemBatchRepository.Row row(Long userId, WrittenLine line) {
+        return new CartItemBatchRepository.Row(line.id(), userId, line.productId(), line.quantity());
+    }
+
+    private void markWritten(PendingWrites writes) {
+        UserCart cart = writes.cart();
+        synchronized (cart) {
+            cart.markWritten(writes);
+            if (!cart.hasPendingWrites()) {
+                dirtyCarts.remove(writes.userId(), cart);
+            }
+        }
+    }
+
+    private void discard(PendingWrites writes) {
+        UserCart cart = writes.cart();
+        synchronized (cart) {
+            cart.retired = true;
+            dirtyCarts.remove(writes.userId(), cart);
+        }
+        evictRetired(writes.userId(), cart);
+    }
+
+    /**
+     * 장바구니 잠금 안에서 변경 - 축출된(retired) 장바구니를 잡았으면 캐시에서 치우고 다시 조회합니다.
+     * 새 줄 ID 와 적재는 잠금 밖에서 미리 준비합니다.
+     */
+    private <T> T mutate(Long userId, int maxNewLines, Mutation<T> mutation) {
+        Deque<Long> newIds = new ArrayDeque<>(idGenerator.nextIds(maxNewLines));
+        if (!enabled) {
+            return mutateInDb(userId, mutation, newIds);
+        }
+        while (true) {
+            UserCart cart = cartFor(userId);
+            synchronized (cart) {
+                if (!cart.retired) {
+                    T result = mutation.apply(cart, newIds::pop);
+                    markDirty(userId, cart);
+                    return result;
+                }
+            }
+            evictRetired(userId, cart);
+        }
+    }
+
+    /**
+     * 메모리 장바구니 비활성화 시 - DB 에서 읽은 장바구니를 변경하고 호출 측 트랜잭션에서 바로 저장
+     * 같은 사용자의 동시 변경과 겹치면(같은 상품 행 중복, 지워진 행 수정) CART_CONCURRENTLY_MODIFIED 로 실패합니다.
+     */
+    private <T> T mutateInDb(Long userId, Mutation<T> mutation, Deque<Long> newIds) {
+        UserCart cart = loadFromDb(userId);
+        T result = mutation.apply(cart, newIds::pop);
+        if (cart.hasPendingWrites()) {
+            try {
+                write(List.of(cart.pendingWrites(userId)));
+            } catch (DataIntegrityViolationException | CartConflictException e) {
+                throw new BusinessException(ErrorCode.CART_CONCURRENTLY_MODIFIED);
+            }
+        }
+        return result;
+    }
+
+    @FunctionalInterface
+    private interface Mutation<T> {
+        T apply(UserCart cart, Supplier<Long> newIds);
+    }
+
+    /**
+     * 캐시에서 장바구니 조회 - 없으면 자리표시 future 를 먼저 넣고 캐시 잠금 밖에서 적재합니다.
+     */
+    private UserCart cartFor(Long userId) {
+        CompletableFuture<UserCart> cached = carts.getIfPresent(userId);
+        if (cached != null) {
+            return cached.join();
+        }
+
+        CompletableFuture<UserCart> loading = new CompletableFuture<>();
+        CompletableFuture<UserCart> existing = carts.asMap().putIfAbsent(userId, loading);
+        if (existing != null) {
+            return existing.join();
+        }
+        try {
+            UserCart cart = load(userId);
+            loading.complete(cart);
+            return cart;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            carts.asMap().remove(userId, loading);
+            throw e;
+        }
+    }
+
+    private void markDirty(Long userId, UserCart cart) {
+        if (cart.hasPendingWrites()) {
+            dirtyCarts.put(userId, cart);
+        }
+    }
+
+    private UserCart load(Long userId) {
+        UserCart dirty = dirtyCarts.get(userId);
+        if (dirty != null) {
+            synchronized (dirty) {
+                // 축출됐지만 반영 전이라 남아 있던 장바구니를 다시 캐시에 올림
+                if (dirtyCarts.get(userId) == dirty) {
+                    dirty.retired = false;
+                    return dirty;
+                }
+            }
+        }
+        return loadFromDb(userId);
+    }
+
+    private UserCart loadFromDb(Long userId) {
+        UserCart cart = new UserCart();
+        for (Object[] row : cartItemRepository.findLinesByUserId(userId)) {
+            cart.loaded((Long) row[0], (Long) row[1], (Integer) row[2]);
+        }
+        return cart;
+    }
+
+    /**
+     * 축출과 원자적으로 실행 - 이후 이 장바구니를 변경하려는 요청은 다시 조회합니다.
+     * 장바구니 잠금은 메모리 작업 동안만 쥐므로 캐시 잠금을 오래 막지 않습니다.
+     */
+    private static void retire(UserCart cart) {
+        if (cart == null) {
+            return;
+        }
+        synchronized (cart) {
+            cart.retired = true;
+        }
+    }
+
+    /**
+     * 잠금 밖에서만 호출 - 장바구니 잠금을 쥔 채 캐시 잠금을 잡으면 축출(캐시 잠금 → 장바구니 잠금)과 교착될 수 있음
+     */
+    private void evictRetired(Long userId, UserCart cart) {
+        carts.synchronous().asMap().remove(userId, cart);
+    }
+
+    private record WrittenLine(Long id, Long productId, int quantity, long version) {
+    }
+
+    private record PendingWrites(UserCart cart, Long userId, List<WrittenLine> inserts,
+                                 List<WrittenLine> updates, List<Long> deletes) {
+    }
+
+    /**
+     * 한 사용자의 장바구니 - 모든 접근은 이 객체로 동기화합니다.
+     */
+    private static class UserCart {
+
+        /** 캐시에서 축출되었거나 버려짐 - 변경 금지 (다시 조회) */
+        private boolean retired;
+
+        /** 상품 ID → 줄 (담은 순서 유지) */
+        private final Map<Long, Line> lines = new LinkedHashMap<>();
+
+        /** DB 에 행이 있을 수 있어 다음 반영 때 삭제할 ID */
+        private final Set<Long> removedIds = new HashSet<>();
+
+        void loaded(Long id, Long productId, int quantity) {
+            Line line = new Line(id, productId, quantity);
+            line.persisted = true;
+            line.mayExist = true;
+            lines.put(productId, line);
+        }
+
+        List<CartLine> snapshot() {
+            return lines.values().stream().map(Line::toCartLine).toList();
+        }
+
+        CartEditor editor(Supplier<Long> newIds) {
+            UserCart cart = this;
+            return new CartEditor() {
+                @Override
+                public List<CartLine> lines() {
+                    return cart.snapshot();
+                }
+
+                @Override
+                public CartLine find(Long cartItemId) {
+                    return cart.find(cartItemId).toCartLine();
+                }
+
+                @Override
+                public CartLine add(Long productId, int quantity, int stock) {
+                    return cart.add(productId, quantity, stock, newIds);
+                }
+
+                @Override
+                public CartLine updateQuantity(Long cartItemId, int quantity) {
+                    return cart.updateQuantity(cartItemId, quantity);
+                }
+
+                @Override
+                public CartLine remove(Long cartItemId) {
+                    return cart.remove(cartItemId);
+                }
+            };
+        }
+
+        CartLine add(Long productId, int quantity, int stock, Supplier<Long> newIds) {
+            Line line = lines.get(productId);
+            int newQuantity = line != null ? line.quantity + quantity : quantity;
+            if (newQuantity > stock) {
+                throw new BusinessException(ErrorCode.OUT_OF_STOCK);
+            }
+            if (line == null) {
+                line = new Line(newIds.get(), productId, 0);
+                lines.put(productId, line);
+            }
+            line.setQuantity(newQuantity);
+            return line.toCartLine();
+        }
+
+        CartLine updateQuantity(Long cartItemId, int quantity) {
+            Line line = find(cartItemId);
+            line.setQuantity(quantity);
+            return line.toCartLine();
+        }
+
+        CartLine remove(Long cartItemId) {
+            Line line = find(cartItemId);
+            lines.remove(line.productId);
+            if (line.mayExist) {
+                removedIds.add(line.id);
+            }
+            return line.toCartLine();
+        }
+
+        List<CartLine> clear() {
+            List<CartLine> cleared = snapshot();
+            lines.values().stream()
+                    .filter(line -> line.mayExist)
+                    .forEach(line -> removedIds.add(line.id));
+            lines.clear();
+            return cleared;
+        }
+
+        void restore(List<CartLine> restored) {
+            for (CartLine cartLine : restored) {
+                if (lines.containsKey(cartLine.productId())) {
+                    continue;
+                }
+                Line line = new Line(cartLine.id(), cartLine.productId(), cartLine.quantity());
+                line.mayExist = true;
+                lines.put(line.productId, line);
+                removedIds.add(line.id);
+            }
+        }
+
+        boolean hasPendingWrites() {
+            return !removedIds.isEmpty() || lines.values().stream().anyMatch(Line::isDirty);
+        }
+
+        PendingWrites pendingWrites(Long userId) {
+            List<WrittenLine> inserts = new ArrayList<>();
+            List<WrittenLine> updates = new ArrayList<>();
+            for (Line line : lines.values()) {
+                if (!line.persisted) {
+                    // 이번 반영이 성공했는지 모르는 채로 삭제될 수 있으므로 미리 표시
+                    line.mayExist = true;
+                    inserts.add(line.toWrittenLine());
+                } else if (line.isDirty()) {
+                    updates.add(line.toWrittenLine());
+                }
+            }
+            return new PendingWrites(this, userId, inserts, updates, List.copyOf(removedIds));
+        }
+
+        /**
+         * DB 에서 다시 읽은 행 기준으로 맞추고, 반영 전 변경은 그 위에 다시 얹음 - 버린 변경이 있는 줄 수를 반환
+         * - 같은 상품 행이 DB 에 있으면 그 행 ID 를 쓰고, 반영 전 변경이 있으면 이 장바구니의 수량으로 갱신
+         * - 아직 INSERT 하지 않은 새 줄은 그대로 INSERT
+         * - DB 에 있던 줄이 다른 곳에서 지워졌으면 삭제를 따름 (주문 후 정리된 상품을 되살리지 않음)
+         * - DB 에만 있는 줄(다른 곳에서 담음)은 이 장바구니에서 지운 줄이 아니면 추가
+         */
+        int rebase(List<Object[]> rows) {
+            Map<Long, Object[]> rowsByProduct = new LinkedHashMap<>();
+            Set<Long> rowIds = new HashSet<>();
+            for (Object[] row : rows) {
+                rowsByProduct.put((Long) row[1], row);
+                rowIds.add((Long) row[0]);
+            }
+
+            Map<Long, Line> rebased = new LinkedHashMap<>();
+            int lost = 0;
+            for (Line line : lines.values()) {
+                Object[] row = rowsByProduct.get(line.productId);
+                if (row != null) {
+                    int storedQuantity = (Integer) row[2];
+                    Line merged = new Line((Long) row[0], line.productId, line.isDirty() ? line.quantity : storedQuantity);
+                    merged.persisted = true;
+                    merged.mayExist = true;
+                    if (merged.quantity != storedQuantity) {
+                        merged.version = 1;
+                    }
+                    removedIds.remove(merged.id);
+                    rebased.put(line.productId, merged);
+                } else if (!line.persisted) {
+                    rebased.put(line.productId, line);
+                } else if (line.isDirty()) {
+                    lost++;
+                }
+            }
+            for (Object[] row : rows) {
+                Long productId = (Long) row[1];
+                if (!rebased.containsKey(productId) && !removedIds.contains((Long) row[0])) {
+                    Line line = new Line((Long) row[0], productId, (Integer) row[2]);
+                    line.persisted = true;
+                    line.mayExist = true;
+                    rebased.put(productId, line);
+                }
+            }
+
+            removedIds.retainAll(rowIds);
+            lines.clear();
+            lines.putAll(rebased);
+            return lost;
+        }
+
+        void markWritten(PendingWrites writes) {
+            writes.inserts().forEach(written -> markWritten(written, true));
+            writes.updates().forEach(written -> markWritten(written, false));
+            writes.deletes().forEach(removedIds::remove);
+        }
+
+        private void markWritten(WrittenLine written, boolean inserted) {
+            Line line = lines.get(written.productId());
+            if (line == null || !line.id.equals(written.id())) {
+                return;
+            }
+            if (inserted) {
+                line.persisted = true;
+            }
+            line.writtenVersion = Math.max(line.writtenVersion, written.version());
+        }
+
+        private Line find(Long cartItemId) {
+            return lines.values().stream()
+                    .filter(line -> line.id.equals(cartItemId))
+                    .findFirst()
+                    .orElseThrow(() -> new BusinessException(ErrorCode.CART_ITEM_NOT_FOUND));
+        }
+    }
+
+    private static class Line {
+
+        private final Long id;
+        private final Long productId;
+        private int quantity;
+
+        /** DB 에 행이 있음이 확인됨 */
+        private boolean persisted;
+
+        /** DB 에 행이 있을 수 있음 (INSERT 시도 포함) - 삭제 시 DELETE 가 필요한지 판단 */
+        private boolean mayExist;
+
+        /** 변경 횟수와 DB 에 반영된 변경 횟수 */
+        private long version;
+        private long writtenVersion;
+
+        Line(Long id, Long productId, int quantity) {
+            this.id = id;
+            this.productId = productId;
+            this.quantity = quantity;
+        }
+
+        void setQuantity(int quantity) {
+            this.quantity = quantity;
+            this.version++;
+        }
+
+        boolean isDirty() {
+            return !persisted || version > writtenVersion;
+        }
+
+        CartLine toCartLine() {
+            return new CartLine(id, productId, quantity);
+        }
+
+        WrittenLine toWrittenLine() {
+            return new WrittenLine(id, productId, quantity, version);
+        }
+    }
+}
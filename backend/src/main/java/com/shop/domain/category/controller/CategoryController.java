@@ -1,6 +1,7 @@
 package com.shop.domain.category.controller;
 
 import com.shop.domain.category.dto.CategoryResponse;
+import com.shop.domain.category.dto.CategoryTreeResponse;
 import com.shop.domain.category.service.CategoryService;
 import com.shop.global.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -28,6 +29,12 @@ public class CategoryController {
         return ApiResponse.ok(categoryService.findAll());
     }
 
+    @Operation(summary = "카테고리 트리 조회", description = "최상위 카테고리부터 하위 카테고리를 노출 순서대로 중첩하여 반환합니다.")
+    @GetMapping("/tree")
+    public ApiResponse<List<CategoryTreeResponse>> getCategoryTree() {
+        return ApiResponse.ok(categoryService.getTree());
+    }
+
     @Operation(summary = "카테고리 단건 조회", description = "ID로 카테고리를 조회합니다.")
     @GetMapping("/{id}")
     public ApiResponse<CategoryResponse> getCategory(
@@ -35,4 +42,12 @@ public class CategoryController {
             @PathVariable Long id) {
         return ApiResponse.ok(categoryService.findById(id));
     }
+
+    @Operation(summary = "상위 카테고리 경로 조회", description = "최상위부터 바로 위 카테고리까지의 경로를 반환합니다. 최상위 카테고리는 빈 목록입니다.")
+    @GetMapping("/{id}/ancestors")
+    public ApiResponse<List<CategoryResponse>> getAncestors(
+            @Parameter(description = "카테고리 ID", required = true)
+            @PathVariable Long id) {
+        return ApiResponse.ok(categoryService.getAncestors(id));
+    }
 }
@@ -0,0 +1,18 @@
+package com.shop.domain.category.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class CategoryTreeResponse {
+
+    private Long id;
+    private String name;
+    private String description;
+    private int displayOrder;
+    private int depth;
+    private List<CategoryTreeResponse> children;
+}
@@ -1,5 +1,6 @@
 package com.shop.domain.category.entity;
 
+import com.shop.domain.category.event.CategoryEntityListener;
 import com.shop.domain.common.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -10,6 +11,7 @@ import lombok.NoArgsConstructor;
 @Entity
 @Table(name = "categories")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(CategoryEntityListener.class)
 public class Category extends BaseEntity {
 
     @Id
@@ -0,0 +1,8 @@
+package com.shop.domain.category.event;
+
+/**
+ * 카테고리(이름, 상위 카테고리, 노출 순서 등)가 변경되었음을 알리는 이벤트.
+ * JPA 엔티티 변경 시 {@link CategoryEntityListener}가 발행합니다.
+ */
+public record CategoryChangedEvent() {
+}
@@ -0,0 +1,27 @@
+package com.shop.domain.category.event;
+
+import com.shop.domain.category.entity.Category;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Category 엔티티 변경(flush) 시점에 {@link CategoryChangedEvent}를 발행합니다.
+ * 카테고리 트리 재생성은 커밋 이후(@TransactionalEventListener AFTER_COMMIT)에 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CategoryEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCategoryChanged(Category category) {
+        eventPublisher.publishEvent(new CategoryChangedEvent());
+    }
+}
@@ -1,7 +1,7 @@
 package com.shop.domain.category.service;
 
 import com.shop.domain.category.dto.CategoryResponse;
-import com.shop.domain.category.repository.CategoryRepository;
+import com.shop.domain.category.dto.CategoryTreeResponse;
 import com.shop.global.exception.BusinessException;
 import com.shop.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -9,24 +9,38 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 카테고리 조회 - 모든 조회는 {@link CategoryTreeCache} 의 트리에서 처리하며 DB를 다시 읽지 않습니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CategoryService {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryTreeCache categoryTreeCache;
 
     public List<CategoryResponse> findAll() {
-        return categoryRepository.findAll().stream()
-                .map(CategoryResponse::from)
-                .collect(Collectors.toList());
+        return categoryTreeCache.get().getCategories();
     }
 
     public CategoryResponse findById(Long id) {
-        return categoryRepository.findById(id)
-                .map(CategoryResponse::from)
+        return categoryTreeCache.get().find(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
     }
+
+    public List<CategoryTreeResponse> getTree() {
+        return categoryTreeCache.get().getRoots();
+    }
+
+    /**
+     * 최상위부터 바로 위 카테고리까지의 경로 (breadcrumb)
+     */
+    public List<CategoryResponse> getAncestors(Long id) {
+        CategoryTree tree = categoryTreeCache.get();
+        if (tree.find(id).isEmpty()) {
+            throw new BusinessException(ErrorCode.CATEGORY_NOT_FOUND);
+        }
+        return tree.getAncestors(id);
+    }
 }
@@ -0,0 +1,144 @@
+package com.shop.domain.category.service;
+
+import com.shop.domain.category.dto.CategoryResponse;
+import com.shop.domain.category.dto.CategoryTreeResponse;
+import com.shop.domain.category.entity.Category;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 카테고리 트리 (불변)
+ *
+ * - 생성 시 카테고리별 상위 경로와 하위 트리(자신 포함) ID 집합을 미리 계산하므로 조회는 Map 한 번으로 끝납니다.
+ * - 형제 카테고리는 노출 순서(displayOrder), id 순으로 정렬합니다.
+ * - 상위 카테고리가 없거나 순환 참조인 카테고리는 최상위로 취급합니다.
+ */
+public final class CategoryTree {
+
+    private static final Comparator<CategoryResponse> DISPLAY_ORDER =
+            Comparator.comparingInt(CategoryResponse::getDisplayOrder).thenComparing(CategoryResponse::getId);
+
+    private final Map<Long, CategoryResponse> categories;
+    private final Map<Long, List<CategoryResponse>> ancestors;
+    private final Map<Long, Set<Long>> subtreeIds;
+    private final List<CategoryTreeResponse> roots;
+
+    private CategoryTree(Map<Long, CategoryResponse> categories,
+                         Map<Long, List<CategoryResponse>> ancestors,
+                         Map<Long, Set<Long>> subtreeIds,
+                         List<CategoryTreeResponse> roots) {
+        this.categories = categories;
+        this.ancestors = ancestors;
+        this.subtreeIds = subtreeIds;
+        this.roots = roots;
+    }
+
+    public static CategoryTree build(List<Category> entities) {
+        Map<Long, CategoryResponse> categories = new LinkedHashMap<>();
+        entities.stream()
+                .map(CategoryResponse::from)
+                .sorted(Comparator.comparing(CategoryResponse::getId))
+                .forEach(category -> categories.put(category.getId(), category));
+
+        Map<Long, List<CategoryResponse>> ancestors = new HashMap<>();
+        Map<Long, List<CategoryResponse>> children = new HashMap<>();
+        List<CategoryResponse> rootCategories = new ArrayList<>();
+        for (CategoryResponse category : categories.values()) {
+            List<CategoryResponse> path = pathToRoot(category, categories);
+            ancestors.put(category.getId(), path);
+            if (path.isEmpty()) {
+                rootCategories.add(category);
+            } else {
+                children.computeIfAbsent(category.getParentId(), id -> new ArrayList<>()).add(category);
+            }
+        }
+        children.values().forEach(siblings -> siblings.sort(DISPLAY_ORDER));
+        rootCategories.sort(DISPLAY_ORDER);
+
+        Map<Long, Set<Long>> subtreeIds = new HashMap<>();
+        List<CategoryTreeResponse> roots = rootCategories.stream()
+                .map(root -> toNode(root, children, subtreeIds))
+                .toList();
+
+        return new CategoryTree(Collections.unmodifiableMap(categories), ancestors, subtreeIds, roots);
+    }
+
+    /**
+     * 전체 카테고리 (id 순)
+     */
+    public List<CategoryResponse> getCategories() {
+        return List.copyOf(categories.values());
+    }
+
+    public Optional<CategoryResponse> find(Long id) {
+        return Optional.ofNullable(categories.get(id));
+    }
+
+    /**
+     * 최상위부터 바로 위 카테고리까지의 경로 (자신 제외)
+     */
+    public List<CategoryResponse> getAncestors(Long id) {
+        return ancestors.getOrDefault(id, List.of());
+    }
+
+    /**
+     * 자신과 모든 하위 카테고리 ID - 트리에 없는 카테고리는 자기 자신만 반환합니다.
+     */
+    public Set<Long> getSubtreeIds(Long id) {
+        return subtreeIds.getOrDefault(id, Set.of(id));
+    }
+
+    public List<CategoryTreeResponse> getRoots() {
+        return roots;
+    }
+
+    private static List<CategoryResponse> pathToRoot(CategoryResponse category, Map<Long, CategoryResponse> categories) {
+        List<CategoryResponse> path = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        visited.add(category.getId());
+
+        CategoryResponse parent = categories.get(category.getParentId());
+        while (parent != null) {
+            if (!visited.add(parent.getId())) {
+                return List.of();
+            }
+            path.add(parent);
+            parent = categories.get(parent.getParentId());
+        }
+        Collections.reverse(path);
+        return List.copyOf(path);
+    }
+
+    private static CategoryTreeResponse toNode(CategoryResponse category,
+                                               Map<Long, List<CategoryResponse>> children,
+                                               Map<Long, Set<Long>> subtreeIds) {
+        Set<Long> subtree = new LinkedHashSet<>();
+        subtree.add(category.getId());
+
+        List<CategoryTreeResponse> childNodes = new ArrayList<>();
+        for (CategoryResponse child : children.getOrDefault(category.getId(), List.of())) {
+            childNodes.add(toNode(child, children, subtreeIds));
+            subtree.addAll(subtreeIds.get(child.getId()));
+        }
+        subtreeIds.put(category.getId(), Collections.unmodifiableSet(subtree));
+
+        return CategoryTreeResponse.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .description(category.getDescription())
+                .displayOrder(category.getDisplayOrder())
+                .depth(category.getDepth())
+                .children(List.copyOf(childNodes))
+                .build();
+    }
+}
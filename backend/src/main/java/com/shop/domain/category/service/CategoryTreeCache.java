@@ -0,0 +1,71 @@
+package com.shop.domain.category.service;
+
+import com.shop.domain.category.event.CategoryChangedEvent;
+import com.shop.domain.category.repository.CategoryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 카테고리 트리 캐시 - 전체 카테고리를 한 번 읽어 불변 {@link CategoryTree} 로 보관합니다.
+ *
+ * - 카테고리 변경이 커밋되면 트리를 버리고, 다음 조회 시 다시 만듭니다.
+ * - SQL 로 직접 수정된 변경도 반영되도록 refresh-interval-ms 마다 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+
+    private final AtomicReference<CategoryTree> current = new AtomicReference<>();
+
+    /**
+     * 현재 트리 - 아직 만들어지지 않았거나 무효화되었다면 호출 스레드에서 한 번 만듭니다.
+     */
+    public CategoryTree get() {
+        CategoryTree tree = current.get();
+        if (tree != null) {
+            return tree;
+        }
+        synchronized (this) {
+            if (current.get() == null) {
+                rebuild();
+            }
+            return current.get();
+        }
+    }
+
+    public synchronized void rebuild() {
+        CategoryTree tree = CategoryTree.build(categoryRepository.findAll());
+        current.set(tree);
+        log.debug("카테고리 트리 재생성 - {}개", tree.getCategories().size());
+    }
+
+    @Scheduled(fixedDelayString = "${shop.category.tree.refresh-interval-ms:600000}")
+    public void refresh() {
+        if (current.get() == null) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("카테고리 트리 재생성 실패 - 이전 트리를 계속 사용합니다.", e);
+        }
+    }
+
+    /**
+     * 트리를 버림 - rebuild 와 같은 잠금 안에서 비우므로, 커밋 전 데이터를 읽던 재생성이 끝난 뒤 그 결과를 다시 버립니다.
+     * (잠금 없이 비우면 진행 중인 재생성이 이전 트리를 다시 게시할 수 있음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onCategoryChanged(CategoryChangedEvent event) {
+        current.set(null);
+    }
+}
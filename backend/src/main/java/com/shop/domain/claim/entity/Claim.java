@@ -23,7 +23,8 @@ import java.util.List;
 public class Claim extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "claims_seq")
+    @SequenceGenerator(name = "claims_seq", sequenceName = "claims_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -89,6 +90,13 @@ public class Claim extends BaseEntity {
         }
     }
 
+    /**
+     * 처리중 전환 - 환불(토스 결제 취소)이 끝나기를 기다리는 동안
+     */
+    public void startProcessing() {
+        this.status = ClaimStatus.PROCESSING;
+    }
+
     /**
      * 클레임 완료 처리
      */
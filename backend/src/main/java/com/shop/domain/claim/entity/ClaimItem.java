@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class ClaimItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "claim_items_seq")
+    @SequenceGenerator(name = "claim_items_seq", sequenceName = "claim_items_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,6 +1,8 @@
 package com.shop.domain.claim.repository;
 
 import com.shop.domain.claim.entity.Claim;
+import com.shop.domain.claim.entity.ClaimStatus;
+import com.shop.domain.claim.entity.ClaimType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -16,6 +18,11 @@ public interface ClaimRepository extends JpaRepository<Claim, Long> {
 
     Optional<Claim> findByIdAndUserId(Long id, Long userId);
 
+    /**
+     * 환불을 기다리는 주문 취소 클레임 - 토스 결제 취소 아웃박스가 완료되면 완료 처리
+     */
+    List<Claim> findByOrderIdAndClaimTypeAndStatus(Long orderId, ClaimType claimType, ClaimStatus status);
+
     @Query("SELECT DISTINCT c FROM Claim c " +
            "LEFT JOIN FETCH c.items ci " +
            "LEFT JOIN FETCH ci.orderItem oi " +
@@ -23,6 +30,17 @@ public interface ClaimRepository extends JpaRepository<Claim, Long> {
            "WHERE c.id = :claimId")
     Optional<Claim> findByIdWithItems(@Param("claimId") Long claimId);
 
+    /**
+     * 클레임 상세 조회 + 소유자 검증 - 주문 · 클레임 상품 · 주문 상품 · 상품까지 한 쿼리로 로드
+     */
+    @Query("SELECT DISTINCT c FROM Claim c " +
+           "JOIN FETCH c.order " +
+           "LEFT JOIN FETCH c.items ci " +
+           "LEFT JOIN FETCH ci.orderItem oi " +
+           "LEFT JOIN FETCH oi.product " +
+           "WHERE c.id = :claimId AND c.user.id = :userId")
+    Optional<Claim> findByIdAndUserIdWithItems(@Param("claimId") Long claimId, @Param("userId") Long userId);
+
     @Query("SELECT DISTINCT c FROM Claim c " +
            "LEFT JOIN FETCH c.items ci " +
            "LEFT JOIN FETCH ci.orderItem oi " +
@@ -32,10 +50,12 @@ public interface ClaimRepository extends JpaRepository<Claim, Long> {
     List<Claim> findAllWithItemsByIdIn(@Param("ids") List<Long> ids);
 
     /**
-     * 특정 OrderItem에 대해 완료되지 않은(REJECTED 제외) 클레임의 수량 합계 조회
+     * 주문의 주문 상품별로 완료되지 않은(REJECTED 제외) 클레임의 수량 합계를 한 번에 조회
+     * 클레임된 적 없는 주문 상품은 결과에 없습니다. [orderItemId, claimedQuantity]
      */
-    @Query("SELECT COALESCE(SUM(ci.quantity), 0) FROM ClaimItem ci " +
-           "WHERE ci.orderItem.id = :orderItemId " +
-           "AND ci.claim.status NOT IN (com.shop.domain.claim.entity.ClaimStatus.REJECTED)")
-    int sumClaimedQuantityByOrderItemId(@Param("orderItemId") Long orderItemId);
+    @Query("SELECT ci.orderItem.id, SUM(ci.quantity) FROM ClaimItem ci " +
+           "WHERE ci.claim.order.id = :orderId " +
+           "AND ci.claim.status NOT IN (com.shop.domain.claim.entity.ClaimStatus.REJECTED) " +
+           "GROUP BY ci.orderItem.id")
+    List<Object[]> sumClaimedQuantitiesByOrderId(@Param("orderId") Long orderId);
 }
@@ -6,9 +6,10 @@ import com.shop.domain.claim.repository.ClaimRepository;
 import com.shop.domain.order.entity.Order;
 import com.shop.domain.order.entity.OrderItem;
 import com.shop.domain.order.entity.OrderStatus;
-import com.shop.domain.order.repository.OrderRepository;
+import com.shop.domain.order.service.OrderLoader;
 import com.shop.domain.payment.entity.Payment;
 import com.shop.domain.payment.repository.PaymentRepository;
+import com.shop.domain.product.service.StockReservationService;
 import com.shop.domain.user.entity.User;
 import com.shop.domain.user.repository.UserRepository;
 import com.shop.global.exception.BusinessException;
@@ -20,6 +21,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -31,21 +33,17 @@ import java.util.stream.Collectors;
 public class ClaimService {
 
     private final ClaimRepository claimRepository;
-    private final OrderRepository orderRepository;
+    private final OrderLoader orderLoader;
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
+    private final StockReservationService stockReservationService;
 
     /**
      * 클레임 접수 (취소/반품)
      */
     public ClaimResponse createClaim(Long userId, CreateClaimRequest request) {
-        // 주문 소유자 검증
-        Order order = orderRepository.findByIdAndUserId(request.getOrderId(), userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
-
-        // Fetch join으로 items + product 로드
-        order = orderRepository.findByIdWithItems(order.getId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+        // 주문 소유자 검증 + items, product Fetch Join 을 한 쿼리로
+        Order order = orderLoader.loadOwnedWithItems(userId, request.getOrderId());
 
         // 클레임 타입별 주문 상태 검증
         validateOrderStatusForClaim(order, request.getClaimType());
@@ -54,26 +52,12 @@ public class ClaimService {
         Map<Long, OrderItem> orderItemMap = order.getItems().stream()
                 .collect(Collectors.toMap(OrderItem::getId, Function.identity()));
 
-        // 환불 금액 계산 + 중복 수량 검증
-        BigDecimal refundAmount = BigDecimal.ZERO;
-        for (CreateClaimRequest.ClaimItemRequest itemReq : request.getItems()) {
-            OrderItem orderItem = orderItemMap.get(itemReq.getOrderItemId());
-            if (orderItem == null) {
-                throw new BusinessException(ErrorCode.INVALID_INPUT, "해당 주문에 포함되지 않은 상품입니다.");
-            }
-
-            // 이미 클레임된 수량 확인
-            int alreadyClaimed = claimRepository.sumClaimedQuantityByOrderItemId(orderItem.getId());
-            int available = orderItem.getQuantity() - alreadyClaimed;
-            if (itemReq.getQuantity() > available) {
-                throw new BusinessException(ErrorCode.INVALID_INPUT,
-                        String.format("'%s'의 클레임 가능 수량은 %d개입니다.", orderItem.getProductName(), available));
-            }
-
-            refundAmount = refundAmount.add(
-                    orderItem.getPriceAtOrder().multiply(BigDecimal.valueOf(itemReq.getQuantity()))
-            );
-        }
+        // 클레임 가능 수량 검증 + 환불 금액 계산
+        validateClaimQuantities(order.getId(), orderItemMap, request.getItems());
+        BigDecimal refundAmount = request.getItems().stream()
+                .map(itemReq -> orderItemMap.get(itemReq.getOrderItemId()).getPriceAtOrder()
+                        .multiply(BigDecimal.valueOf(itemReq.getQuantity())))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
 
         // 결제 수단 조회
         Payment payment = paymentRepository.findByOrderId(order.getId())
@@ -143,10 +127,8 @@ public class ClaimService {
      */
     @Transactional(readOnly = true)
     public ClaimResponse getClaim(Long userId, Long claimId) {
-        claimRepository.findByIdAndUserId(claimId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.CLAIM_NOT_FOUND));
-
-        Claim claim = claimRepository.findByIdWithItems(claimId)
+        // 소유자 검증 + 주문 · 클레임 상품 Fetch Join 을 한 쿼리로
+        Claim claim = claimRepository.findByIdAndUserIdWithItems(claimId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.CLAIM_NOT_FOUND));
 
         return ClaimResponse.from(claim);
@@ -179,6 +161,33 @@ public class ClaimService {
         }
     }
 
+    /**
+     * 클레임 가능 수량 검증 - 이미 클레임된 수량은 주문 전체를 한 번의 집계 쿼리로 가져오고,
+     * 같은 주문 상품을 여러 줄로 요청하면 합산한 수량으로 검증합니다.
+     */
+    private void validateClaimQuantities(Long orderId, Map<Long, OrderItem> orderItemMap,
+                                         List<CreateClaimRequest.ClaimItemRequest> items) {
+        Map<Long, Integer> requestedQuantities = new LinkedHashMap<>();
+        for (CreateClaimRequest.ClaimItemRequest itemReq : items) {
+            if (!orderItemMap.containsKey(itemReq.getOrderItemId())) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "해당 주문에 포함되지 않은 상품입니다.");
+            }
+            requestedQuantities.merge(itemReq.getOrderItemId(), itemReq.getQuantity(), Integer::sum);
+        }
+
+        Map<Long, Integer> claimedQuantities = claimRepository.sumClaimedQuantitiesByOrderId(orderId).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).intValue()));
+
+        requestedQuantities.forEach((orderItemId, requested) -> {
+            OrderItem orderItem = orderItemMap.get(orderItemId);
+            int available = orderItem.getQuantity() - claimedQuantities.getOrDefault(orderItemId, 0);
+            if (requested > available) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT,
+                        String.format("'%s'의 클레임 가능 수량은 %d개입니다.", orderItem.getProductName(), available));
+            }
+        });
+    }
+
     /**
      * 클레임 완료 처리: 환불 + 재고 복원
      */
@@ -193,7 +202,7 @@ public class ClaimService {
 
         // 재고 복원
         for (ClaimItem item : claim.getItems()) {
-            item.getOrderItem().getProduct().increaseStock(item.getQuantity());
+            stockReservationService.restock(item.getOrderItem().getProduct(), item.getQuantity());
         }
     }
 }
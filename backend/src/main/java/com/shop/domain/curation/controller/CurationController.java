@@ -1,24 +1,27 @@
 package com.shop.domain.curation.controller;
 
-import com.shop.domain.curation.dto.CurationResponse;
-import com.shop.domain.curation.service.CurationService;
-import com.shop.global.response.ApiResponse;
+import com.shop.domain.curation.service.CurationSnapshot;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/curations")
 @RequiredArgsConstructor
 public class CurationController {
 
-    private final CurationService curationService;
+    private final CurationSnapshot curationSnapshot;
 
+    /**
+     * 큐레이션 목록 - 미리 직렬화된 스냅샷(ApiResponse 형식)을 그대로 응답
+     */
     @GetMapping
-    public ApiResponse<List<CurationResponse>> getCurations() {
-        return ApiResponse.ok(curationService.getCurations());
+    public ResponseEntity<byte[]> getCurations() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(curationSnapshot.getCurationsJson());
     }
 }
@@ -1,6 +1,7 @@
 package com.shop.domain.curation.entity;
 
 import com.shop.domain.common.BaseEntity;
+import com.shop.domain.curation.event.CurationEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -15,6 +16,7 @@ import java.util.List;
     @UniqueConstraint(columnNames = {"title"})
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(CurationEntityListener.class)
 public class Curation extends BaseEntity {
 
     @Id
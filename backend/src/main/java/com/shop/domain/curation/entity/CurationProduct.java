@@ -1,6 +1,7 @@
 package com.shop.domain.curation.entity;
 
 import com.shop.domain.common.BaseEntity;
+import com.shop.domain.curation.event.CurationEntityListener;
 import com.shop.domain.product.entity.Product;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -15,6 +16,7 @@ import java.math.BigDecimal;
     @UniqueConstraint(columnNames = {"curation_id", "product_id"})
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(CurationEntityListener.class)
 public class CurationProduct extends BaseEntity {
 
     @Id
@@ -0,0 +1,8 @@
+package com.shop.domain.curation.event;
+
+/**
+ * 큐레이션 또는 큐레이션 상품 구성이 변경되었음을 알리는 이벤트.
+ * JPA 엔티티 변경 시 {@link CurationEntityListener}가 발행합니다.
+ */
+public record CurationChangedEvent() {
+}
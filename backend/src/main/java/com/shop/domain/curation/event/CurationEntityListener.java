@@ -0,0 +1,26 @@
+package com.shop.domain.curation.event;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Curation, CurationProduct 엔티티 변경(flush) 시점에 {@link CurationChangedEvent}를 발행합니다.
+ * 스냅샷 재생성은 커밋 이후(@TransactionalEventListener AFTER_COMMIT)에 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurationEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCurationChanged(Object entity) {
+        eventPublisher.publishEvent(new CurationChangedEvent());
+    }
+}
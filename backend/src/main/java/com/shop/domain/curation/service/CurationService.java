@@ -4,12 +4,17 @@ import com.shop.domain.curation.dto.CurationResponse;
 import com.shop.domain.curation.entity.Curation;
 import com.shop.domain.curation.repository.CurationRepository;
 import com.shop.domain.like.service.ProductLikeService;
+import com.shop.domain.product.entity.Product;
+import com.shop.domain.product.entity.ProductStatus;
+import com.shop.domain.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -18,8 +23,13 @@ public class CurationService {
 
     private final CurationRepository curationRepository;
     private final ProductLikeService productLikeService;
+    private final ProductRepository productRepository;
 
-    public List<CurationResponse> getCurations() {
+    /**
+     * 활성 큐레이션과 상품 좋아요 수를 조회하여 응답 목록 구성
+     * 홈 화면 요청은 이 메서드를 직접 호출하지 않고 CurationSnapshot 이 미리 만들어 둔 결과를 사용합니다.
+     */
+    public List<CurationResponse> loadCurations() {
         List<Curation> curations = curationRepository.findAllActiveWithProducts();
 
         List<Long> productIds = curations.stream()
@@ -36,4 +46,25 @@ public class CurationService {
             .map(c -> CurationResponse.from(c, likeCountMap))
             .toList();
     }
+
+    /**
+     * 큐레이션 응답에 표시되는 상품 필드만 조회 - 스냅샷이 상품 변경 이벤트를 받았을 때 재생성이 필요한지 판단하는 데 사용
+     * (재고 등 표시되지 않는 필드의 변경으로는 재생성하지 않음, 삭제된 상품은 결과에서 빠짐)
+     */
+    public Map<Long, RenderedProduct> loadRenderedProducts(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.findAllWithCategoryByIdIn(productIds).stream()
+            .collect(Collectors.toMap(Product::getId, RenderedProduct::from));
+    }
+
+    public record RenderedProduct(String name, String brandName, BigDecimal price, String thumbnailUrl,
+                                  String shippingInfo, ProductStatus status) {
+
+        static RenderedProduct from(Product p) {
+            return new RenderedProduct(p.getName(), p.getCategory() != null ? p.getCategory().getName() : null,
+                p.getPrice(), p.getThumbnailUrl(), p.getShippingInfo(), p.getStatus());
+        }
+    }
 }
@@ -0,0 +1,189 @@
+package com.shop.domain.curation.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.domain.curation.dto.CurationProductResponse;
+import com.shop.domain.curation.dto.CurationResponse;
+import com.shop.domain.curation.service.CurationService.RenderedProduct;
+import com.shop.domain.curation.event.CurationChangedEvent;
+import com.shop.domain.product.event.ProductChangedEvent;
+import com.shop.global.response.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 홈 화면 큐레이션 스냅샷 - 응답 목록과 직렬화된 JSON 을 미리 만들어 두고 요청은 DB 조회 없이 처리합니다.
+ *
+ * - 스냅샷은 AtomicReference 로 통째로 교체되므로 요청은 항상 완성된 하나의 버전만 봅니다.
+ * - 큐레이션 변경이 커밋되면 다음 점검 주기에 다시 만듭니다.
+ * - 스냅샷에 포함된 상품이 변경되면 다음 점검 주기에 표시 필드(이름 · 브랜드 · 가격 · 대표 이미지 · 배송 정보 · 상태)만 모아
+ *   조회해 달라졌을 때만 다시 만듭니다. 주문마다 바뀌는 재고는 재생성을 일으키지 않습니다.
+ * - 변경이 없어도 refresh-interval-ms 가 지나면 다시 만듭니다. (좋아요 수, 카테고리명 등 이벤트로 재생성하지 않는 변경 반영)
+ * - 재생성에 실패하면 이전 스냅샷을 계속 사용합니다.
+ * 스냅샷 경과 시간은 curation.snapshot.age, 재생성 시간은 curation.snapshot.rebuild 지표로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class CurationSnapshot {
+
+    private final CurationService curationService;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final Duration refreshInterval;
+    private final Timer rebuildTimer;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    /** 변경 이벤트를 받은 스냅샷 포함 상품 - 다음 점검 주기에 표시 필드를 비교 */
+    private final Set<Long> changedProductIds = ConcurrentHashMap.newKeySet();
+
+    public CurationSnapshot(CurationService curationService,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${shop.curation.snapshot.refresh-interval-ms:300000}") long refreshIntervalMs) {
+        this.curationService = curationService;
+        this.objectMapper = objectMapper;
+        this.clock = Clock.systemUTC();
+        this.refreshInterval = Duration.ofMillis(refreshIntervalMs);
+        this.rebuildTimer = Timer.builder("curation.snapshot.rebuild")
+                .description("큐레이션 스냅샷 재생성 소요 시간")
+                .register(meterRegistry);
+
+        TimeGauge.builder("curation.snapshot.age", this, TimeUnit.MILLISECONDS, CurationSnapshot::ageMillis)
+                .description("현재 큐레이션 스냅샷이 만들어진 뒤 경과 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ApiResponse.ok(큐레이션 목록) 을 미리 직렬화한 JSON
+     */
+    public byte[] getCurationsJson() {
+        return snapshot().json();
+    }
+
+    /**
+     * 스냅샷 재생성 - 동시에 여러 번 요청되어도 한 번에 하나씩만 실행
+     */
+    public synchronized void rebuild() {
+        dirty.set(false);
+        changedProductIds.clear();
+        long started = System.nanoTime();
+
+        List<CurationResponse> curations = curationService.loadCurations();
+        List<Long> productIds = curations.stream()
+                .flatMap(curation -> curation.getProducts().stream())
+                .map(CurationProductResponse::getProductId)
+                .distinct()
+                .toList();
+        Map<Long, RenderedProduct> rendered = curationService.loadRenderedProducts(productIds);
+
+        current.set(new Snapshot(serialize(curations), rendered, clock.instant()));
+        rebuildTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        log.debug("큐레이션 스냅샷 재생성 - 큐레이션 {}개, 상품 {}개", curations.size(), productIds.size());
+    }
+
+    /**
+     * 변경 표시가 있거나, 포함 상품의 표시 필드가 바뀌었거나, 갱신 주기가 지난 경우 재생성
+     */
+    @Scheduled(fixedDelayString = "${shop.curation.snapshot.check-interval-ms:1000}")
+    public void refreshIfStale() {
+        Snapshot snapshot = current.get();
+        boolean expired = snapshot != null
+                && Duration.between(snapshot.builtAt(), clock.instant()).compareTo(refreshInterval) >= 0;
+
+        try {
+            if (!dirty.get() && !expired && !renderedProductsChanged(snapshot)) {
+                return;
+            }
+            rebuild();
+        } catch (RuntimeException e) {
+            dirty.set(true);
+            log.error("큐레이션 스냅샷 갱신 실패 - 이전 스냅샷을 계속 사용합니다.", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCurationChanged(CurationChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Snapshot snapshot = current.get();
+        if (snapshot != null && snapshot.rendered().containsKey(event.productId())) {
+            changedProductIds.add(event.productId());
+        }
+    }
+
+    /**
+     * 변경 이벤트를 받은 포함 상품의 표시 필드를 한 번에 조회해 스냅샷과 비교 - 조회 실패 시 ID 를 되돌려 다음 주기에 다시 확인
+     */
+    private boolean renderedProductsChanged(Snapshot snapshot) {
+        if (snapshot == null || changedProductIds.isEmpty()) {
+            return false;
+        }
+        List<Long> productIds = new ArrayList<>(changedProductIds);
+        changedProductIds.removeAll(productIds);
+        try {
+            Map<Long, RenderedProduct> latest = curationService.loadRenderedProducts(productIds);
+            return productIds.stream()
+                    .anyMatch(id -> !Objects.equals(snapshot.rendered().get(id), latest.get(id)));
+        } catch (RuntimeException e) {
+            changedProductIds.addAll(productIds);
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 스냅샷 - 아직 만들어지지 않았다면 요청 스레드에서 한 번 만듭니다.
+     */
+    private Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (current.get() == null) {
+                rebuild();
+            }
+            return current.get();
+        }
+    }
+
+    private byte[] serialize(List<CurationResponse> curations) {
+        try {
+            return objectMapper.writeValueAsBytes(ApiResponse.ok(curations));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("큐레이션 스냅샷 직렬화 실패", e);
+        }
+    }
+
+    private double ageMillis() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? Duration.between(snapshot.builtAt(), clock.instant()).toMillis() : 0;
+    }
+
+    private record Snapshot(byte[] json, Map<Long, RenderedProduct> rendered, Instant builtAt) {
+    }
+}
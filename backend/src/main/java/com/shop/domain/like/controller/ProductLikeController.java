@@ -1,16 +1,26 @@
 package com.shop.domain.like.controller;
 
-import com.shop.domain.like.dto.AdminLikeResponse;
+import com.shop.domain.like.dto.AdminLikeFilter;
+import com.shop.domain.like.dto.AdminLikePageResponse;
+import com.shop.domain.like.dto.LikeExportFormat;
 import com.shop.domain.like.dto.LikeToggleResponse;
 import com.shop.domain.like.dto.LikedProductResponse;
+import com.shop.domain.like.service.ProductLikeExporter;
 import com.shop.domain.like.service.ProductLikeService;
 import com.shop.global.response.ApiResponse;
 import com.shop.global.security.UserPrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -18,6 +28,7 @@ import java.util.List;
 public class ProductLikeController {
 
     private final ProductLikeService productLikeService;
+    private final ProductLikeExporter productLikeExporter;
 
     @PostMapping("/api/products/{productId}/like")
     public ApiResponse<LikeToggleResponse> toggleLike(
@@ -44,9 +55,47 @@ public class ProductLikeController {
         return ApiResponse.ok(productLikeService.getMyLikes(principal.getUserId()));
     }
 
+    /**
+     * 관리자 좋아요 목록 - 최신순 커서 페이지, 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.
+     * 응답 형식 변경: 이전에는 data 가 전체 좋아요 배열이었으며, 지금은 AdminLikePageResponse 입니다. (docs/04-report/changelog.md)
+     */
+    @Operation(summary = "관리자 좋아요 목록 (커서 페이지)",
+            description = "최신순으로 size 건(기본 100, 최대 500)을 반환합니다. hasNext 가 true 이면 nextCursor 를 cursor 로 전달해 "
+                    + "다음 페이지를 조회합니다. 전체 좋아요 배열을 반환하던 이전 응답과 호환되지 않으며, 전체가 필요하면 "
+                    + "/api/admin/likes/export 를 사용합니다.")
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/api/admin/likes")
-    public ApiResponse<List<AdminLikeResponse>> getAllLikes() {
-        return ApiResponse.ok(productLikeService.getAllLikes());
+    public ApiResponse<AdminLikePageResponse> getAdminLikes(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime likedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime likedTo,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false, defaultValue = "100") int size) {
+        AdminLikeFilter filter = new AdminLikeFilter(userId, productId, likedFrom, likedTo);
+        return ApiResponse.ok(productLikeService.getAdminLikes(filter, cursor, size));
+    }
+
+    /**
+     * 관리자 좋아요 내보내기 (csv | json) - 전체 결과를 메모리에 올리지 않고 응답 스트림에 바로 씁니다.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/api/admin/likes/export")
+    public void exportLikes(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long productId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime likedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime likedTo,
+            @RequestParam(required = false, defaultValue = "csv") String format,
+            HttpServletResponse response) throws IOException {
+        LikeExportFormat exportFormat = LikeExportFormat.from(format);
+        AdminLikeFilter filter = new AdminLikeFilter(userId, productId, likedFrom, likedTo);
+
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("product-likes." + exportFormat.getExtension())
+                .build()
+                .toString());
+        productLikeExporter.export(filter, exportFormat, response.getOutputStream());
     }
 }
@@ -0,0 +1,9 @@
+package com.shop.domain.like.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 좋아요 조회 · 내보내기 조건 - null 인 조건은 적용하지 않으며, 기간은 시작 포함 · 종료 미포함입니다.
+ */
+public record AdminLikeFilter(Long userId, Long productId, LocalDateTime likedFrom, LocalDateTime likedTo) {
+}
@@ -0,0 +1,16 @@
+package com.shop.domain.like.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class AdminLikePageResponse {
+
+    private List<AdminLikeResponse> content;
+    private Long nextCursor;
+    private boolean hasNext;
+    private int size;
+}
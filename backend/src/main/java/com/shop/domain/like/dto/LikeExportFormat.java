@@ -0,0 +1,41 @@
+package com.shop.domain.like.dto;
+
+import com.shop.global.exception.BusinessException;
+import com.shop.global.exception.ErrorCode;
+
+/**
+ * 관리자 좋아요 내보내기 형식 - 요청 파라미터(csv | json)와 1:1로 대응합니다.
+ */
+public enum LikeExportFormat {
+
+    CSV("text/csv;charset=UTF-8", "csv"),
+    JSON("application/json", "json");
+
+    private final String contentType;
+    private final String extension;
+
+    LikeExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static LikeExportFormat from(String format) {
+        if (format == null || format.isBlank()) {
+            return CSV;
+        }
+
+        return switch (format.toLowerCase()) {
+            case "csv" -> CSV;
+            case "json" -> JSON;
+            default -> throw new BusinessException(ErrorCode.INVALID_INPUT, "지원하지 않는 내보내기 형식입니다: " + format);
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.shop.domain.like.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 좋아요 수 (비정규화) - product_likes 를 COUNT 하지 않고 조회하기 위한 카운터 테이블
+ * products 행 잠금(주문 재고 차감)과 경합하지 않도록 상품 테이블과 분리하며,
+ * 값은 ProductLikeCounter 가 주기적으로 반영하고 정합성 보정 작업이 product_likes 기준으로 맞춥니다.
+ */
+@Getter
+@Entity
+@Table(name = "product_like_counts")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductLikeCount {
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    @Column(nullable = false)
+    private long likeCount;
+}
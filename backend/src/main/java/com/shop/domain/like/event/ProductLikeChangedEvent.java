@@ -0,0 +1,7 @@
+package com.shop.domain.like.event;
+
+/**
+ * 상품 좋아요 추가/취소 이벤트
+ */
+public record ProductLikeChangedEvent(Long productId, boolean liked) {
+}
@@ -0,0 +1,46 @@
+package com.shop.domain.like.repository;
+
+import com.shop.domain.like.entity.ProductLikeCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductLikeCountRepository extends JpaRepository<ProductLikeCount, Long> {
+
+    @Query("SELECT c.productId, c.likeCount FROM ProductLikeCount c WHERE c.productId IN :productIds")
+    List<Object[]> findLikeCountsByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    @Modifying
+    @Query("UPDATE ProductLikeCount c SET c.likeCount = c.likeCount + :delta WHERE c.productId = :productId")
+    int addLikeCount(@Param("productId") Long productId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "INSERT INTO product_like_counts (product_id, like_count) VALUES (:productId, :likeCount)",
+           nativeQuery = true)
+    void insertLikeCount(@Param("productId") Long productId, @Param("likeCount") long likeCount);
+
+    /**
+     * 정합성 보정 - 카운터 값을 product_likes 실제 건수로 맞춤
+     */
+    @Modifying
+    @Query(value = "UPDATE product_like_counts c " +
+                   "SET like_count = (SELECT COUNT(*) FROM product_likes pl WHERE pl.product_id = c.product_id) " +
+                   "WHERE c.like_count <> (SELECT COUNT(*) FROM product_likes pl WHERE pl.product_id = c.product_id)",
+           nativeQuery = true)
+    int reconcileExisting();
+
+    /**
+     * 정합성 보정 - 좋아요는 있으나 카운터 행이 없는 상품의 행 생성
+     */
+    @Modifying
+    @Query(value = "INSERT INTO product_like_counts (product_id, like_count) " +
+                   "SELECT pl.product_id, COUNT(*) FROM product_likes pl " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM product_like_counts c WHERE c.product_id = pl.product_id) " +
+                   "GROUP BY pl.product_id",
+           nativeQuery = true)
+    int reconcileMissing();
+}
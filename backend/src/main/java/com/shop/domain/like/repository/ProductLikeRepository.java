@@ -1,21 +1,37 @@
 package com.shop.domain.like.repository;
 
+import com.shop.domain.like.dto.AdminLikeResponse;
 import com.shop.domain.like.entity.ProductLike;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProductLikeRepository extends JpaRepository<ProductLike, Long> {
 
+    /**
+     * 관리자 좋아요 조회 - 엔티티 대신 응답 DTO 로 바로 프로젝션해 영속성 컨텍스트에 사용자 · 상품을 쌓지 않습니다.
+     * 내보내기(ProductLikeExporter)도 같은 조회 · 조건 · 정렬을 사용합니다.
+     */
+    String ADMIN_VIEW = "SELECT new com.shop.domain.like.dto.AdminLikeResponse(" +
+                        "pl.id, u.id, u.email, u.name, p.id, p.name, pl.createdAt) " +
+                        "FROM ProductLike pl JOIN pl.user u JOIN pl.product p ";
+
+    String ADMIN_CONDITION = "WHERE (:userId IS NULL OR u.id = :userId) " +
+                             "AND (:productId IS NULL OR p.id = :productId) " +
+                             "AND (:likedFrom IS NULL OR pl.createdAt >= :likedFrom) " +
+                             "AND (:likedTo IS NULL OR pl.createdAt < :likedTo) ";
+
+    String ADMIN_ORDER = "ORDER BY pl.id DESC";
+
     Optional<ProductLike> findByUserIdAndProductId(Long userId, Long productId);
 
     boolean existsByUserIdAndProductId(Long userId, Long productId);
 
-    long countByProductId(Long productId);
-
     @Query("SELECT pl FROM ProductLike pl " +
            "JOIN FETCH pl.product p " +
            "LEFT JOIN FETCH p.images " +
@@ -23,14 +39,15 @@ public interface ProductLikeRepository extends JpaRepository<ProductLike, Long>
            "ORDER BY pl.createdAt DESC")
     List<ProductLike> findAllByUserIdWithProduct(@Param("userId") Long userId);
 
-    @Query("SELECT pl FROM ProductLike pl " +
-           "JOIN FETCH pl.user u " +
-           "JOIN FETCH pl.product p " +
-           "ORDER BY pl.createdAt DESC")
-    List<ProductLike> findAllWithUserAndProduct();
-
-    @Query("SELECT pl.product.id, COUNT(pl) FROM ProductLike pl " +
-           "WHERE pl.product.id IN :productIds " +
-           "GROUP BY pl.product.id")
-    List<Object[]> countByProductIdIn(@Param("productIds") List<Long> productIds);
+    /**
+     * 관리자 좋아요 커서 조회 - 최신순(id 내림차순)으로 lastId 다음부터 seek 하며 COUNT 쿼리를 실행하지 않습니다.
+     * 첫 페이지는 lastId 를 null 로 전달합니다.
+     */
+    @Query(ADMIN_VIEW + ADMIN_CONDITION + "AND (:lastId IS NULL OR pl.id < :lastId) " + ADMIN_ORDER)
+    List<AdminLikeResponse> findAdminLikesAfter(@Param("userId") Long userId,
+                                                @Param("productId") Long productId,
+                                                @Param("likedFrom") LocalDateTime likedFrom,
+                                                @Param("likedTo") LocalDateTime likedTo,
+                                                @Param("lastId") Long lastId,
+                                                Pageable pageable);
 }
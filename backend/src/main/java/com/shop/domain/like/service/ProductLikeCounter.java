@@ -0,0 +1,219 @@
+package com.shop.domain.like.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shop.domain.like.event.ProductLikeChangedEvent;
+import com.shop.domain.like.repository.ProductLikeCountRepository;
+import com.shop.domain.product.repository.ProductListingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 좋아요 수 카운터 - product_likes 를 COUNT 하지 않고 좋아요 수를 제공합니다.
+ *
+ * - 좋아요 수 = DB 반영값(product_like_counts, 짧은 TTL 로 캐싱) + 아직 반영되지 않은 인메모리 증감분
+ * - 좋아요 토글이 커밋되면 상품별 LongAdder 에 증감분을 더하고, 주기적으로 한 트랜잭션에서 DB에 일괄 반영합니다.
+ *   상품 목록 조회 모델(product_listings)의 좋아요 수도 같은 트랜잭션에서 증감합니다.
+ * - 정합성 보정 작업이 product_likes 실제 건수 기준으로 카운터 테이블을 맞춥니다. (인스턴스 간 누락 · 중복 보정)
+ */
+@Slf4j
+@Component
+public class ProductLikeCounter {
+
+    private static final String CACHE_NAME = "productLikeCount";
+
+    private final ProductLikeCountRepository productLikeCountRepository;
+    private final ProductListingRepository productListingRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /** DB에 반영된 좋아요 수 - 다른 인스턴스의 반영분을 가져오도록 짧은 TTL 로 보관 */
+    private final Cache<Long, Long> persistedCounts;
+
+    /** 커밋되었으나 DB에 반영되지 않은 증감분 */
+    private final ConcurrentMap<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+
+    /** 커밋된 좋아요 / 좋아요 취소 수 */
+    private final Counter likedToggles;
+    private final Counter unlikedToggles;
+
+    /** DB 반영값 적재와 DB 반영(증감분 이동)이 서로 끼어들지 않도록 보호 */
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    public ProductLikeCounter(ProductLikeCountRepository productLikeCountRepository,
+                              ProductListingRepository productListingRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${shop.like.counter.maximum-size:10000}") long maximumSize,
+                              @Value("${shop.like.counter.ttl-seconds:30}") long ttlSeconds) {
+        this.productLikeCountRepository = productLikeCountRepository;
+        this.productListingRepository = productListingRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.persistedCounts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, persistedCounts, CACHE_NAME);
+        this.likedToggles = toggleCounter(meterRegistry, "like");
+        this.unlikedToggles = toggleCounter(meterRegistry, "unlike");
+    }
+
+    private static Counter toggleCounter(MeterRegistry meterRegistry, String action) {
+        return Counter.builder("like.toggles")
+                .description("커밋된 좋아요 토글 수")
+                .tag("action", action)
+                .register(meterRegistry);
+    }
+
+    public long getLikeCount(Long productId) {
+        return getLikeCounts(List.of(productId)).get(productId);
+    }
+
+    /**
+     * 상품별 좋아요 수 - 캐시에 없는 상품만 PK IN 조회로 한 번에 적재
+     */
+    public Map<Long, Long> getLikeCounts(Collection<Long> productIds) {
+        Map<Long, Long> persisted = new HashMap<>(persistedCounts.getAllPresent(productIds));
+        List<Long> missing = productIds.stream()
+                .filter(id -> !persisted.containsKey(id))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            persisted.putAll(loadPersisted(missing));
+        }
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Long productId : productIds) {
+            counts.put(productId, Math.max(0, persisted.get(productId) + pendingOf(productId)));
+        }
+        return counts;
+    }
+
+    /**
+     * 좋아요 토글이 커밋된 뒤 증감분 누적 - 트랜잭션 밖에서 발행된 경우 즉시 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductLikeChanged(ProductLikeChangedEvent event) {
+        (event.liked() ? likedToggles : unlikedToggles).increment();
+        pendingDeltas.computeIfAbsent(event.productId(), id -> new LongAdder())
+                .add(event.liked() ? 1 : -1);
+    }
+
+    /**
+     * 누적된 증감분을 DB에 일괄 반영 - 실패하면 증감분을 그대로 두고 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${shop.like.counter.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.writeLock().lock();
+        try {
+            flushPending();
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 정합성 보정 - 증감분을 먼저 반영한 뒤 카운터 테이블을 product_likes 실제 건수로 맞추고 캐시를 비웁니다.
+     * 보정 시점에 커밋 직후 반영 대기 중인 토글이 있으면 그만큼의 차이는 다음 보정에서 맞춰집니다.
+     * 기동 직후에도 한 번 실행하여 카운터 테이블이 비어 있는 기존 데이터를 채웁니다.
+     */
+    @Scheduled(fixedDelayString = "${shop.like.counter.reconcile-interval-ms:3600000}",
+               initialDelayString = "${shop.like.counter.reconcile-initial-delay-ms:10000}")
+    public void reconcile() {
+        flushLock.writeLock().lock();
+        try {
+            if (!flushPending()) {
+                return;
+            }
+            int[] fixed = transactionTemplate.execute(status -> new int[]{
+                    productLikeCountRepository.reconcileExisting(),
+                    productLikeCountRepository.reconcileMissing(),
+                    productListingRepository.syncLikeCounts()
+            });
+            persistedCounts.invalidateAll();
+            if (fixed[0] + fixed[1] + fixed[2] > 0) {
+                log.warn("좋아요 수 정합성 보정 - 수정 {}건, 생성 {}건, 목록 조회 모델 {}건", fixed[0], fixed[1], fixed[2]);
+            }
+        } catch (RuntimeException e) {
+            log.error("좋아요 수 정합성 보정 실패", e);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private boolean flushPending() {
+        SortedMap<Long, Long> drained = new TreeMap<>();
+        pendingDeltas.forEach((productId, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                drained.put(productId, delta);
+            }
+        });
+        if (drained.isEmpty()) {
+            return true;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach((productId, delta) -> {
+                if (productLikeCountRepository.addLikeCount(productId, delta) == 0) {
+                    productLikeCountRepository.insertLikeCount(productId, delta);
+                }
+                productListingRepository.addLikeCount(productId, delta);
+            }));
+        } catch (RuntimeException e) {
+            log.error("좋아요 수 DB 반영 실패 - 다음 주기에 재시도합니다. 대상 상품 수: {}", drained.size(), e);
+            return false;
+        }
+
+        // 반영값을 먼저 올리고 증감분을 빼므로, 조회 값은 두 연산 사이에만 잠시 많게 보일 수 있습니다.
+        drained.forEach((productId, delta) -> {
+            persistedCounts.asMap().computeIfPresent(productId, (id, count) -> count + delta);
+            pendingDeltas.get(productId).add(-delta);
+        });
+        log.debug("좋아요 수 반영 완료 - {}개 상품", drained.size());
+        return true;
+    }
+
+    private Map<Long, Long> loadPersisted(List<Long> productIds) {
+        flushLock.readLock().lock();
+        try {
+            Map<Long, Long> loaded = new HashMap<>();
+            productIds.forEach(id -> loaded.put(id, 0L));
+            for (Object[] row : productLikeCountRepository.findLikeCountsByProductIdIn(productIds)) {
+                loaded.put((Long) row[0], (Long) row[1]);
+            }
+            persistedCounts.putAll(loaded);
+            return loaded;
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    private long pendingOf(Long productId) {
+        LongAdder adder = pendingDeltas.get(productId);
+        return adder != null ? adder.sum() : 0;
+    }
+}
@@ -0,0 +1,146 @@
+package com.shop.domain.like.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.shop.domain.like.dto.AdminLikeFilter;
+import com.shop.domain.like.dto.AdminLikeResponse;
+import com.shop.domain.like.dto.LikeExportFormat;
+import com.shop.domain.like.repository.ProductLikeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 관리자 좋아요 내보내기 - 전체 좋아요를 List 로 모으지 않고 DB 커서에서 한 행씩 읽어 응답 스트림에 바로 씁니다.
+ * - 영속성 컨텍스트가 없는 StatelessSession 에서 DTO 프로젝션을 FORWARD_ONLY 로 스크롤하므로, 메모리 사용량이 건수와 무관합니다.
+ * - fetch size 만큼씩 DB 에서 가져옵니다. (PostgreSQL 은 autocommit 을 끈 트랜잭션 안에서만 커서로 동작하므로 트랜잭션을 엽니다)
+ * - 커넥션을 읽기 전용으로 전환합니다. (풀에 반환될 때 HikariCP 가 원래 값으로 되돌립니다)
+ * (shop.like.export.fetch-size, 기본값 500)
+ */
+@Component
+public class ProductLikeExporter {
+
+    private static final String EXPORT_QUERY = ProductLikeRepository.ADMIN_VIEW
+            + ProductLikeRepository.ADMIN_CONDITION
+            + ProductLikeRepository.ADMIN_ORDER;
+
+    private static final String CSV_HEADER = "likeId,userId,userEmail,userName,productId,productName,createdAt";
+
+    // 엑셀에서 한글이 깨지지 않도록 CSV 앞에 UTF-8 BOM 을 붙입니다.
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private final SessionFactory sessionFactory;
+    private final ObjectWriter rowWriter;
+    private final int fetchSize;
+
+    public ProductLikeExporter(EntityManagerFactory entityManagerFactory,
+                               ObjectMapper objectMapper,
+                               @Value("${shop.like.export.fetch-size:500}") int fetchSize) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        // 행마다 flush 하지 않고 JsonGenerator 버퍼가 찰 때만 내보냄
+        this.rowWriter = objectMapper.writerFor(AdminLikeResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 조건에 맞는 좋아요를 최신순으로 내보내고, 내보낸 건수를 반환합니다.
+     * 응답 본문을 쓰기 시작한 뒤의 오류는 상태 코드를 바꿀 수 없으므로 예외를 그대로 던져 연결을 끊습니다.
+     */
+    public long export(AdminLikeFilter filter, LikeExportFormat format, OutputStream out) throws IOException {
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.doWork(connection -> connection.setReadOnly(true));
+            Transaction transaction = session.beginTransaction();
+            try (ScrollableResults<AdminLikeResponse> rows = session
+                    .createSelectionQuery(EXPORT_QUERY, AdminLikeResponse.class)
+                    .setParameter("userId", filter.userId())
+                    .setParameter("productId", filter.productId())
+                    .setParameter("likedFrom", filter.likedFrom())
+                    .setParameter("likedTo", filter.likedTo())
+                    .setReadOnly(true)
+                    .setFetchSize(fetchSize)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                long count = format == LikeExportFormat.JSON ? writeJson(rows, out) : writeCsv(rows, out);
+                transaction.commit();
+                return count;
+            } catch (IOException | RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw e;
+            }
+        }
+    }
+
+    private long writeJson(ScrollableResults<AdminLikeResponse> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (JsonGenerator generator = rowWriter.createGenerator(out)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫도록 둠
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            while (rows.next()) {
+                rowWriter.writeValue(generator, rows.get());
+                count++;
+            }
+            generator.writeEndArray();
+        }
+        return count;
+    }
+
+    private long writeCsv(ScrollableResults<AdminLikeResponse> rows, OutputStream out) throws IOException {
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(UTF8_BOM);
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        while (rows.next()) {
+            AdminLikeResponse like = rows.get();
+            writer.write(String.valueOf(like.getLikeId()));
+            writer.write(',');
+            writer.write(String.valueOf(like.getUserId()));
+            writer.write(',');
+            writer.write(csvField(like.getUserEmail()));
+            writer.write(',');
+            writer.write(csvField(like.getUserName()));
+            writer.write(',');
+            writer.write(String.valueOf(like.getProductId()));
+            writer.write(',');
+            writer.write(csvField(like.getProductName()));
+            writer.write(',');
+            writer.write(like.getCreatedAt() != null ? like.getCreatedAt().toString() : "");
+            writer.write("\r\n");
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * RFC 4180 - 쉼표 · 따옴표 · 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씁니다.
+     * 스프레드시트가 수식으로 해석하지 않도록 =, +, -, @ 로 시작하는 값 앞에는 작은따옴표를 붙입니다.
+     */
+    private static String csvField(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String text = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -1,56 +1,70 @@
 package com.shop.domain.like.service;
 
+import com.shop.domain.like.dto.AdminLikeFilter;
+import com.shop.domain.like.dto.AdminLikePageResponse;
 import com.shop.domain.like.dto.AdminLikeResponse;
 import com.shop.domain.like.dto.LikeToggleResponse;
 import com.shop.domain.like.dto.LikedProductResponse;
 import com.shop.domain.like.entity.ProductLike;
+import com.shop.domain.like.event.ProductLikeChangedEvent;
 import com.shop.domain.like.repository.ProductLikeRepository;
-import com.shop.domain.product.entity.Product;
 import com.shop.domain.product.repository.ProductRepository;
-import com.shop.domain.user.entity.User;
 import com.shop.domain.user.repository.UserRepository;
 import com.shop.global.exception.BusinessException;
 import com.shop.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductLikeService {
 
+    private static final int MAX_ADMIN_PAGE_SIZE = 500;
+
     private final ProductLikeRepository productLikeRepository;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
+    private final ProductLikeCounter productLikeCounter;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /**
+     * 좋아요 토글 - 사용자/상품은 존재 여부만 확인하고 참조로 연결하며,
+     * 좋아요 수는 COUNT 대신 카운터 값에 이번 토글을 더해 응답합니다. (카운터 반영은 커밋 이후)
+     */
     @Transactional
     public LikeToggleResponse toggleLike(Long userId, Long productId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-        Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+        if (!userRepository.existsById(userId)) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        if (!productRepository.existsById(productId)) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
 
         Optional<ProductLike> existing = productLikeRepository.findByUserIdAndProductId(userId, productId);
+        long count = productLikeCounter.getLikeCount(productId);
 
         if (existing.isPresent()) {
             productLikeRepository.delete(existing.get());
-            long count = productLikeRepository.countByProductId(productId);
-            return new LikeToggleResponse(false, count);
+            eventPublisher.publishEvent(new ProductLikeChangedEvent(productId, false));
+            return new LikeToggleResponse(false, Math.max(0, count - 1));
         } else {
-            productLikeRepository.save(ProductLike.of(user, product));
-            long count = productLikeRepository.countByProductId(productId);
-            return new LikeToggleResponse(true, count);
+            productLikeRepository.save(ProductLike.of(
+                userRepository.getReferenceById(userId), productRepository.getReferenceById(productId)));
+            eventPublisher.publishEvent(new ProductLikeChangedEvent(productId, true));
+            return new LikeToggleResponse(true, count + 1);
         }
     }
 
     public long getLikeCount(Long productId) {
-        return productLikeRepository.countByProductId(productId);
+        return productLikeCounter.getLikeCount(productId);
     }
 
     public boolean isLiked(Long userId, Long productId) {
@@ -63,17 +77,32 @@ public class ProductLikeService {
             .toList();
     }
 
-    public List<AdminLikeResponse> getAllLikes() {
-        return productLikeRepository.findAllWithUserAndProduct().stream()
-            .map(AdminLikeResponse::from)
-            .toList();
+    /**
+     * 관리자 좋아요 커서 조회 - size + 1 건을 조회해 다음 페이지 존재 여부를 판단하고,
+     * 마지막 좋아요 ID 를 다음 요청의 cursor 로 돌려줍니다. 전체 내보내기는 ProductLikeExporter 를 사용합니다.
+     */
+    public AdminLikePageResponse getAdminLikes(AdminLikeFilter filter, Long cursor, int size) {
+        if (size < 1 || size > MAX_ADMIN_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                "페이지 크기는 1 이상 " + MAX_ADMIN_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        List<AdminLikeResponse> likes = productLikeRepository.findAdminLikesAfter(
+            filter.userId(), filter.productId(), filter.likedFrom(), filter.likedTo(),
+            cursor, PageRequest.ofSize(size + 1));
+
+        boolean hasNext = likes.size() > size;
+        List<AdminLikeResponse> pageContent = hasNext ? likes.subList(0, size) : likes;
+
+        return AdminLikePageResponse.builder()
+            .content(pageContent)
+            .nextCursor(hasNext ? pageContent.get(pageContent.size() - 1).getLikeId() : null)
+            .hasNext(hasNext)
+            .size(size)
+            .build();
     }
 
     public Map<Long, Long> getLikeCountMap(List<Long> productIds) {
-        return productLikeRepository.countByProductIdIn(productIds).stream()
-            .collect(Collectors.toMap(
-                row -> (Long) row[0],
-                row -> (Long) row[1]
-            ));
+        return productLikeCounter.getLikeCounts(productIds);
     }
 }
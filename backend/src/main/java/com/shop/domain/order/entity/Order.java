@@ -21,7 +21,8 @@ import java.util.List;
 public class Order extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -80,7 +81,20 @@ public class Order extends BaseEntity {
         this.totalPrice = totalPrice;
     }
 
+    /**
+     * 결제 완료 처리가 가능한 상태인지 - 결제 대기(PENDING) 또는 주문 확인(CONFIRMED)
+     */
+    public boolean isPayable() {
+        return this.status == OrderStatus.PENDING || this.status == OrderStatus.CONFIRMED;
+    }
+
+    /**
+     * 결제 완료 - 결제 대기 · 주문 확인 상태에서만 가능 (취소된 주문이 다시 PAID 가 되지 않도록)
+     */
     public void markPaid() {
+        if (!isPayable()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "결제 완료 처리할 수 없는 주문 상태입니다: " + this.status);
+        }
         this.status = OrderStatus.PAID;
     }
 }
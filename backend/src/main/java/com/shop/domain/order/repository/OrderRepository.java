@@ -40,4 +40,13 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
            "JOIN FETCH i.product " +
            "WHERE o.id = :orderId")
     Optional<Order> findByIdWithItems(@Param("orderId") Long orderId);
+
+    /**
+     * 주문 상세 조회 + 소유자 검증 - 사용자 조건까지 한 쿼리로 처리 (OrderItem 및 Product Fetch Join)
+     */
+    @Query("SELECT DISTINCT o FROM Order o " +
+           "JOIN FETCH o.items i " +
+           "JOIN FETCH i.product " +
+           "WHERE o.id = :orderId AND o.user.id = :userId")
+    Optional<Order> findByIdAndUserIdWithItems(@Param("orderId") Long orderId, @Param("userId") Long userId);
 }
@@ -0,0 +1,25 @@
+package com.shop.domain.order.service;
+
+import com.shop.domain.order.entity.Order;
+import com.shop.domain.order.repository.OrderRepository;
+import com.shop.global.exception.BusinessException;
+import com.shop.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소유자 검증을 포함한 주문 로더 - 주문 상세 · 주문 취소 · 클레임 접수가 함께 사용합니다.
+ * 사용자 조건을 fetch join 쿼리에 함께 걸어, 소유자 확인과 items + product 로드를 한 번의 조회로 처리합니다.
+ * 다른 사용자의 주문은 존재하지 않는 주문과 구분하지 않고 ORDER_NOT_FOUND 로 응답합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderLoader {
+
+    private final OrderRepository orderRepository;
+
+    public Order loadOwnedWithItems(Long userId, Long orderId) {
+        return orderRepository.findByIdAndUserIdWithItems(orderId, userId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+    }
+}
@@ -0,0 +1,33 @@
+package com.shop.domain.order.service;
+
+/**
+ * 주문번호 생성 전략 - Toss 결제 orderId 로도 사용되므로 전역적으로 유일해야 합니다.
+ */
+public interface OrderNumberGenerator {
+
+    String PREFIX = "ORD";
+
+    String generate();
+
+    /**
+     * 주문번호 형식 검증
+     * - 현재 형식: ORD + yyyyMMdd + 하루 중 밀리초(8) + 시퀀스(2) + 노드(2) = 23자
+     * - 이전 형식: ORD + yyyyMMdd + 난수(4) = 15자 (기존 주문 조회를 위해 계속 허용)
+     */
+    static boolean isWellFormed(String orderNumber) {
+        if (orderNumber == null || !orderNumber.startsWith(PREFIX)) {
+            return false;
+        }
+        int length = orderNumber.length();
+        if (length != TimeOrderedOrderNumberGenerator.LENGTH && length != TimeOrderedOrderNumberGenerator.LEGACY_LENGTH) {
+            return false;
+        }
+        for (int i = PREFIX.length(); i < length; i++) {
+            char c = orderNumber.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -15,13 +15,18 @@ import com.shop.domain.payment.entity.Payment;
 import com.shop.domain.payment.entity.PaymentMethod;
 import com.shop.domain.payment.entity.PaymentStatus;
 import com.shop.domain.payment.repository.PaymentRepository;
-import com.shop.domain.payment.service.PaymentService;
+import com.shop.domain.payment.service.PaymentCancelOutboxService;
 import com.shop.domain.product.entity.Product;
 import com.shop.domain.product.repository.ProductRepository;
+import com.shop.domain.product.service.StockReservationService;
 import com.shop.domain.user.entity.User;
 import com.shop.domain.user.repository.UserRepository;
 import com.shop.global.exception.BusinessException;
 import com.shop.global.exception.ErrorCode;
+import com.shop.global.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,11 +34,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -43,22 +45,58 @@ import java.util.stream.Collectors;
 public class OrderService {
 
     private final OrderRepository orderRepository;
+    private final OrderLoader orderLoader;
     private final ProductRepository productRepository;
     private final UserRepository userRepository;
     private final CartService cartService;
     private final PaymentRepository paymentRepository;
-    private final PaymentService paymentService;
+    private final PaymentCancelOutboxService paymentCancelOutboxService;
     private final ClaimRepository claimRepository;
+    private final StockReservationService stockReservationService;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 주문 생성 - 재고 감소, 가격 스냅샷, 장바구니 정리를 @Transactional 내에서 원자적으로 처리
+     * 소요 시간은 커밋(배치 INSERT 포함)까지 order.create 타이머에 결과(outcome)별로 기록하며,
+     * 재고 부족으로 거절된 주문은 order.stock.rejected 카운터에도 기록합니다.
      */
     public OrderResponse createOrder(Long userId, CreateOrderRequest request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            OrderResponse response = placeOrder(userId, request);
+            TransactionCallbacks.afterCompletion(
+                    () -> sample.stop(orderCreateTimer("success")),
+                    () -> sample.stop(orderCreateTimer("rolled_back"))
+            );
+            return response;
+        } catch (RuntimeException e) {
+            ErrorCode errorCode = e instanceof BusinessException be ? be.getErrorCode() : null;
+            sample.stop(orderCreateTimer(errorCode != null ? errorCode.name() : "error"));
+            if (errorCode == ErrorCode.OUT_OF_STOCK) {
+                Counter.builder("order.stock.rejected")
+                        .description("재고 부족으로 거절된 주문 수")
+                        .register(meterRegistry)
+                        .increment();
+            }
+            throw e;
+        }
+    }
+
+    private Timer orderCreateTimer(String outcome) {
+        return Timer.builder("order.create")
+                .description("주문 생성 소요 시간 (커밋 포함)")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private OrderResponse placeOrder(Long userId, CreateOrderRequest request) {
         List<CreateOrderRequest.OrderItemRequest> itemRequests = request.getItems();
 
         // Order 엔티티 생성
         User user = userRepository.getReferenceById(userId);
-        String orderNumber = generateOrderNumber();
+        String orderNumber = orderNumberGenerator.generate();
         Order order = Order.builder()
                 .user(user)
                 .totalPrice(BigDecimal.ZERO)
@@ -69,13 +107,37 @@ public class OrderService {
                 .shippingMemo(request.getShippingMemo())
                 .build();
 
+        Map<Long, Integer> quantities = itemRequests.stream()
+                .collect(Collectors.toMap(
+                        CreateOrderRequest.OrderItemRequest::getProductId,
+                        CreateOrderRequest.OrderItemRequest::getQuantity,
+                        Integer::sum
+                ));
+
+        // 인메모리 재고 예약이 활성화된 경우 행 잠금 없이 예약으로 재고를 확보 (커밋 후 일괄 DB 반영)
+        // 아니면 주문 상품 전체를 id 순서로 한 번에 잠가 교착 상태와 상품별 왕복 쿼리를 방지
+        boolean reserved = stockReservationService.isEnabled();
+        if (reserved) {
+            stockReservationService.reserve(quantities);
+        }
+        List<Product> products = quantities.isEmpty() ? List.of()
+                : reserved ? productRepository.findAllById(quantities.keySet())
+                : productRepository.findAllByIdInForUpdate(quantities.keySet());
+
+        Map<Long, Product> productMap = products.stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        if (productMap.size() != quantities.size()) {
+            throw new BusinessException(ErrorCode.PRODUCT_NOT_FOUND);
+        }
+
         BigDecimal totalPrice = BigDecimal.ZERO;
 
         for (CreateOrderRequest.OrderItemRequest itemRequest : itemRequests) {
-            Product product = productRepository.findByIdForUpdate(itemRequest.getProductId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+            Product product = productMap.get(itemRequest.getProductId());
 
-            product.decreaseStock(itemRequest.getQuantity());
+            if (!reserved) {
+                product.decreaseStock(itemRequest.getQuantity());
+            }
 
             OrderItem orderItem = OrderItem.builder()
                     .order(order)
@@ -116,13 +178,8 @@ public class OrderService {
      */
     @Transactional(readOnly = true)
     public OrderResponse getOrder(Long userId, Long orderId) {
-        // 소유자 검증 (본인 주문인지 확인)
-        orderRepository.findByIdAndUserId(orderId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
-
-        // items, items.product Fetch Join으로 N+1 방지
-        Order order = orderRepository.findByIdWithItems(orderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+        // 소유자 검증 + items, items.product Fetch Join 을 한 쿼리로 (N+1 방지)
+        Order order = orderLoader.loadOwnedWithItems(userId, orderId);
 
         return OrderResponse.from(order);
     }
@@ -155,31 +212,31 @@ public class OrderService {
     }
 
     /**
-     * 주문 취소 - 소유자 검증, 상태 검증, 재고 복구, 클레임 생성을 @Transactional 내에서 원자적으로 처리
+     * 주문 취소 - 소유자 검증, 상태 검증, 재고 복구, 클레임 생성, 결제 취소 요청 등록을 @Transactional 내에서 원자적으로 처리
+     * 토스 결제 취소가 필요한 경우 클레임은 환불이 끝날 때까지 PROCESSING 으로 남습니다. (PaymentCancelOutboxService 참고)
      */
     public OrderResponse cancelOrder(Long userId, Long orderId) {
-        // 소유자 검증
-        orderRepository.findByIdAndUserId(orderId, userId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
-
-        // items, items.product Fetch Join으로 재고 복구 시 N+1 방지
-        Order order = orderRepository.findByIdWithItems(orderId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ORDER_NOT_FOUND));
+        // 소유자 검증 + items, items.product Fetch Join 으로 재고 복구 시 N+1 방지
+        Order order = orderLoader.loadOwnedWithItems(userId, orderId);
 
         // 취소 가능 여부 검증 및 상태 변경 (SHIPPING, DELIVERED 상태에서 예외 발생)
         order.cancel();
 
         // 각 OrderItem의 재고 복구
         for (OrderItem item : order.getItems()) {
-            item.getProduct().increaseStock(item.getQuantity());
+            stockReservationService.restock(item.getProduct(), item.getQuantity());
         }
 
-        // 결제 정보 조회 및 환불 처리
-        Payment payment = paymentRepository.findByOrderId(orderId).orElse(null);
+        // 결제 정보 조회 및 환불 처리 - 결제 행을 잠가 진행 중인 결제 승인 반영과 순서를 정함
+        // (승인 반영이 먼저 커밋되면 COMPLETED 를 보고 토스 취소를 등록, 나중이면 승인 반영 쪽이 취소된 주문을 보고 토스 취소를 등록)
+        Payment payment = paymentRepository.findByOrderIdForUpdate(orderId).orElse(null);
+        boolean refundPending = false;
         if (payment != null) {
-            // #4: 결제 완료(COMPLETED) 상태인 경우 토스 결제 취소 API 호출
+            // #4: 결제 완료(COMPLETED) 상태인 경우 토스 결제 취소를 아웃박스에 등록
+            // (토스 API 는 커밋 이후 디스패처가 호출하고, 성공 시 환불 · 클레임 완료 처리 - 잠금을 쥔 채 외부 응답을 기다리지 않음)
             if (payment.getPaymentStatus() == PaymentStatus.COMPLETED && payment.getPaymentKey() != null) {
-                paymentService.cancelTossPayment(payment.getId(), "주문 취소");
+                paymentCancelOutboxService.enqueue(payment, "주문 취소");
+                refundPending = true;
             } else {
                 payment.refund();
             }
@@ -208,17 +265,15 @@ public class OrderService {
             claim.addItem(claimItem);
         }
 
-        // 즉시 완료 처리 (배송 전 취소이므로)
-        claim.complete();
+        // 토스 환불이 남아 있으면 처리중으로 두고 아웃박스 완료 시 완료 처리, 아니면 즉시 완료 (배송 전 취소이므로)
+        if (refundPending) {
+            claim.startProcessing();
+        } else {
+            claim.complete();
+        }
 
         claimRepository.save(claim);
 
         return OrderResponse.from(order);
     }
-
-    private String generateOrderNumber() {
-        String datePart = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-        String randomPart = String.format("%04d", new Random().nextInt(10000));
-        return "ORD" + datePart + randomPart;
-    }
 }
@@ -0,0 +1,140 @@
+package com.shop.domain.order.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노드별 시간순 주문번호 생성기
+ * 형식: ORD + yyyyMMdd + 하루 중 밀리초(8) + 시퀀스(2) + 노드(2) 예) ORD20250101452967890301
+ *
+ * - 밀리초당 노드별 100건까지 발급하며, 초과 시 다음 밀리초를 미리 당겨 써서 항상 증가하는 값을 보장합니다.
+ *   당겨 쓰기는 현재 시각보다 최대 MAX_AHEAD_MILLIS 까지만 허용하고, 그보다 앞서면 시계가 따라올 때까지 기다립니다.
+ * - 재기동 직후 이전 프로세스가 당겨 쓴 번호를 다시 발급하지 않도록, 생성 시 MAX_AHEAD_MILLIS 만큼 기다린 뒤 발급을 시작합니다.
+ *   (이전 프로세스가 발급한 번호는 종료 시각 + MAX_AHEAD_MILLIS 를 넘지 않음 - 단, 재기동 사이에 시스템 시계가 뒤로 돌아가면 보장되지 않음)
+ * - 노드 ID(shop.order-number.node-id, 환경 변수 ORDER_NODE_ID)는 인스턴스마다 달라야 인스턴스 간 충돌이 없습니다.
+ *   모든 인스턴스가 같은 기본값을 쓰지 않도록 기본값이 없으며, 설정하지 않으면 기동에 실패합니다.
+ * - 날짜 접두어는 하루 단위로 캐싱하여 호출마다 포매터/문자열을 새로 만들지 않습니다.
+ */
+@Component
+public class TimeOrderedOrderNumberGenerator implements OrderNumberGenerator {
+
+    static final int LENGTH = 23;
+    static final int LEGACY_LENGTH = 15;
+
+    private static final int SEQUENCE_PER_MILLI = 100;
+    private static final int MAX_NODE_ID = 99;
+    static final long MAX_AHEAD_MILLIS = 100;
+
+    private final Clock clock;
+    private final ZoneId zone;
+    private final int nodeId;
+
+    /** 마지막으로 발급한 (epochMillis * 100 + 시퀀스) */
+    private final AtomicLong lastIssued = new AtomicLong();
+
+    private volatile DayPrefix dayPrefix;
+
+    @Autowired
+    public TimeOrderedOrderNumberGenerator(@Value("${shop.order-number.node-id:}") String nodeId) {
+        this(parseNodeId(nodeId), Clock.systemDefaultZone());
+    }
+
+    public TimeOrderedOrderNumberGenerator(int nodeId, Clock clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("shop.order-number.node-id는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+        this.zone = clock.getZone();
+        waitOutPreviousRun();
+    }
+
+    private static int parseNodeId(String nodeId) {
+        if (nodeId == null || nodeId.isBlank()) {
+            throw new IllegalStateException(
+                    "shop.order-number.node-id(ORDER_NODE_ID)를 인스턴스마다 다른 값(0~" + MAX_NODE_ID + ")으로 설정해야 합니다.");
+        }
+        try {
+            return Integer.parseInt(nodeId.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("shop.order-number.node-id는 숫자여야 합니다: " + nodeId, e);
+        }
+    }
+
+    /**
+     * 이전 프로세스가 당겨 쓴 구간(최대 MAX_AHEAD_MILLIS)이 지날 때까지 대기
+     */
+    private static void waitOutPreviousRun() {
+        try {
+            Thread.sleep(MAX_AHEAD_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("주문번호 생성기 초기화가 중단되었습니다.", e);
+        }
+    }
+
+    @Override
+    public String generate() {
+        long issued;
+        while (true) {
+            long now = clock.millis();
+            long previous = lastIssued.get();
+            issued = Math.max(previous + 1, now * SEQUENCE_PER_MILLI);
+            if (issued / SEQUENCE_PER_MILLI > now + MAX_AHEAD_MILLIS) {
+                // 밀리초당 100건을 넘는 발급이 MAX_AHEAD_MILLIS 동안 이어진 경우 - 시계가 따라올 때까지 대기
+                Thread.onSpinWait();
+                continue;
+            }
+            if (lastIssued.compareAndSet(previous, issued)) {
+                break;
+            }
+        }
+
+        long epochMillis = issued / SEQUENCE_PER_MILLI;
+        int sequence = (int) (issued % SEQUENCE_PER_MILLI);
+
+        DayPrefix day = dayPrefixOf(epochMillis);
+        StringBuilder sb = new StringBuilder(LENGTH).append(day.prefix());
+        appendPadded(sb, epochMillis - day.startMillis(), 8);
+        appendPadded(sb, sequence, 2);
+        appendPadded(sb, nodeId, 2);
+        return sb.toString();
+    }
+
+    private DayPrefix dayPrefixOf(long epochMillis) {
+        DayPrefix day = dayPrefix;
+        if (day != null && epochMillis >= day.startMillis() && epochMillis < day.endMillis()) {
+            return day;
+        }
+
+        LocalDate date = Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDate();
+        long startMillis = date.atStartOfDay(zone).toInstant().toEpochMilli();
+        long endMillis = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        StringBuilder prefix = new StringBuilder(PREFIX.length() + 8).append(PREFIX);
+        appendPadded(prefix, date.getYear(), 4);
+        appendPadded(prefix, date.getMonthValue(), 2);
+        appendPadded(prefix, date.getDayOfMonth(), 2);
+
+        day = new DayPrefix(startMillis, endMillis, prefix.toString());
+        dayPrefix = day;
+        return day;
+    }
+
+    private static void appendPadded(StringBuilder sb, long value, int width) {
+        String digits = Long.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            sb.append('0');
+        }
+        sb.append(digits);
+    }
+
+    private record DayPrefix(long startMillis, long endMillis, String prefix) {
+    }
+}
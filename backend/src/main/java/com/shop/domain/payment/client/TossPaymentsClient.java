@@ -0,0 +1,217 @@
+package com.shop.domain.payment.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.global.config.TossPaymentsProperties;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * 토스페이먼츠 결제 API 클라이언트
+ * 트랜잭션과 무관하게 HTTP 호출만 담당하며, 실패는 {@link TossPaymentsException}으로 변환합니다.
+ * - 공용 RestTemplate 대신 전용 JDK HttpClient 를 사용해 커넥션을 keep-alive 로 재사용합니다. (https 는 HTTP/2 협상)
+ * - API 별로 응답 타임아웃과 벌크헤드(동시 호출 수)를 따로 두어, 느린 취소 호출이 승인 호출의 자리를 뺏지 않습니다.
+ * - 네트워크 오류 · 5xx · 429 비율이 임계치를 넘으면 서킷이 열려 토스를 호출하지 않고 바로 CIRCUIT_OPEN 으로 실패합니다.
+ * 호출마다 toss.payments.requests 타이머에 operation(confirm | cancel), outcome, 토스 오류 코드별로 기록합니다.
+ */
+@Component
+public class TossPaymentsClient {
+
+    private static final String CONFIRM_PATH = "/v1/payments/confirm";
+    private static final String CANCEL_PATH = "/v1/payments/{paymentKey}/cancel";
+
+    private static final String CONFIRM = "confirm";
+    private static final String CANCEL = "cancel";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final MeterRegistry meterRegistry;
+    private final String baseUrl;
+    private final String authorization;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<String, Bulkhead> bulkheads;
+    private final Map<String, Duration> timeouts;
+
+    public TossPaymentsClient(TossPaymentsProperties tossProperties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.baseUrl = tossProperties.getBaseUrl();
+        this.authorization = "Basic " + Base64.getEncoder()
+                .encodeToString((tossProperties.getSecretKey() + ":").getBytes(StandardCharsets.UTF_8));
+        // 평문 http(로컬 스텁 등)에서는 h2c 업그레이드 왕복을 피하려고 HTTP/1.1 keep-alive 만 사용
+        this.httpClient = HttpClient.newBuilder()
+                .version(baseUrl.startsWith("https") ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .connectTimeout(tossProperties.getConnectTimeout())
+                .build();
+
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(
+                circuitBreakerConfig(tossProperties.getCircuitBreaker()));
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker("tossPayments");
+
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        this.bulkheads = Map.of(
+                CONFIRM, bulkheadRegistry.bulkhead("tossPayments." + CONFIRM, bulkheadConfig(tossProperties.getConfirm())),
+                CANCEL, bulkheadRegistry.bulkhead("tossPayments." + CANCEL, bulkheadConfig(tossProperties.getCancel()))
+        );
+        this.timeouts = Map.of(
+                CONFIRM, tossProperties.getConfirm().getTimeout(),
+                CANCEL, tossProperties.getCancel().getTimeout()
+        );
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    }
+
+    public void confirm(String paymentKey, String orderId, long amount) {
+        Map<String, Object> body = Map.of(
+                "paymentKey", paymentKey,
+                "orderId", orderId,
+                "amount", amount
+        );
+        // 멱등키 - 네트워크 재시도 시 중복 결제 방지
+        post(CONFIRM, CONFIRM_PATH, body, orderId);
+    }
+
+    public void cancel(String paymentKey, String idempotencyKey, String cancelReason) {
+        // 멱등키 - 취소 재시도 시 중복 취소 방지
+        post(CANCEL, CANCEL_PATH, Map.of("cancelReason", cancelReason), idempotencyKey, paymentKey);
+    }
+
+    private void post(String operation, String path, Object body, String idempotencyKey, Object... uriVariables) {
+        HttpRequest request = HttpRequest.newBuilder(uri(path, uriVariables))
+                .timeout(timeouts.get(operation))
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("Idempotency-Key", idempotencyKey)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(body)))
+                .build();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            circuitBreaker.executeRunnable(Bulkhead.decorateRunnable(bulkheads.get(operation), () -> send(request)));
+            sample.stop(requestTimer(operation, "success", "NONE"));
+        } catch (TossPaymentsException e) {
+            sample.stop(requestTimer(operation, outcome(e), e.getCode()));
+            throw e;
+        } catch (CallNotPermittedException e) {
+            sample.stop(requestTimer(operation, "rejected", "CIRCUIT_OPEN"));
+            throw new TossPaymentsException(0, "CIRCUIT_OPEN", "토스페이먼츠 호출이 차단되었습니다 (서킷 열림)", e);
+        } catch (BulkheadFullException e) {
+            sample.stop(requestTimer(operation, "rejected", "BULKHEAD_FULL"));
+            throw new TossPaymentsException(0, "BULKHEAD_FULL", "토스페이먼츠 동시 호출 한도를 초과했습니다", e);
+        }
+    }
+
+    private void send(HttpRequest request) {
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (HttpTimeoutException e) {
+            throw new TossPaymentsException(0, "TIMEOUT", e.getMessage(), e);
+        } catch (IOException e) {
+            throw new TossPaymentsException(0, "NETWORK_ERROR", e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TossPaymentsException(0, "NETWORK_ERROR", "토스페이먼츠 호출 중 인터럽트되었습니다", e);
+        }
+
+        if (response.statusCode() >= 400) {
+            Map<String, String> error = parseError(response.body());
+            throw new TossPaymentsException(response.statusCode(), error.get("code"), error.get("message"), null);
+        }
+    }
+
+    private URI uri(String path, Object... uriVariables) {
+        return UriComponentsBuilder.fromHttpUrl(baseUrl)
+                .path(path)
+                .buildAndExpand(uriVariables)
+                .encode()
+                .toUri();
+    }
+
+    private static byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("토스페이먼츠 요청 본문을 직렬화할 수 없습니다", e);
+        }
+    }
+
+    private static String outcome(TossPaymentsException e) {
+        if (e.getStatus() == 0) {
+            return "network_error";
+        }
+        return e.isClientError() ? "client_error" : "server_error";
+    }
+
+    /**
+     * 재시도해야 하는 실패(네트워크 오류 · 타임아웃 · 5xx · 429)만 실패율에 반영합니다.
+     * 4xx 는 토스가 정상 응답한 것이므로 성공으로, 벌크헤드 거절은 토스를 호출하지 않았으므로 집계에서 제외합니다.
+     */
+    private static CircuitBreakerConfig circuitBreakerConfig(TossPaymentsProperties.CircuitBreaker properties) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedCallsInHalfOpenState())
+                .recordException(e -> e instanceof TossPaymentsException tossException && tossException.isRetryable())
+                .ignoreExceptions(BulkheadFullException.class)
+                .build();
+    }
+
+    private static BulkheadConfig bulkheadConfig(TossPaymentsProperties.Operation properties) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+                .maxWaitDuration(properties.getMaxWait())
+                .build();
+    }
+
+    private Timer requestTimer(String operation, String outcome, String code) {
+        return Timer.builder("toss.payments.requests")
+                .description("토스페이먼츠 API 호출 소요 시간")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("code", code)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Map<String, String> parseError(String responseBody) {
+        try {
+            JsonNode node = objectMapper.readTree(responseBody);
+            String code = node.has("code") ? node.get("code").asText() : "UNKNOWN";
+            String message = node.has("message") ? node.get("message").asText() : responseBody;
+            return Map.of("code", code, "message", message);
+        } catch (Exception e) {
+            return Map.of("code", "UNKNOWN", "message", responseBody);
+        }
+    }
+}
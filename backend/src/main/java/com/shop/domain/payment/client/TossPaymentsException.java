@@ -0,0 +1,31 @@
+package com.shop.domain.payment.client;
+
+import lombok.Getter;
+
+/**
+ * 토스페이먼츠 API 호출 실패
+ * status 가 0 이면 응답을 받지 못한 경우(연결 실패, 타임아웃 등)입니다.
+ */
+@Getter
+public class TossPaymentsException extends RuntimeException {
+
+    private final int status;
+    private final String code;
+
+    public TossPaymentsException(int status, String code, String message, Throwable cause) {
+        super(message, cause);
+        this.status = status;
+        this.code = code;
+    }
+
+    public boolean isClientError() {
+        return status >= 400 && status < 500;
+    }
+
+    /**
+     * 재시도로 성공할 수 있는 실패인지 여부 - 네트워크 오류, 5xx, 429
+     */
+    public boolean isRetryable() {
+        return status == 0 || status >= 500 || status == 429;
+    }
+}
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class Payment extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -72,6 +73,13 @@ public class Payment extends BaseEntity {
         this.paymentStatus = PaymentStatus.FAILED;
     }
 
+    /**
+     * 결제 취소(환불) 실패 - 토스 취소를 더 이상 재시도하지 않는 경우, 주문은 취소됐지만 결제는 남아 있음을 표시
+     */
+    public void cancelFailed() {
+        this.paymentStatus = PaymentStatus.CANCEL_FAILED;
+    }
+
     public void refund() {
         this.paymentStatus = PaymentStatus.REFUNDED;
         this.refundAmount = this.paymentAmount;
@@ -0,0 +1,85 @@
+package com.shop.domain.payment.entity;
+
+import com.shop.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토스 결제 취소 아웃박스 - 주문 취소 트랜잭션과 함께 커밋되고, 실제 취소 API 호출은 디스패처가 비동기로 처리합니다.
+ */
+@Getter
+@Entity
+@Table(name = "payment_cancel_outbox", indexes = {
+    @Index(name = "idx_payment_cancel_outbox_status_next", columnList = "status, next_attempt_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentCancelOutbox extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long paymentId;
+
+    @Column(nullable = false)
+    private String paymentKey;
+
+    @Column(nullable = false)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private String cancelReason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PaymentCancelStatus status = PaymentCancelStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public static PaymentCancelOutbox of(Payment payment, String idempotencyKey, String cancelReason) {
+        PaymentCancelOutbox outbox = new PaymentCancelOutbox();
+        outbox.paymentId = payment.getId();
+        outbox.paymentKey = payment.getPaymentKey();
+        outbox.idempotencyKey = idempotencyKey;
+        outbox.cancelReason = cancelReason;
+        outbox.nextAttemptAt = LocalDateTime.now();
+        return outbox;
+    }
+
+    public void complete() {
+        this.status = PaymentCancelStatus.COMPLETED;
+        this.lastError = null;
+    }
+
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.status = PaymentCancelStatus.PENDING;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void fail(String error) {
+        this.status = PaymentCancelStatus.FAILED;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,8 @@
+package com.shop.domain.payment.entity;
+
+public enum PaymentCancelStatus {
+    PENDING,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
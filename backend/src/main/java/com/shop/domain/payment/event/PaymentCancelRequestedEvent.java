@@ -0,0 +1,7 @@
+package com.shop.domain.payment.event;
+
+/**
+ * 결제 취소 아웃박스 등록 이벤트 - 커밋 직후 디스패처가 폴링 주기를 기다리지 않고 바로 처리하도록 알립니다.
+ */
+public record PaymentCancelRequestedEvent(Long outboxId) {
+}
@@ -0,0 +1,36 @@
+package com.shop.domain.payment.repository;
+
+import com.shop.domain.payment.entity.PaymentCancelOutbox;
+import com.shop.domain.payment.entity.PaymentCancelStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PaymentCancelOutboxRepository extends JpaRepository<PaymentCancelOutbox, Long> {
+
+    /**
+     * 처리 시각이 된 대기 건 + 임대 시간이 만료된 처리 중 건 (처리 도중 인스턴스가 종료된 경우)
+     */
+    @Query("SELECT o.id FROM PaymentCancelOutbox o " +
+           "WHERE o.status IN ('PENDING', 'PROCESSING') AND o.nextAttemptAt <= :now " +
+           "ORDER BY o.nextAttemptAt")
+    List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatus(PaymentCancelStatus status);
+
+    /**
+     * 조건부 UPDATE로 처리 권한 선점 - 여러 워커/인스턴스가 같은 건을 동시에 처리하지 않도록 합니다.
+     * 선점에 성공하면 1, 다른 워커가 먼저 가져갔으면 0을 반환합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PaymentCancelOutbox o " +
+           "SET o.status = com.shop.domain.payment.entity.PaymentCancelStatus.PROCESSING, " +
+           "o.attempts = o.attempts + 1, o.nextAttemptAt = :leaseUntil " +
+           "WHERE o.id = :id AND o.status IN ('PENDING', 'PROCESSING') AND o.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -1,7 +1,11 @@
 package com.shop.domain.payment.repository;
 
 import com.shop.domain.payment.entity.Payment;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -9,5 +13,13 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     Optional<Payment> findByOrderId(Long orderId);
 
-    Optional<Payment> findByOrderOrderNumber(String orderNumber);
+    @Query("SELECT p FROM Payment p JOIN FETCH p.order o WHERE o.orderNumber = :orderNumber")
+    Optional<Payment> findByOrderNumberWithOrder(@Param("orderNumber") String orderNumber);
+
+    /**
+     * 결제 행 잠금(SELECT FOR UPDATE) 조회 - 결제 승인 반영과 주문 취소가 결제 상태를 확인하고 바꾸는 동안 서로 기다리게 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.order.id = :orderId")
+    Optional<Payment> findByOrderIdForUpdate(@Param("orderId") Long orderId);
 }
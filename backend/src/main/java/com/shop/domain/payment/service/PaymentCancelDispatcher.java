@@ -0,0 +1,94 @@
+package com.shop.domain.payment.service;
+
+import com.shop.domain.payment.client.TossPaymentsClient;
+import com.shop.domain.payment.client.TossPaymentsException;
+import com.shop.domain.payment.entity.PaymentCancelOutbox;
+import com.shop.domain.payment.event.PaymentCancelRequestedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 결제 취소 아웃박스 디스패처
+ * - 아웃박스 등록이 커밋되면 즉시 워커 풀에 제출하고, 실패/유실 건은 주기적인 폴링으로 다시 가져갑니다.
+ * - 토스 API 호출은 트랜잭션 밖에서 수행되어 DB 잠금이나 커넥션을 붙잡지 않습니다.
+ */
+@Slf4j
+@Component
+public class PaymentCancelDispatcher {
+
+    /** 이미 취소된 결제 - 이전 시도가 응답 유실 후 실제로는 성공한 경우 */
+    private static final String ALREADY_CANCELED = "ALREADY_CANCELED_PAYMENT";
+
+    private final PaymentCancelOutboxService outboxService;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final ThreadPoolTaskExecutor executor;
+    private final int batchSize;
+
+    public PaymentCancelDispatcher(PaymentCancelOutboxService outboxService,
+                                   TossPaymentsClient tossPaymentsClient,
+                                   @Value("${shop.payment.cancel-outbox.workers:4}") int workers,
+                                   @Value("${shop.payment.cancel-outbox.batch-size:50}") int batchSize) {
+        this.outboxService = outboxService;
+        this.tossPaymentsClient = tossPaymentsClient;
+        this.batchSize = batchSize;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(workers);
+        this.executor.setMaxPoolSize(workers);
+        this.executor.setQueueCapacity(batchSize * 4);
+        this.executor.setThreadNamePrefix("payment-cancel-");
+        this.executor.initialize();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onCancelRequested(PaymentCancelRequestedEvent event) {
+        submit(event.outboxId());
+    }
+
+    @Scheduled(fixedDelayString = "${shop.payment.cancel-outbox.poll-interval-ms:5000}")
+    public void poll() {
+        outboxService.findDueIds(batchSize).forEach(this::submit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void submit(Long outboxId) {
+        try {
+            executor.execute(() -> dispatch(outboxId));
+        } catch (TaskRejectedException e) {
+            // 워커 큐가 가득 찬 경우 다음 폴링에서 다시 가져감
+            log.warn("Payment cancel dispatch deferred (queue full): outboxId={}", outboxId);
+        }
+    }
+
+    void dispatch(Long outboxId) {
+        PaymentCancelOutbox outbox = outboxService.claim(outboxId).orElse(null);
+        if (outbox == null) {
+            return;
+        }
+
+        try {
+            tossPaymentsClient.cancel(outbox.getPaymentKey(), outbox.getIdempotencyKey(), outbox.getCancelReason());
+            outboxService.markCompleted(outboxId);
+        } catch (TossPaymentsException e) {
+            if (ALREADY_CANCELED.equals(e.getCode())) {
+                outboxService.markCompleted(outboxId);
+                return;
+            }
+            outboxService.markFailed(outboxId, e.getStatus() + " " + e.getCode() + ": " + e.getMessage(), e.isRetryable());
+        } catch (RuntimeException e) {
+            log.error("Payment cancel dispatch failed (unexpected): outboxId={}", outboxId, e);
+            outboxService.markFailed(outboxId, e.getMessage(), true);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.shop.domain.payment.service;
+
+import com.shop.domain.claim.entity.Claim;
+import com.shop.domain.claim.entity.ClaimStatus;
+import com.shop.domain.claim.entity.ClaimType;
+import com.shop.domain.claim.repository.ClaimRepository;
+import com.shop.domain.payment.entity.Payment;
+import com.shop.domain.payment.entity.PaymentCancelOutbox;
+import com.shop.domain.payment.entity.PaymentCancelStatus;
+import com.shop.domain.payment.entity.PaymentStatus;
+import com.shop.domain.payment.event.PaymentCancelRequestedEvent;
+import com.shop.domain.payment.repository.PaymentCancelOutboxRepository;
+import com.shop.domain.payment.repository.PaymentRepository;
+import com.shop.global.exception.BusinessException;
+import com.shop.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 토스 결제 취소 아웃박스의 상태 전이를 담당 - 각 메서드는 짧은 트랜잭션으로 실행되며 외부 API 호출은 포함하지 않습니다.
+ * - 취소 성공: 결제 REFUNDED, 환불을 기다리던 주문 취소 클레임(PROCESSING) 완료
+ * - 재시도 포기: 아웃박스 FAILED, 결제 CANCEL_FAILED (클레임은 PROCESSING 유지) - 주문은 취소됐지만 결제가 남아 있으므로
+ *   payment.cancel.gave_up 카운터와 payment.cancel.outbox.failed 게이지(FAILED 행 수)로 알림을 걸 수 있게 합니다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class PaymentCancelOutboxService {
+
+    private final PaymentCancelOutboxRepository outboxRepository;
+    private final PaymentRepository paymentRepository;
+    private final ClaimRepository claimRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Counter gaveUp;
+
+    public PaymentCancelOutboxService(PaymentCancelOutboxRepository outboxRepository,
+                                      PaymentRepository paymentRepository,
+                                      ClaimRepository claimRepository,
+                                      ApplicationEventPublisher eventPublisher,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${shop.payment.cancel-outbox.max-attempts:10}") int maxAttempts,
+                                      @Value("${shop.payment.cancel-outbox.initial-backoff-ms:5000}") long initialBackoffMs,
+                                      @Value("${shop.payment.cancel-outbox.max-backoff-ms:600000}") long maxBackoffMs,
+                                      @Value("${shop.payment.cancel-outbox.lease-ms:120000}") long leaseMs) {
+        this.outboxRepository = outboxRepository;
+        this.paymentRepository = paymentRepository;
+        this.claimRepository = claimRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.lease = Duration.ofMillis(leaseMs);
+
+        this.gaveUp = Counter.builder("payment.cancel.gave_up")
+                .description("재시도를 포기한 토스 결제 취소 수 (환불되지 않은 취소 주문)")
+                .register(meterRegistry);
+        Gauge.builder("payment.cancel.outbox.failed", outboxRepository,
+                        repository -> repository.countByStatus(PaymentCancelStatus.FAILED))
+                .description("처리되지 않은 FAILED 결제 취소 아웃박스 행 수 (수동 환불 필요)")
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 결제 취소 요청 등록 - 호출한 트랜잭션(주문 취소 등)과 함께 커밋됩니다.
+     */
+    public void enqueue(Payment payment, String cancelReason) {
+        PaymentCancelOutbox outbox = outboxRepository.save(
+                PaymentCancelOutbox.of(payment, PaymentService.cancelIdempotencyKey(payment), cancelReason));
+        eventPublisher.publishEvent(new PaymentCancelRequestedEvent(outbox.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findDueIds(int limit) {
+        return outboxRepository.findDueIds(LocalDateTime.now(), PageRequest.ofSize(limit));
+    }
+
+    /**
+     * 처리 권한 선점 - 성공하면 임대 시간 동안 다른 워커가 가져가지 않으며, 실패 시 빈 값 반환
+     */
+    public Optional<PaymentCancelOutbox> claim(Long outboxId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (outboxRepository.claim(outboxId, now, now.plus(lease)) == 0) {
+            return Optional.empty();
+        }
+        return outboxRepository.findById(outboxId);
+    }
+
+    /**
+     * 토스 취소 성공 - 아웃박스 완료, 결제 환불 처리, 환불을 기다리던 주문 취소 클레임 완료
+     */
+    public void markCompleted(Long outboxId) {
+        PaymentCancelOutbox outbox = getOutbox(outboxId);
+        Payment payment = getPayment(outbox);
+
+        if (payment.getPaymentStatus() != PaymentStatus.REFUNDED) {
+            log.info("Payment refunding: paymentId={}, paymentKey={}", payment.getId(), payment.getPaymentKey());
+            payment.refund();
+        }
+        claimRepository.findByOrderIdAndClaimTypeAndStatus(
+                        payment.getOrder().getId(), ClaimType.CANCEL, ClaimStatus.PROCESSING)
+                .forEach(Claim::complete);
+        outbox.complete();
+    }
+
+    /**
+     * 토스 취소 실패 - 재시도 가능하면 지수 백오프로 재예약, 아니면(또는 최대 횟수 초과 시) FAILED 로 종료하고
+     * 결제를 CANCEL_FAILED 로 표시 (REFUNDED 로 바꾸지 않음 - 고객 결제는 아직 취소되지 않았음)
+     */
+    public void markFailed(Long outboxId, String error, boolean retryable) {
+        PaymentCancelOutbox outbox = getOutbox(outboxId);
+
+        if (!retryable || outbox.getAttempts() >= maxAttempts) {
+            log.error("Toss payment cancel gave up: outboxId={}, paymentId={}, attempts={}, error={}",
+                      outboxId, outbox.getPaymentId(), outbox.getAttempts(), error);
+            outbox.fail(error);
+            Payment payment = getPayment(outbox);
+            if (payment.getPaymentStatus() == PaymentStatus.COMPLETED) {
+                payment.cancelFailed();
+            }
+            gaveUp.increment();
+            return;
+        }
+
+        Duration backoff = backoffFor(outbox.getAttempts());
+        log.warn("Toss payment cancel retry scheduled: outboxId={}, attempts={}, backoff={}, error={}",
+                 outboxId, outbox.getAttempts(), backoff, error);
+        outbox.retryAt(LocalDateTime.now().plus(backoff), error);
+    }
+
+    private Duration backoffFor(int attempts) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private Payment getPayment(PaymentCancelOutbox outbox) {
+        return paymentRepository.findById(outbox.getPaymentId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
+    }
+
+    private PaymentCancelOutbox getOutbox(Long outboxId) {
+        return outboxRepository.findById(outboxId)
+                .orElseThrow(() -> new IllegalStateException("결제 취소 아웃박스를 찾을 수 없습니다: " + outboxId));
+    }
+}
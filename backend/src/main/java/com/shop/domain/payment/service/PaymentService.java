@@ -1,32 +1,27 @@
 package com.shop.domain.payment.service;
 
 import com.shop.domain.order.entity.Order;
+import com.shop.domain.order.entity.OrderStatus;
 import com.shop.domain.order.repository.OrderRepository;
+import com.shop.domain.order.service.OrderNumberGenerator;
+import com.shop.domain.payment.client.TossPaymentsClient;
+import com.shop.domain.payment.client.TossPaymentsException;
 import com.shop.domain.payment.dto.PaymentResponse;
 import com.shop.domain.payment.dto.TossPaymentConfirmRequest;
 import com.shop.domain.payment.entity.Payment;
 import com.shop.domain.payment.entity.PaymentMethod;
 import com.shop.domain.payment.entity.PaymentStatus;
 import com.shop.domain.payment.repository.PaymentRepository;
-import com.shop.global.config.TossPaymentsProperties;
 import com.shop.global.exception.BusinessException;
 import com.shop.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
-import java.util.Map;
 
 @Slf4j
 @Service
@@ -34,15 +29,11 @@ import java.util.Map;
 @Transactional
 public class PaymentService {
 
-    private static final String TOSS_CONFIRM_URL = "https://api.tosspayments.com/v1/payments/confirm";
-    private static final String TOSS_CANCEL_URL = "https://api.tosspayments.com/v1/payments/{paymentKey}/cancel";
-
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
-    private final TossPaymentsProperties tossProperties;
-    private final RestTemplate restTemplate;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final PaymentCancelOutboxService paymentCancelOutboxService;
+    private final TransactionTemplate transactionTemplate;
 
     public PaymentResponse createPayment(Long orderId, PaymentMethod method, BigDecimal amount) {
         Order order = orderRepository.findById(orderId)
@@ -89,9 +80,20 @@ public class PaymentService {
         return PaymentResponse.from(payment);
     }
 
+    /**
+     * 토스 결제 승인 - 외부 API 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션을 나누어 처리
+     * 1) 결제/주문 조회 및 검증  2) 토스 승인 API 호출(트랜잭션 밖)  3) 결과 반영(짧은 트랜잭션, 결제 행을 잠그고 상태 재확인)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PaymentResponse confirmTossPayment(TossPaymentConfirmRequest request) {
-        Payment payment = paymentRepository.findByOrderOrderNumber(request.getOrderId())
-                .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
+        // 주문번호 형식이 아니면 DB 조회 없이 거부 (이전 15자리 형식도 허용)
+        if (!OrderNumberGenerator.isWellFormed(request.getOrderId())) {
+            throw new BusinessException(ErrorCode.PAYMENT_NOT_FOUND);
+        }
+
+        Payment payment = transactionTemplate.execute(status ->
+                paymentRepository.findByOrderNumberWithOrder(request.getOrderId())
+                        .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND)));
 
         // 이미 완료된 결제면 바로 성공 반환 (멱등성)
         if (payment.getPaymentStatus() == PaymentStatus.COMPLETED) {
@@ -99,9 +101,9 @@ public class PaymentService {
         }
 
         // #5: 결제 완료 전 주문이 취소된 경우 거부
-        if (payment.getOrder().getStatus() == com.shop.domain.order.entity.OrderStatus.CANCELLED) {
+        if (payment.getOrder().getStatus() == OrderStatus.CANCELLED) {
             log.info("Payment failed (order cancelled): paymentId={}, orderId={}", payment.getId(), request.getOrderId());
-            payment.fail();
+            failPayment(payment.getId());
             throw new BusinessException(ErrorCode.ORDER_ALREADY_CANCELLED);
         }
 
@@ -119,62 +121,66 @@ public class PaymentService {
         }
 
         try {
-            String encodedKey = Base64.getEncoder()
-                    .encodeToString((tossProperties.getSecretKey() + ":").getBytes(StandardCharsets.UTF_8));
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Basic " + encodedKey);
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            // #1: 멱등키 추가 - 네트워크 재시도 시 중복 결제 방지
-            headers.set("Idempotency-Key", request.getOrderId());
-
-            Map<String, Object> body = Map.of(
-                    "paymentKey", request.getPaymentKey(),
-                    "orderId", request.getOrderId(),
-                    "amount", request.getAmount()
-            );
-
-            HttpEntity<Map<String, Object>> httpEntity = new HttpEntity<>(body, headers);
-            restTemplate.postForEntity(TOSS_CONFIRM_URL, httpEntity, String.class);
-        } catch (org.springframework.web.client.HttpClientErrorException e) {
-            String responseBody = e.getResponseBodyAsString();
-            Map<String, String> tossError = parseTossError(responseBody);
-            String tossCode = tossError.get("code");
-            String tossMessage = tossError.get("message");
-
+            tossPaymentsClient.confirm(request.getPaymentKey(), request.getOrderId(), request.getAmount());
+        } catch (TossPaymentsException e) {
             // 이미 처리 중이거나 이미 승인된 결제는 성공으로 처리 (멱등성)
-            if ("ALREADY_PROCESSING_PAYMENT".equals(tossCode) || "ALREADY_APPROVED".equals(tossCode)) {
-                log.warn("Toss payment already processing/approved: code={}, orderId={}", tossCode, request.getOrderId());
+            if ("ALREADY_PROCESSING_PAYMENT".equals(e.getCode()) || "ALREADY_APPROVED".equals(e.getCode())) {
+                log.warn("Toss payment already processing/approved: code={}, orderId={}", e.getCode(), request.getOrderId());
             } else {
-                log.error("Toss payment confirm failed: code={}, message={}, orderId={}", tossCode, tossMessage, request.getOrderId());
+                log.error("Toss payment confirm failed: status={}, code={}, message={}, orderId={}",
+                          e.getStatus(), e.getCode(), e.getMessage(), request.getOrderId(), e);
                 log.info("Payment failed: paymentId={}, orderId={}", payment.getId(), request.getOrderId());
-                payment.fail();
-                String userMessage = toUserMessage(tossCode);
-                throw new BusinessException(ErrorCode.TOSS_PAYMENT_CONFIRM_FAILED, userMessage);
+                failPayment(payment.getId());
+                throw new BusinessException(ErrorCode.TOSS_PAYMENT_CONFIRM_FAILED, toUserMessage(e.getCode()));
             }
-        } catch (Exception e) {
-            log.error("Toss payment confirm failed (unexpected): orderId={}, error={}", request.getOrderId(), e.getMessage(), e);
-            log.info("Payment failed: paymentId={}, orderId={}", payment.getId(), request.getOrderId());
-            payment.fail();
-            throw new BusinessException(ErrorCode.TOSS_PAYMENT_CONFIRM_FAILED);
         }
 
         log.info("Payment completing: paymentId={}, orderId={}, amount={}", payment.getId(), request.getOrderId(), request.getAmount());
-        payment.completeWithPaymentKey(request.getPaymentKey(), request.getPaymentKey());
-        payment.getOrder().markPaid();
+        ConfirmOutcome outcome = transactionTemplate.execute(status ->
+                applyConfirmed(payment.getOrder().getId(), request.getPaymentKey()));
+        // 토스 취소 등록이 커밋된 뒤에 실패 응답 (트랜잭션 안에서 던지면 등록까지 롤백됨)
+        if (outcome.rejectedWith() != null) {
+            throw new BusinessException(outcome.rejectedWith());
+        }
+        return outcome.response();
+    }
 
-        return PaymentResponse.from(payment);
+    private record ConfirmOutcome(PaymentResponse response, ErrorCode rejectedWith) {
     }
 
-    private Map<String, String> parseTossError(String responseBody) {
-        try {
-            JsonNode node = objectMapper.readTree(responseBody);
-            String code = node.has("code") ? node.get("code").asText() : "UNKNOWN";
-            String message = node.has("message") ? node.get("message").asText() : responseBody;
-            return Map.of("code", code, "message", message);
-        } catch (Exception e) {
-            return Map.of("code", "UNKNOWN", "message", responseBody);
+    /**
+     * 토스 승인 결과 반영 - 토스 호출 동안 주문이 취소되거나 결제 상태가 바뀌었을 수 있으므로 결제 행을 잠그고 다시 확인
+     * - 다른 요청이 이미 승인을 반영한 경우: 그대로 반환 (멱등성)
+     * - 결제 대기 + 결제 가능한 주문: 결제 완료 · 주문 PAID
+     * - 그 외(주문 취소, 결제 실패 · 환불 처리됨): 토스에서는 결제됐으므로 결제 키를 기록하고 토스 취소를 아웃박스에 등록
+     */
+    private ConfirmOutcome applyConfirmed(Long orderId, String paymentKey) {
+        Payment confirmed = paymentRepository.findByOrderIdForUpdate(orderId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
+        Order order = confirmed.getOrder();
+
+        if (confirmed.getPaymentStatus() == PaymentStatus.COMPLETED) {
+            return new ConfirmOutcome(PaymentResponse.from(confirmed), null);
         }
+
+        if (confirmed.getPaymentStatus() == PaymentStatus.PENDING && order.isPayable()) {
+            confirmed.completeWithPaymentKey(paymentKey, paymentKey);
+            order.markPaid();
+            return new ConfirmOutcome(PaymentResponse.from(confirmed), null);
+        }
+
+        log.warn("Payment confirmed after order/payment changed, cancelling: paymentId={}, orderStatus={}, paymentStatus={}",
+                 confirmed.getId(), order.getStatus(), confirmed.getPaymentStatus());
+        confirmed.completeWithPaymentKey(paymentKey, paymentKey);
+        paymentCancelOutboxService.enqueue(confirmed, "결제 승인 반영 전 주문 취소 · 결제 실패");
+        return new ConfirmOutcome(null, order.getStatus() == OrderStatus.CANCELLED
+                ? ErrorCode.ORDER_ALREADY_CANCELLED
+                : ErrorCode.TOSS_PAYMENT_CONFIRM_FAILED);
+    }
+
+    private void failPayment(Long paymentId) {
+        transactionTemplate.executeWithoutResult(status ->
+                paymentRepository.findById(paymentId).ifPresent(Payment::fail));
     }
 
     private String toUserMessage(String tossCode) {
@@ -192,29 +198,14 @@ public class PaymentService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.PAYMENT_NOT_FOUND));
 
         try {
-            String encodedKey = Base64.getEncoder()
-                    .encodeToString((tossProperties.getSecretKey() + ":").getBytes(StandardCharsets.UTF_8));
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Authorization", "Basic " + encodedKey);
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            // #1: 멱등키 추가 - 취소 재시도 시 중복 취소 방지
-            headers.set("Idempotency-Key", "cancel_" + payment.getOrder().getOrderNumber());
-
-            Map<String, String> body = Map.of("cancelReason", cancelReason);
-
-            HttpEntity<Map<String, String>> httpEntity = new HttpEntity<>(body, headers);
-            String cancelUrl = TOSS_CANCEL_URL.replace("{paymentKey}", payment.getPaymentKey());
-            restTemplate.postForEntity(cancelUrl, httpEntity, String.class);
-        } catch (org.springframework.web.client.HttpClientErrorException e) {
-            Map<String, String> tossError = parseTossError(e.getResponseBodyAsString());
-            log.error("Toss payment cancel failed: code={}, message={}, paymentKey={}",
-                      tossError.get("code"), tossError.get("message"), payment.getPaymentKey());
-            throw new BusinessException(ErrorCode.TOSS_PAYMENT_CANCEL_FAILED,
-                      "결제 취소에 실패했습니다: " + tossError.get("message"));
-        } catch (Exception e) {
-            log.error("Toss payment cancel failed (unexpected): paymentKey={}, error={}",
-                      payment.getPaymentKey(), e.getMessage(), e);
+            tossPaymentsClient.cancel(payment.getPaymentKey(), cancelIdempotencyKey(payment), cancelReason);
+        } catch (TossPaymentsException e) {
+            log.error("Toss payment cancel failed: status={}, code={}, message={}, paymentKey={}",
+                      e.getStatus(), e.getCode(), e.getMessage(), payment.getPaymentKey(), e);
+            if (e.isClientError()) {
+                throw new BusinessException(ErrorCode.TOSS_PAYMENT_CANCEL_FAILED,
+                          "결제 취소에 실패했습니다: " + e.getMessage());
+            }
             throw new BusinessException(ErrorCode.TOSS_PAYMENT_CANCEL_FAILED);
         }
 
@@ -222,4 +213,11 @@ public class PaymentService {
         payment.refund();
         return PaymentResponse.from(payment);
     }
+
+    /**
+     * 결제 취소 멱등키 - 동기 취소와 취소 아웃박스 재시도가 같은 키를 사용해 중복 취소를 방지합니다.
+     */
+    public static String cancelIdempotencyKey(Payment payment) {
+        return "cancel_" + payment.getOrder().getOrderNumber();
+    }
 }
@@ -1,5 +1,6 @@
 package com.shop.domain.product.controller;
 
+import com.shop.domain.product.dto.ProductCursorPageResponse;
 import com.shop.domain.product.dto.ProductDetailResponse;
 import com.shop.domain.product.dto.ProductPageResponse;
 import com.shop.domain.product.service.ProductService;
@@ -18,12 +19,18 @@ public class ProductController {
 
     private final ProductService productService;
 
-    @Operation(summary = "상품 목록 조회", description = "카테고리 필터링 및 정렬 옵션을 적용하여 상품 목록을 페이징으로 반환합니다.")
+    @Operation(summary = "상품 목록 조회", description = "카테고리 · 가격대 · 재고 상태 필터와 정렬 옵션을 적용하여 상품 목록을 페이징으로 반환합니다. facets 에 필터별 상품 수를 함께 반환합니다.")
     @GetMapping
     public ApiResponse<ProductPageResponse> getProducts(
             @Parameter(description = "카테고리 ID (선택)")
             @RequestParam(required = false) Long categoryId,
 
+            @Parameter(description = "가격대 (UNDER_30K | FROM_30K_TO_50K | FROM_50K_TO_100K | FROM_100K_TO_200K | OVER_200K, 선택)")
+            @RequestParam(required = false) String priceBand,
+
+            @Parameter(description = "재고 상태 (IN_STOCK | SOLD_OUT, 선택)")
+            @RequestParam(required = false) String stockStatus,
+
             @Parameter(description = "정렬 기준 (price,asc | price,desc | createdAt,desc). 기본값: createdAt,desc")
             @RequestParam(required = false, defaultValue = "createdAt,desc") String sort,
 
@@ -33,7 +40,46 @@ public class ProductController {
             @Parameter(description = "페이지 크기. 기본값: 10")
             @RequestParam(required = false, defaultValue = "10") int size
     ) {
-        return ApiResponse.ok(productService.getProducts(categoryId, sort, page, size));
+        return ApiResponse.ok(productService.getProducts(categoryId, priceBand, stockStatus, sort, page, size));
+    }
+
+    @Operation(summary = "상품 목록 커서 조회", description = "무한 스크롤용 상품 목록을 커서 기반으로 반환합니다. 전체 건수를 계산하지 않으며, 응답의 nextCursor를 다음 요청에 그대로 전달합니다.")
+    @GetMapping("/scroll")
+    public ApiResponse<ProductCursorPageResponse> getProductsByCursor(
+            @Parameter(description = "카테고리 ID (선택)")
+            @RequestParam(required = false) Long categoryId,
+
+            @Parameter(description = "정렬 기준 (price,asc | price,desc | createdAt,desc). 기본값: createdAt,desc")
+            @RequestParam(required = false, defaultValue = "createdAt,desc") String sort,
+
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+
+            @Parameter(description = "페이지 크기 (최대 100). 기본값: 10")
+            @RequestParam(required = false, defaultValue = "10") int size
+    ) {
+        return ApiResponse.ok(productService.getProductsByCursor(categoryId, sort, cursor, size));
+    }
+
+    @Operation(summary = "상품 검색", description = "상품명, 설명, 카테고리명, 상품코드를 검색합니다. 한글은 두 글자 단위로 부분 일치합니다.")
+    @GetMapping("/search")
+    public ApiResponse<ProductPageResponse> searchProducts(
+            @Parameter(description = "검색어", required = true)
+            @RequestParam String q,
+
+            @Parameter(description = "카테고리 ID (선택)")
+            @RequestParam(required = false) Long categoryId,
+
+            @Parameter(description = "정렬 기준 (price,asc | price,desc | createdAt,desc). 생략 시 관련도순")
+            @RequestParam(required = false) String sort,
+
+            @Parameter(description = "페이지 번호 (0부터 시작). 기본값: 0")
+            @RequestParam(required = false, defaultValue = "0") int page,
+
+            @Parameter(description = "페이지 크기 (최대 100). 기본값: 10")
+            @RequestParam(required = false, defaultValue = "10") int size
+    ) {
+        return ApiResponse.ok(productService.searchProducts(q, categoryId, sort, page, size));
     }
 
     @Operation(summary = "상품 단건 조회", description = "ID로 상품 상세 정보를 조회합니다. 삭제된 상품은 조회되지 않습니다.")
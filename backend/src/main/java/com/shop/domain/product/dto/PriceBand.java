@@ -0,0 +1,67 @@
+package com.shop.domain.product.dto;
+
+import com.shop.global.exception.BusinessException;
+import com.shop.global.exception.ErrorCode;
+
+import java.math.BigDecimal;
+
+/**
+ * 상품 목록 가격대 필터 - 하한 포함, 상한 미포함 (원 단위)
+ * 요청 파라미터 priceBand 와 패싯 값에는 enum 이름을 그대로 사용합니다.
+ */
+public enum PriceBand {
+
+    UNDER_30K("3만원 미만", 0, 30_000),
+    FROM_30K_TO_50K("3만원 ~ 5만원", 30_000, 50_000),
+    FROM_50K_TO_100K("5만원 ~ 10만원", 50_000, 100_000),
+    FROM_100K_TO_200K("10만원 ~ 20만원", 100_000, 200_000),
+    OVER_200K("20만원 이상", 200_000, Long.MAX_VALUE);
+
+    private final String label;
+    private final long minPrice;
+    private final long maxPrice;
+
+    PriceBand(String label, long minPrice, long maxPrice) {
+        this.label = label;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public BigDecimal getMinPrice() {
+        return BigDecimal.valueOf(minPrice);
+    }
+
+    /**
+     * 상한 (미포함) - 마지막 가격대는 null
+     */
+    public BigDecimal getMaxPrice() {
+        return maxPrice == Long.MAX_VALUE ? null : BigDecimal.valueOf(maxPrice);
+    }
+
+    public static PriceBand of(long price) {
+        for (PriceBand band : values()) {
+            if (price < band.maxPrice) {
+                return band;
+            }
+        }
+        return OVER_200K;
+    }
+
+    /**
+     * 요청 파라미터 변환 - 생략하면 null(필터 없음), 알 수 없는 값은 INVALID_INPUT
+     */
+    public static PriceBand from(String priceBand) {
+        if (priceBand == null || priceBand.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(priceBand.trim());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "알 수 없는 가격대입니다: " + priceBand);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.shop.domain.product.dto;
+
+import com.shop.global.exception.BusinessException;
+import com.shop.global.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반(Keyset) 상품 목록의 위치 정보.
+ * 정렬 키 (createdAt 또는 price) 와 id 를 함께 담아 동일 값이 여러 건이어도 순서가 보장됩니다.
+ * 클라이언트에는 Base64(URL-safe) 로 인코딩된 불투명한 문자열로만 노출합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ProductCursor {
+
+    private static final String DELIMITER = "|";
+
+    // 첫 페이지 조회용 경계값 - 모든 상품이 이 값의 "다음"에 위치하도록 설정
+    private static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final BigDecimal MIN_PRICE = BigDecimal.valueOf(-1);
+    private static final BigDecimal MAX_PRICE = new BigDecimal("999999999999");
+
+    private final ProductSort sort;
+    private final LocalDateTime createdAt;
+    private final BigDecimal price;
+    private final Long id;
+
+    /**
+     * 첫 페이지 위치
+     */
+    public static ProductCursor first(ProductSort sort) {
+        return switch (sort) {
+            case PRICE_ASC -> new ProductCursor(sort, null, MIN_PRICE, 0L);
+            case PRICE_DESC -> new ProductCursor(sort, null, MAX_PRICE, Long.MAX_VALUE);
+            case LATEST -> new ProductCursor(sort, MAX_CREATED_AT, null, Long.MAX_VALUE);
+        };
+    }
+
+    /**
+     * 페이지의 마지막 상품 다음 위치
+     */
+    public static ProductCursor after(ProductSort sort, LocalDateTime createdAt, BigDecimal price, Long id) {
+        return switch (sort) {
+            case PRICE_ASC, PRICE_DESC -> new ProductCursor(sort, null, price, id);
+            case LATEST -> new ProductCursor(sort, createdAt, null, id);
+        };
+    }
+
+    public String encode() {
+        String key = sort == ProductSort.LATEST ? createdAt.toString() : price.toPlainString();
+        String raw = sort.name() + DELIMITER + key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 복원 - 형식이 잘못되었거나 요청한 정렬과 다르면 INVALID_INPUT
+     */
+    public static ProductCursor decode(String token, ProductSort sort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + DELIMITER);
+            if (parts.length != 3 || ProductSort.valueOf(parts[0]) != sort) {
+                throw invalidCursor();
+            }
+
+            Long id = Long.valueOf(parts[2]);
+            return sort == ProductSort.LATEST
+                    ? new ProductCursor(sort, LocalDateTime.parse(parts[1]), null, id)
+                    : new ProductCursor(sort, null, new BigDecimal(parts[1]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static BusinessException invalidCursor() {
+        return new BusinessException(ErrorCode.INVALID_INPUT, "유효하지 않은 커서입니다.");
+    }
+}
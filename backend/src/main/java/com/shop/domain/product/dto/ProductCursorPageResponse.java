@@ -0,0 +1,16 @@
+package com.shop.domain.product.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ProductCursorPageResponse {
+
+    private List<ProductSummaryResponse> content;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+}
@@ -7,10 +7,9 @@ import lombok.Getter;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ProductDetailResponse {
 
     private Long id;
@@ -30,7 +29,7 @@ public class ProductDetailResponse {
     public static ProductDetailResponse from(Product product, long likeCount) {
         List<String> imageUrls = product.getImages().stream()
                 .map(ProductImage::getUrl)
-                .collect(Collectors.toList());
+                .toList();
 
         return ProductDetailResponse.builder()
                 .id(product.getId())
@@ -48,4 +47,11 @@ public class ProductDetailResponse {
                 .likeCount(likeCount)
                 .build();
     }
+
+    /**
+     * 좋아요 수만 교체한 사본 반환 - 캐시된 상세 정보는 공유하고 좋아요 수는 별도로 조회합니다.
+     */
+    public ProductDetailResponse withLikeCount(long likeCount) {
+        return toBuilder().likeCount(likeCount).build();
+    }
 }
@@ -0,0 +1,29 @@
+package com.shop.domain.product.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 상품 목록 필터별 상품 수
+ * 각 패싯의 수는 자기 자신을 제외한 나머지 필터만 적용하여 계산합니다.
+ * (예: 카테고리를 선택해도 다른 카테고리의 수가 0 이 되지 않음)
+ */
+@Getter
+@Builder
+public class ProductFacetResponse {
+
+    private List<FacetCount> categories;
+    private List<FacetCount> priceBands;
+    private List<FacetCount> stockStatuses;
+
+    @Getter
+    @Builder
+    public static class FacetCount {
+        /** 필터 요청 파라미터 값 (카테고리 ID, 가격대 / 재고 상태 코드) */
+        private String value;
+        private String label;
+        private long count;
+    }
+}
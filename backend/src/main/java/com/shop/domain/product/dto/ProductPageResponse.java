@@ -1,5 +1,6 @@
 package com.shop.domain.product.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
@@ -16,13 +17,22 @@ public class ProductPageResponse {
     private int pageNumber;
     private int pageSize;
 
+    /** 필터별 상품 수 - 상품 목록 조회에서만 제공 (검색 결과에는 없음) */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ProductFacetResponse facets;
+
     public static ProductPageResponse from(Page<ProductSummaryResponse> page) {
+        return from(page, null);
+    }
+
+    public static ProductPageResponse from(Page<ProductSummaryResponse> page, ProductFacetResponse facets) {
         return ProductPageResponse.builder()
                 .content(page.getContent())
                 .totalElements(page.getTotalElements())
                 .totalPages(page.getTotalPages())
                 .pageNumber(page.getNumber())
                 .pageSize(page.getSize())
+                .facets(facets)
                 .build();
     }
 }
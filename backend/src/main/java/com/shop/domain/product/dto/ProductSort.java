@@ -0,0 +1,37 @@
+package com.shop.domain.product.dto;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * 상품 목록 정렬 옵션 - 요청 파라미터(price,asc | price,desc | createdAt,desc)와 1:1로 대응합니다.
+ * 알 수 없는 값은 최신순(LATEST)으로 처리합니다.
+ * 정렬 키가 같은 상품끼리도 페이지 경계가 흔들리지 않도록 id 를 보조 정렬 키로 사용합니다.
+ */
+public enum ProductSort {
+
+    LATEST(Sort.by(Sort.Direction.DESC, "createdAt", "id")),
+    PRICE_ASC(Sort.by(Sort.Direction.ASC, "price", "id")),
+    PRICE_DESC(Sort.by(Sort.Direction.DESC, "price", "id"));
+
+    private final Sort sort;
+
+    ProductSort(Sort sort) {
+        this.sort = sort;
+    }
+
+    public Sort toSort() {
+        return sort;
+    }
+
+    public static ProductSort from(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return LATEST;
+        }
+
+        return switch (sort) {
+            case "price,asc" -> PRICE_ASC;
+            case "price,desc" -> PRICE_DESC;
+            default -> LATEST;
+        };
+    }
+}
@@ -1,6 +1,7 @@
 package com.shop.domain.product.dto;
 
-import com.shop.domain.product.entity.Product;
+import com.shop.domain.product.entity.ProductStatus;
+import com.shop.domain.product.repository.ProductListingView;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -20,24 +21,24 @@ public class ProductSummaryResponse {
     private String productCode;
     private String status;
     private BigDecimal shippingFee;
+    private long likeCount;
 
-    public static ProductSummaryResponse from(Product product) {
-        String thumbnail = product.getThumbnailUrl();
-        if (thumbnail == null || thumbnail.isBlank()) {
-            thumbnail = product.getImages().isEmpty() ? null : product.getImages().get(0).getUrl();
-        }
-
+    /**
+     * 상품 목록 조회 모델에서 변환 - 조회 모델에는 판매 중 상품만 있습니다.
+     */
+    public static ProductSummaryResponse from(ProductListingView listing) {
         return ProductSummaryResponse.builder()
-                .id(product.getId())
-                .name(product.getName())
-                .price(product.getPrice())
-                .stock(product.getStock())
-                .categoryId(product.getCategory() != null ? product.getCategory().getId() : null)
-                .categoryName(product.getCategory() != null ? product.getCategory().getName() : null)
-                .thumbnailUrl(thumbnail)
-                .productCode(product.getProductCode())
-                .status(product.getStatus().name())
-                .shippingFee(product.getShippingFee())
+                .id(listing.getId())
+                .name(listing.getName())
+                .price(listing.getPrice())
+                .stock(listing.getStock())
+                .categoryId(listing.getCategoryId())
+                .categoryName(listing.getCategoryName())
+                .thumbnailUrl(listing.getThumbnailUrl())
+                .productCode(listing.getProductCode())
+                .status(ProductStatus.ACTIVE.name())
+                .shippingFee(listing.getShippingFee())
+                .likeCount(listing.getLikeCount())
                 .build();
     }
 }
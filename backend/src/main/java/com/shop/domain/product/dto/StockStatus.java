@@ -0,0 +1,41 @@
+package com.shop.domain.product.dto;
+
+import com.shop.global.exception.BusinessException;
+import com.shop.global.exception.ErrorCode;
+
+/**
+ * 상품 목록 재고 상태 필터 - 재고가 1개 이상이면 구매 가능, 0 이하면 품절
+ */
+public enum StockStatus {
+
+    IN_STOCK("구매 가능"),
+    SOLD_OUT("품절");
+
+    private final String label;
+
+    StockStatus(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public static StockStatus of(int stock) {
+        return stock > 0 ? IN_STOCK : SOLD_OUT;
+    }
+
+    /**
+     * 요청 파라미터 변환 - 생략하면 null(필터 없음), 알 수 없는 값은 INVALID_INPUT
+     */
+    public static StockStatus from(String stockStatus) {
+        if (stockStatus == null || stockStatus.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(stockStatus.trim());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "알 수 없는 재고 상태입니다: " + stockStatus);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.shop.domain.product.entity;
 
 import com.shop.domain.category.entity.Category;
 import com.shop.domain.common.BaseEntity;
+import com.shop.domain.product.event.ProductEntityListener;
 import com.shop.global.exception.BusinessException;
 import com.shop.global.exception.ErrorCode;
 import jakarta.persistence.*;
@@ -17,8 +18,14 @@ import java.util.List;
 @Entity
 @Table(name = "products", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"name", "category_id"})
+}, indexes = {
+    @Index(name = "idx_products_status_created_at", columnList = "status, created_at, id"),
+    @Index(name = "idx_products_status_price", columnList = "status, price, id"),
+    @Index(name = "idx_products_category_created_at", columnList = "category_id, created_at, id"),
+    @Index(name = "idx_products_category_price", columnList = "category_id, price, id")
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(ProductEntityListener.class)
 public class Product extends BaseEntity {
 
     @Id
@@ -59,6 +66,10 @@ public class Product extends BaseEntity {
     @OrderBy("imageOrder ASC")
     private List<ProductImage> images = new ArrayList<>();
 
+    public boolean hasThumbnail() {
+        return this.thumbnailUrl != null && !this.thumbnailUrl.isBlank();
+    }
+
     /**
      * 재고 감소 - 재고 부족 시 OUT_OF_STOCK 예외 발생
      */
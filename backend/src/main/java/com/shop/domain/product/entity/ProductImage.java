@@ -1,5 +1,6 @@
 package com.shop.domain.product.entity;
 
+import com.shop.domain.product.event.ProductImageEntityListener;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -11,6 +12,7 @@ import lombok.NoArgsConstructor;
     @UniqueConstraint(columnNames = {"product_id", "image_order"})
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(ProductImageEntityListener.class)
 public class ProductImage {
 
     @Id
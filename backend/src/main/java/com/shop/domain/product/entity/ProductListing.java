@@ -0,0 +1,88 @@
+package com.shop.domain.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 조회 모델 (product_listings) - 목록 응답에 필요한 컬럼만 비정규화하여 보관합니다.
+ *
+ * - 판매 중(ACTIVE) 상품만 행을 가지며, 카테고리명 · 대표 이미지 · 좋아요 수를 미리 합쳐 둡니다.
+ * - 조회는 {@link com.shop.domain.product.repository.ProductListingView} 프로젝션으로만 하고 엔티티를 로드하지 않습니다.
+ * - 상품 · 이미지 · 카테고리 변경은 ProductListingProjector 가, 좋아요 수는 좋아요 카운터의 DB 반영 시점에 갱신합니다.
+ *   like_count 는 카운터가 증감분으로 갱신하므로 상품 변경 반영 시에는 쓰지 않습니다. (@DynamicUpdate)
+ */
+@Getter
+@Entity
+@Table(name = "product_listings", indexes = {
+    @Index(name = "idx_product_listings_created_at", columnList = "created_at, product_id"),
+    @Index(name = "idx_product_listings_price", columnList = "price, product_id"),
+    @Index(name = "idx_product_listings_category_created_at", columnList = "category_id, created_at, product_id"),
+    @Index(name = "idx_product_listings_category_price", columnList = "category_id, price, product_id")
+})
+@DynamicUpdate
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductListing {
+
+    @Id
+    @Column(name = "product_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal price;
+
+    @Column(nullable = false)
+    private int stock;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    private String categoryName;
+
+    private String thumbnailUrl;
+
+    private String productCode;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal shippingFee;
+
+    @Column(nullable = false)
+    private long likeCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * @param firstImageUrl 썸네일이 비어 있을 때 대신 사용할 첫 번째 이미지 URL (없으면 null)
+     */
+    public static ProductListing of(Product product, String firstImageUrl, long likeCount) {
+        ProductListing listing = new ProductListing();
+        listing.id = product.getId();
+        listing.likeCount = likeCount;
+        listing.update(product, firstImageUrl);
+        return listing;
+    }
+
+    /**
+     * 상품 정보 반영 - 좋아요 수는 변경하지 않습니다.
+     */
+    public void update(Product product, String firstImageUrl) {
+        this.name = product.getName();
+        this.price = product.getPrice();
+        this.stock = product.getStock();
+        this.categoryId = product.getCategory() != null ? product.getCategory().getId() : null;
+        this.categoryName = product.getCategory() != null ? product.getCategory().getName() : null;
+        this.thumbnailUrl = product.hasThumbnail() ? product.getThumbnailUrl() : firstImageUrl;
+        this.productCode = product.getProductCode();
+        this.shippingFee = product.getShippingFee();
+        this.createdAt = product.getCreatedAt();
+    }
+}
@@ -0,0 +1,8 @@
+package com.shop.domain.product.event;
+
+/**
+ * 상품 데이터(재고, 가격, 상태, 이미지 등)가 변경되었음을 알리는 이벤트.
+ * JPA 엔티티 변경 시 {@link ProductEntityListener}, {@link ProductImageEntityListener}가 발행합니다.
+ */
+public record ProductChangedEvent(Long productId) {
+}
@@ -0,0 +1,28 @@
+package com.shop.domain.product.event;
+
+import com.shop.domain.product.entity.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product 엔티티 변경(flush) 시점에 {@link ProductChangedEvent}를 발행합니다.
+ * 캐시 무효화 등 후속 처리는 커밋 이후(@TransactionalEventListener AFTER_COMMIT)에 수행해야
+ * 롤백된 변경이 반영되거나 커밋 전 데이터가 다시 캐싱되는 일을 막을 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onProductChanged(Product product) {
+        eventPublisher.publishEvent(new ProductChangedEvent(product.getId()));
+    }
+}
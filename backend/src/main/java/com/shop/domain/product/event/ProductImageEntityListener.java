@@ -0,0 +1,27 @@
+package com.shop.domain.product.event;
+
+import com.shop.domain.product.entity.ProductImage;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * ProductImage 엔티티 변경(flush) 시점에 해당 상품의 {@link ProductChangedEvent}를 발행합니다.
+ * 이미지는 상품 상세와 목록의 대표 이미지에 포함되므로 상품 변경과 같이 취급합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductImageEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onProductImageChanged(ProductImage image) {
+        eventPublisher.publishEvent(new ProductChangedEvent(image.getProduct().getId()));
+    }
+}
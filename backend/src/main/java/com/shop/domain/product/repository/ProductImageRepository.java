@@ -0,0 +1,21 @@
+package com.shop.domain.product.repository;
+
+import com.shop.domain.product.entity.ProductImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
+
+    /**
+     * 상품별 대표(첫 번째) 이미지 URL 조회 - 목록 썸네일용
+     * 전체 이미지 컬렉션을 로드하지 않고 imageOrder가 가장 작은 한 건만 가져옵니다.
+     */
+    @Query("SELECT pi.product.id, pi.url FROM ProductImage pi " +
+           "WHERE pi.product.id IN :productIds " +
+           "AND pi.imageOrder = (SELECT MIN(pi2.imageOrder) FROM ProductImage pi2 WHERE pi2.product.id = pi.product.id)")
+    List<Object[]> findFirstImageUrlsByProductIdIn(@Param("productIds") Collection<Long> productIds);
+}
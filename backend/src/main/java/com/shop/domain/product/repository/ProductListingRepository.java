@@ -0,0 +1,161 @@
+package com.shop.domain.product.repository;
+
+import com.shop.domain.product.entity.ProductListing;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품 목록 조회 모델 리포지토리 - 조회 메서드는 모두 {@link ProductListingView} 프로젝션을 반환합니다.
+ * 카테고리 조건이 있는 조회는 *InCategories 메서드로, 카테고리와 그 하위 카테고리 ID 전체(categoryIds)로 적용합니다.
+ */
+public interface ProductListingRepository extends JpaRepository<ProductListing, Long> {
+
+    String VIEW = "SELECT l.id AS id, l.name AS name, l.price AS price, l.stock AS stock, " +
+                  "l.categoryId AS categoryId, l.categoryName AS categoryName, l.thumbnailUrl AS thumbnailUrl, " +
+                  "l.productCode AS productCode, l.shippingFee AS shippingFee, l.likeCount AS likeCount, " +
+                  "l.createdAt AS createdAt FROM ProductListing l ";
+
+    /** 카테고리 필터 - 하위 카테고리 포함 ID 집합. 필터가 없으면 이 조건이 없는 쿼리를 사용합니다. */
+    String IN_CATEGORIES = "l.categoryId IN :categoryIds AND ";
+
+    String CONDITION = "(:minPrice IS NULL OR l.price >= :minPrice) AND (:maxPrice IS NULL OR l.price < :maxPrice) " +
+                       "AND (:minStock IS NULL OR l.stock >= :minStock) AND (:maxStock IS NULL OR l.stock <= :maxStock)";
+
+    String LATEST_AFTER = "(l.createdAt < :createdAt OR (l.createdAt = :createdAt AND l.id < :id)) " +
+                          "ORDER BY l.createdAt DESC, l.id DESC";
+
+    String PRICE_ASC_AFTER = "(l.price > :price OR (l.price = :price AND l.id > :id)) " +
+                             "ORDER BY l.price ASC, l.id ASC";
+
+    String PRICE_DESC_AFTER = "(l.price < :price OR (l.price = :price AND l.id < :id)) " +
+                              "ORDER BY l.price DESC, l.id DESC";
+
+    /**
+     * 상품 목록 페이지 조회 - 가격 하한은 포함, 상한은 미포함이며 null 인 조건은 적용하지 않습니다.
+     */
+    @Query(value = VIEW + "WHERE " + CONDITION,
+           countQuery = "SELECT COUNT(l) FROM ProductListing l WHERE " + CONDITION)
+    Page<ProductListingView> findPage(@Param("minPrice") BigDecimal minPrice,
+                                      @Param("maxPrice") BigDecimal maxPrice,
+                                      @Param("minStock") Integer minStock,
+                                      @Param("maxStock") Integer maxStock,
+                                      Pageable pageable);
+
+    @Query(value = VIEW + "WHERE " + IN_CATEGORIES + CONDITION,
+           countQuery = "SELECT COUNT(l) FROM ProductListing l WHERE " + IN_CATEGORIES + CONDITION)
+    Page<ProductListingView> findPageInCategories(@Param("categoryIds") Collection<Long> categoryIds,
+                                                  @Param("minPrice") BigDecimal minPrice,
+                                                  @Param("maxPrice") BigDecimal maxPrice,
+                                                  @Param("minStock") Integer minStock,
+                                                  @Param("maxStock") Integer maxStock,
+                                                  Pageable pageable);
+
+    /**
+     * ID 목록으로 조회 - 반환 순서는 보장되지 않으므로 호출 측에서 재정렬합니다.
+     */
+    @Query(VIEW + "WHERE l.id IN :ids")
+    List<ProductListingView> findAllViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 커서(Keyset) 기반 최신순 조회 - (createdAt, id) 이후 상품을 seek 합니다.
+     */
+    @Query(VIEW + "WHERE " + LATEST_AFTER)
+    List<ProductListingView> findLatestAfter(@Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+
+    @Query(VIEW + "WHERE " + IN_CATEGORIES + LATEST_AFTER)
+    List<ProductListingView> findLatestInCategoriesAfter(@Param("categoryIds") Collection<Long> categoryIds,
+                                                         @Param("createdAt") LocalDateTime createdAt,
+                                                         @Param("id") Long id,
+                                                         Pageable pageable);
+
+    /**
+     * 커서(Keyset) 기반 가격 오름차순 조회 - (price, id) 이후 상품을 seek 합니다.
+     */
+    @Query(VIEW + "WHERE " + PRICE_ASC_AFTER)
+    List<ProductListingView> findPriceAscAfter(@Param("price") BigDecimal price,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+
+    @Query(VIEW + "WHERE " + IN_CATEGORIES + PRICE_ASC_AFTER)
+    List<ProductListingView> findPriceAscInCategoriesAfter(@Param("categoryIds") Collection<Long> categoryIds,
+                                                           @Param("price") BigDecimal price,
+                                                           @Param("id") Long id,
+                                                           Pageable pageable);
+
+    /**
+     * 커서(Keyset) 기반 가격 내림차순 조회 - (price, id) 이후 상품을 seek 합니다.
+     */
+    @Query(VIEW + "WHERE " + PRICE_DESC_AFTER)
+    List<ProductListingView> findPriceDescAfter(@Param("price") BigDecimal price,
+                                                @Param("id") Long id,
+                                                Pageable pageable);
+
+    @Query(VIEW + "WHERE " + IN_CATEGORIES + PRICE_DESC_AFTER)
+    List<ProductListingView> findPriceDescInCategoriesAfter(@Param("categoryIds") Collection<Long> categoryIds,
+                                                            @Param("price") BigDecimal price,
+                                                            @Param("id") Long id,
+                                                            Pageable pageable);
+
+    /**
+     * 좋아요 수 증감 - 좋아요 카운터가 product_like_counts 와 같은 트랜잭션에서 반영합니다.
+     */
+    @Modifying
+    @Query("UPDATE ProductListing l SET l.likeCount = l.likeCount + :delta WHERE l.id = :productId")
+    int addLikeCount(@Param("productId") Long productId, @Param("delta") long delta);
+
+    /**
+     * 좋아요 수 정합성 보정 - product_like_counts 값으로 맞춤
+     */
+    @Modifying
+    @Query(value = "UPDATE product_listings l " +
+                   "SET like_count = COALESCE((SELECT c.like_count FROM product_like_counts c WHERE c.product_id = l.product_id), 0) " +
+                   "WHERE l.like_count <> COALESCE((SELECT c.like_count FROM product_like_counts c WHERE c.product_id = l.product_id), 0)",
+           nativeQuery = true)
+    int syncLikeCounts();
+
+    /**
+     * 카테고리명 변경 반영
+     */
+    @Modifying
+    @Query(value = "UPDATE product_listings l " +
+                   "SET category_name = (SELECT c.name FROM categories c WHERE c.id = l.category_id) " +
+                   "WHERE l.category_id IS NOT NULL",
+           nativeQuery = true)
+    int refreshCategoryNames();
+
+    /**
+     * 전체 재적재 잠금 (PostgreSQL 전용) - 트랜잭션이 끝나면 풀리며, 다른 트랜잭션이 잡고 있으면 기다리지 않고 false
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('shop.listing.rebuild'))", nativeQuery = true)
+    boolean tryLockRebuild();
+
+    /**
+     * 전체 재적재 - 판매 중 상품을 카테고리명 · 대표 이미지 · 좋아요 수와 함께 한 번의 INSERT ... SELECT 로 적재
+     * (기존 행은 호출 측에서 먼저 삭제합니다.)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO product_listings (product_id, name, price, stock, category_id, category_name, " +
+                   "thumbnail_url, product_code, shipping_fee, like_count, created_at) " +
+                   "SELECT p.id, p.name, p.price, p.stock, p.category_id, c.name, " +
+                   "CASE WHEN p.thumbnail_url IS NULL OR TRIM(p.thumbnail_url) = '' " +
+                   "THEN (SELECT pi.url FROM product_images pi WHERE pi.product_id = p.id ORDER BY pi.image_order LIMIT 1) " +
+                   "ELSE p.thumbnail_url END, " +
+                   "p.product_code, p.shipping_fee, COALESCE(lc.like_count, 0), p.created_at " +
+                   "FROM products p " +
+                   "LEFT JOIN categories c ON c.id = p.category_id " +
+                   "LEFT JOIN product_like_counts lc ON lc.product_id = p.id " +
+                   "WHERE p.status = 'ACTIVE'",
+           nativeQuery = true)
+    int insertAllActive();
+}
@@ -0,0 +1,32 @@
+package com.shop.domain.product.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 상품 목록 조회 모델 프로젝션 - 컬럼 값만 읽어 오며 영속성 컨텍스트에 엔티티를 올리지 않습니다.
+ */
+public interface ProductListingView {
+
+    Long getId();
+
+    String getName();
+
+    BigDecimal getPrice();
+
+    int getStock();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    String getThumbnailUrl();
+
+    String getProductCode();
+
+    BigDecimal getShippingFee();
+
+    long getLikeCount();
+
+    LocalDateTime getCreatedAt();
+}
@@ -3,34 +3,57 @@ package com.shop.domain.product.repository;
 import com.shop.domain.product.entity.Product;
 import com.shop.domain.product.entity.ProductStatus;
 import jakarta.persistence.LockModeType;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
 
     /**
-     * 활성 상품 목록을 카테고리 필터링과 함께 조회합니다.
-     * images Fetch Join으로 N+1 문제를 방지합니다.
-     * Pagination 시 countQuery를 분리하여 올바른 페이징 처리를 보장합니다.
+     * ID 목록으로 상품 + 카테고리 조회 (목록 조회 2단계, N+1 방지)
+     * 반환 순서는 보장되지 않으므로 호출 측에서 ID 순서대로 재정렬합니다.
      */
-    @Query(
-            value = "SELECT DISTINCT p FROM Product p LEFT JOIN FETCH p.images " +
-                    "WHERE p.status = 'ACTIVE' AND (:categoryId IS NULL OR p.category.id = :categoryId)",
-            countQuery = "SELECT COUNT(p) FROM Product p " +
-                    "WHERE p.status = 'ACTIVE' AND (:categoryId IS NULL OR p.category.id = :categoryId)"
-    )
-    Page<Product> findAllByCondition(@Param("categoryId") Long categoryId, Pageable pageable);
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category WHERE p.id IN :ids")
+    List<Product> findAllWithCategoryByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 판매 중 상품 + 카테고리를 id 순으로 일정 건수씩 조회 (검색 색인 전체 적재용 keyset 페이징)
+     */
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category " +
+           "WHERE p.status = 'ACTIVE' AND p.id > :lastId ORDER BY p.id")
+    List<Product> findActiveWithCategoryAfter(@Param("lastId") Long lastId, Pageable pageable);
 
     @Query("SELECT p FROM Product p LEFT JOIN FETCH p.images LEFT JOIN FETCH p.category WHERE p.id = :id AND p.status = :status")
     Optional<Product> findByIdAndStatus(@Param("id") Long id, @Param("status") ProductStatus status);
 
+    /**
+     * 주문 대상 상품 일괄 잠금 - 한 번의 SELECT ... FOR UPDATE 로 조회하며,
+     * 항상 id 오름차순으로 잠그므로 상품 순서가 다른 주문끼리도 교착 상태가 발생하지 않습니다.
+     */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT p FROM Product p WHERE p.id = :id")
-    Optional<Product> findByIdForUpdate(@Param("id") Long id);
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.stock FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockById(@Param("id") Long id);
+
+    /**
+     * 상품별 재고 일괄 조회 - [id, stock]
+     */
+    @Query("SELECT p.id, p.stock FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findStocksByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 재고 상대 차감 (음수면 복구) - 엔티티 상태와 무관하게 DB 값 기준으로 반영합니다.
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity WHERE p.id = :id")
+    int decreaseStockBy(@Param("id") Long id, @Param("quantity") int quantity);
 }
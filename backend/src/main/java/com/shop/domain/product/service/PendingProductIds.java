@@ -0,0 +1,62 @@
+package com.shop.domain.product.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 커밋된 상품 변경의 반영 대기열 - 상품 ID만 모아 두었다가 주기적으로 배치 단위로 꺼내 반영합니다.
+ * 반영 중 실패하면 꺼낸 ID 를 모두 되돌려 다음 주기에 재시도합니다.
+ * (검색 색인 · 패싯 스냅샷 · 목록 조회 모델이 각자 하나씩 사용)
+ */
+@Slf4j
+class PendingProductIds {
+
+    private final String target;
+    private final int batchSize;
+    private final Set<Long> productIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param target 실패 로그에 쓸 반영 대상 이름
+     */
+    PendingProductIds(String target, int batchSize) {
+        this.target = target;
+        this.batchSize = batchSize;
+    }
+
+    void add(Long productId) {
+        productIds.add(productId);
+    }
+
+    boolean isEmpty() {
+        return productIds.isEmpty();
+    }
+
+    /**
+     * 대기 중인 ID 를 꺼내 batchSize 씩 반영 - 꺼내는 동안 새로 등록된 ID 는 다음 주기에 반영됩니다.
+     */
+    void drain(Consumer<List<Long>> apply) {
+        List<Long> drained = new ArrayList<>();
+        for (Long productId : productIds) {
+            if (productIds.remove(productId)) {
+                drained.add(productId);
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (int from = 0; from < drained.size(); from += batchSize) {
+                apply.accept(drained.subList(from, Math.min(from + batchSize, drained.size())));
+            }
+        } catch (RuntimeException e) {
+            productIds.addAll(drained);
+            log.error("{} 갱신 실패 - 다음 주기에 재시도합니다. 대상 상품 수: {}", target, drained.size(), e);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.shop.domain.product.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.shop.domain.product.dto.ProductDetailResponse;
+import com.shop.domain.product.event.ProductChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 상품 상세 조회용 캐시
+ * - 상세 정보(이름, 가격, 재고, 이미지 등): 변경 빈도가 낮으므로 긴 TTL, 상품 변경 커밋 시 무효화
+ * - 좋아요 수는 자주 변하므로 여기에 두지 않고 ProductLikeCounter 에서 별도로 제공합니다.
+ * 적중/미스/축출 지표는 Micrometer(cache.gets, cache.evictions 등)로 노출됩니다.
+ */
+@Component
+public class ProductDetailCache {
+
+    private static final String DETAIL_CACHE_NAME = "productDetail";
+
+    private final Cache<Long, ProductDetailResponse> details;
+
+    public ProductDetailCache(MeterRegistry meterRegistry,
+                              @Value("${shop.cache.product-detail.maximum-size:10000}") long maximumSize,
+                              @Value("${shop.cache.product-detail.ttl-seconds:600}") long ttlSeconds) {
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, details, DETAIL_CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 상세 정보 반환, 없으면 loader로 로드 후 저장 (동일 키 동시 요청 시 loader는 한 번만 실행)
+     * loader에서 발생한 예외(상품 없음 등)는 그대로 전파되며 캐싱되지 않습니다.
+     */
+    public ProductDetailResponse getDetail(Long productId, Function<Long, ProductDetailResponse> loader) {
+        return details.get(productId, loader);
+    }
+
+    public void evict(Long productId) {
+        details.invalidate(productId);
+    }
+
+    /**
+     * 상품 변경이 커밋된 뒤 상세 캐시 무효화 - 트랜잭션 밖에서 발행된 경우 즉시 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.productId());
+    }
+}
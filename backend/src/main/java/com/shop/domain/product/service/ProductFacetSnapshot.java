@@ -0,0 +1,460 @@
+package com.shop.domain.product.service;
+
+import com.shop.domain.category.dto.CategoryResponse;
+import com.shop.domain.category.service.CategoryTree;
+import com.shop.domain.category.service.CategoryTreeCache;
+import com.shop.domain.product.dto.PriceBand;
+import com.shop.domain.product.dto.ProductFacetResponse;
+import com.shop.domain.product.dto.ProductFacetResponse.FacetCount;
+import com.shop.domain.product.dto.StockStatus;
+import com.shop.domain.product.entity.Product;
+import com.shop.domain.product.entity.ProductStatus;
+import com.shop.domain.product.event.ProductChangedEvent;
+import com.shop.domain.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+/**
+ * 상품 목록 패싯(카테고리 · 가격대 · 재고 상태별 상품 수) 집계용 인메모리 컬럼 스냅샷
+ *
+ * - 판매 중 상품의 카테고리 ID, 가격, 재고, 상태를 원시 타입 배열에 슬롯 단위로 보관하고,
+ *   필터 값마다 해당 슬롯을 표시한 비트셋을 유지합니다.
+ * - 패싯 수는 비트셋 AND 후 비트 수를 세어 계산하므로 요청마다 GROUP BY 를 실행하지 않습니다.
+ *   카테고리별 수는 카테고리 수와 무관하게 가격대 · 재고 필터 교집합을 한 번 훑으며 슬롯의 카테고리 번호로 셉니다.
+ * - 기동 시 전체 적재하고, 상품 변경이 커밋되면 변경된 상품만 주기적으로 다시 읽어 반영합니다.
+ *   카테고리명 변경 등 이벤트가 없는 변경과 삭제된 슬롯 정리는 주기적인 전체 재적재로 반영합니다.
+ */
+@Slf4j
+@Component
+public class ProductFacetSnapshot {
+
+    private final ProductRepository productRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+
+    /** 조회는 읽기 잠금, 변경 반영과 스냅샷 교체는 쓰기 잠금 */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Columns columns = new Columns();
+
+    /** 반영 대기 중인 상품 ID */
+    private final PendingProductIds pendingProductIds;
+
+    /** 전체 적재 중에는 변경 반영을 미뤄 적재가 끝난 뒤 최신 상태로 다시 읽도록 함 */
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public ProductFacetSnapshot(ProductRepository productRepository,
+                                CategoryTreeCache categoryTreeCache,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${shop.facets.batch-size:1000}") int batchSize) {
+        this.productRepository = productRepository;
+        this.categoryTreeCache = categoryTreeCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.batchSize = batchSize;
+        this.pendingProductIds = new PendingProductIds("상품 패싯 스냅샷", batchSize);
+    }
+
+    /**
+     * 필터별 상품 수 - 각 패싯은 자기 자신을 제외한 나머지 필터를 적용하여 셉니다.
+     * 카테고리별 수는 카테고리 필터와 같이 하위 카테고리 상품을 포함합니다.
+     *
+     * @param categoryIds 카테고리 필터 (하위 카테고리 포함 ID 집합, null 이면 전체)
+     */
+    public ProductFacetResponse getFacets(Collection<Long> categoryIds, PriceBand priceBand, StockStatus stockStatus) {
+        // 트리가 무효화된 직후면 DB 에서 다시 만들므로 잠금 밖에서 조회
+        CategoryTree tree = categoryTreeCache.get();
+        lock.readLock().lock();
+        try {
+            return columns.facets(tree, categoryIds, priceBand, stockStatus);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(initialDelayString = "${shop.facets.rebuild-interval-ms:600000}",
+               fixedDelayString = "${shop.facets.rebuild-interval-ms:600000}")
+    public void rebuildPeriodically() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.error("상품 패싯 스냅샷 재적재 실패 - 이전 스냅샷을 계속 사용합니다.", e);
+        }
+    }
+
+    /**
+     * 스냅샷 전체 재적재 - 새 컬럼을 잠금 밖에서 만든 뒤 쓰기 잠금 안에서 교체합니다.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        try {
+            Columns rebuilt = new Columns();
+            Long lastId = 0L;
+            while (true) {
+                Long after = lastId;
+                List<Product> batch = readOnlyTransaction.execute(status ->
+                        productRepository.findActiveWithCategoryAfter(after, PageRequest.ofSize(batchSize)));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                batch.forEach(rebuilt::put);
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+
+            lock.writeLock().lock();
+            try {
+                columns = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("상품 패싯 스냅샷 적재 완료 - {}건, {}ms", rebuilt.size, System.currentTimeMillis() - started);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 상품 변경이 커밋된 뒤 반영 대상으로 등록 - 트랜잭션 밖에서 발행된 경우 즉시 등록
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        pendingProductIds.add(event.productId());
+    }
+
+    /**
+     * 대기 중인 상품을 DB에서 다시 읽어 스냅샷에 반영 - 실패하면 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${shop.facets.refresh-interval-ms:1000}")
+    public void applyPendingChanges() {
+        if (pendingProductIds.isEmpty() || rebuilding.get()) {
+            return;
+        }
+
+        pendingProductIds.drain(this::refresh);
+    }
+
+    /**
+     * 지정한 상품을 DB에서 다시 읽어 반영 - 삭제되었거나 판매 중이 아닌 상품은 집계에서 제외합니다.
+     * 호출 스레드에 트랜잭션이 있으면 그 트랜잭션에 참여하여 조회합니다.
+     */
+    public void refresh(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        List<Product> products = readOnlyTransaction.execute(status -> productRepository.findAllWithCategoryByIdIn(ids));
+
+        Set<Long> missing = new HashSet<>(ids);
+        products.forEach(product -> missing.remove(product.getId()));
+
+        lock.writeLock().lock();
+        try {
+            products.forEach(columns::put);
+            missing.forEach(columns::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 속성 컬럼 + 필터 값별 비트셋 - 슬롯 i 는 모든 배열과 비트셋에서 같은 상품을 가리킵니다.
+     * 판매 중지된 상품의 슬롯은 다른 상품에 재사용하지 않으며 전체 재적재 때 정리됩니다.
+     */
+    private static final class Columns {
+
+        private static final int INITIAL_CAPACITY = 1024;
+        private static final long NO_CATEGORY = 0L;
+        private static final int NO_CATEGORY_INDEX = -1;
+        private static final byte REMOVED = -1;
+
+        private long[] categoryIds = new long[INITIAL_CAPACITY];
+        /** 슬롯의 카테고리 번호 (categoryIdByIndex 의 위치) - 카테고리별 수를 배열 하나로 세기 위함 */
+        private int[] categoryIndexes = new int[INITIAL_CAPACITY];
+        private long[] prices = new long[INITIAL_CAPACITY];
+        private int[] stocks = new int[INITIAL_CAPACITY];
+        private byte[] statuses = new byte[INITIAL_CAPACITY];
+        private int size;
+
+        private final Map<Long, Integer> slotByProductId = new HashMap<>();
+        private final Map<Long, String> categoryNames = new HashMap<>();
+        private final Map<Long, Integer> categoryIndexById = new HashMap<>();
+        private long[] categoryIdByIndex = new long[16];
+
+        private final Bits active = new Bits();
+        private final Map<Long, Bits> byCategory = new HashMap<>();
+        private final Bits[] byPriceBand = Bits.array(PriceBand.values().length);
+        private final Bits[] byStockStatus = Bits.array(StockStatus.values().length);
+
+        void put(Product product) {
+            Integer slot = slotByProductId.get(product.getId());
+            if (slot == null) {
+                if (product.getStatus() != ProductStatus.ACTIVE) {
+                    return;
+                }
+                slot = append(product.getId());
+            } else {
+                unindex(slot);
+            }
+
+            if (product.getCategory() != null) {
+                categoryIds[slot] = product.getCategory().getId();
+                categoryIndexes[slot] = categoryIndex(product.getCategory().getId());
+                categoryNames.put(product.getCategory().getId(), product.getCategory().getName());
+            } else {
+                categoryIds[slot] = NO_CATEGORY;
+                categoryIndexes[slot] = NO_CATEGORY_INDEX;
+            }
+            prices[slot] = product.getPrice().longValue();
+            stocks[slot] = product.getStock();
+            statuses[slot] = (byte) product.getStatus().ordinal();
+            index(slot);
+        }
+
+        void remove(Long productId) {
+            Integer slot = slotByProductId.get(productId);
+            if (slot != null) {
+                unindex(slot);
+                statuses[slot] = REMOVED;
+            }
+        }
+
+        ProductFacetResponse facets(CategoryTree tree, Collection<Long> categoryIds,
+                                    PriceBand priceBand, StockStatus stockStatus) {
+            Bits categoryFilter = categoryFilter(categoryIds);
+            Bits priceFilter = priceBand == null ? null : byPriceBand[priceBand.ordinal()];
+            Bits stockFilter = stockStatus == null ? null : byStockStatus[stockStatus.ordinal()];
+
+            // 가격대 · 재고 필터를 만족하는 슬롯을 한 번 훑으며 카테고리 번호별 직속 상품 수를 셈
+            long[] directCounts = new long[categoryIndexById.size()];
+            Bits.forEachAnd(slot -> {
+                int categoryIndex = categoryIndexes[slot];
+                if (categoryIndex != NO_CATEGORY_INDEX) {
+                    directCounts[categoryIndex]++;
+                }
+            }, active, priceFilter, stockFilter);
+
+            // 상품은 카테고리 하나에만 속하므로 직속 상품 수를 모든 상위 카테고리에 더하면 하위 트리 상품 수가 됨
+            Map<Long, Long> subtreeCounts = new HashMap<>();
+            for (int categoryIndex = 0; categoryIndex < directCounts.length; categoryIndex++) {
+                long count = directCounts[categoryIndex];
+                if (count > 0) {
+                    long id = categoryIdByIndex[categoryIndex];
+                    subtreeCounts.merge(id, count, Long::sum);
+                    for (CategoryResponse ancestor : tree.getAncestors(id)) {
+                        subtreeCounts.merge(ancestor.getId(), count, Long::sum);
+                    }
+                }
+            }
+
+            List<FacetCount> categories = new ArrayList<>();
+            subtreeCounts.forEach((id, count) -> categories.add(facetCount(String.valueOf(id),
+                    tree.find(id).map(CategoryResponse::getName).orElseGet(() -> categoryNames.get(id)), count)));
+            categories.sort(Comparator.comparingLong(FacetCount::getCount).reversed()
+                    .thenComparing(FacetCount::getLabel, Comparator.nullsLast(Comparator.naturalOrder())));
+
+            List<FacetCount> priceBands = new ArrayList<>();
+            for (PriceBand band : PriceBand.values()) {
+                long count = Bits.countAnd(byPriceBand[band.ordinal()], categoryFilter, stockFilter);
+                priceBands.add(facetCount(band.name(), band.getLabel(), count));
+            }
+
+            List<FacetCount> stockStatuses = new ArrayList<>();
+            for (StockStatus status : StockStatus.values()) {
+                long count = Bits.countAnd(byStockStatus[status.ordinal()], categoryFilter, priceFilter);
+                stockStatuses.add(facetCount(status.name(), status.getLabel(), count));
+            }
+
+            return ProductFacetResponse.builder()
+                    .categories(categories)
+                    .priceBands(priceBands)
+                    .stockStatuses(stockStatuses)
+                    .build();
+        }
+
+        /**
+         * 카테고리 필터 비트셋 - 여러 카테고리(하위 트리)면 합집합을 새로 만듭니다.
+         */
+        private Bits categoryFilter(Collection<Long> categoryIds) {
+            if (categoryIds == null) {
+                return null;
+            }
+            if (categoryIds.size() == 1) {
+                return byCategory.getOrDefault(categoryIds.iterator().next(), Bits.EMPTY);
+            }
+            Bits union = new Bits();
+            for (Long categoryId : categoryIds) {
+                Bits bits = byCategory.get(categoryId);
+                if (bits != null) {
+                    union.or(bits);
+                }
+            }
+            return union;
+        }
+
+        private int categoryIndex(long categoryId) {
+            return categoryIndexById.computeIfAbsent(categoryId, id -> {
+                int index = categoryIndexById.size();
+                if (index == categoryIdByIndex.length) {
+                    categoryIdByIndex = Arrays.copyOf(categoryIdByIndex, index * 2);
+                }
+                categoryIdByIndex[index] = id;
+                return index;
+            });
+        }
+
+        private int append(long productId) {
+            if (size == categoryIds.length) {
+                int capacity = size + (size >> 1);
+                categoryIds = Arrays.copyOf(categoryIds, capacity);
+                categoryIndexes = Arrays.copyOf(categoryIndexes, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+                stocks = Arrays.copyOf(stocks, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+            }
+            int slot = size++;
+            slotByProductId.put(productId, slot);
+            return slot;
+        }
+
+        private void index(int slot) {
+            if (statuses[slot] != ProductStatus.ACTIVE.ordinal()) {
+                return;
+            }
+            active.set(slot);
+            if (categoryIds[slot] != NO_CATEGORY) {
+                byCategory.computeIfAbsent(categoryIds[slot], id -> new Bits()).set(slot);
+            }
+            byPriceBand[PriceBand.of(prices[slot]).ordinal()].set(slot);
+            byStockStatus[StockStatus.of(stocks[slot]).ordinal()].set(slot);
+        }
+
+        private void unindex(int slot) {
+            active.clear(slot);
+            Bits categoryBits = byCategory.get(categoryIds[slot]);
+            if (categoryBits != null) {
+                categoryBits.clear(slot);
+            }
+            byPriceBand[PriceBand.of(prices[slot]).ordinal()].clear(slot);
+            byStockStatus[StockStatus.of(stocks[slot]).ordinal()].clear(slot);
+        }
+
+        private static FacetCount facetCount(String value, String label, long count) {
+            return FacetCount.builder()
+                    .value(value)
+                    .label(label)
+                    .count(count)
+                    .build();
+        }
+    }
+
+    /**
+     * 슬롯 비트셋 - java.util.BitSet 과 달리 여러 비트셋의 교집합 크기를 새 객체 없이 셉니다.
+     */
+    private static final class Bits {
+
+        private static final Bits EMPTY = new Bits();
+
+        private long[] words = new long[0];
+
+        static Bits[] array(int length) {
+            Bits[] bits = new Bits[length];
+            for (int i = 0; i < length; i++) {
+                bits[i] = new Bits();
+            }
+            return bits;
+        }
+
+        void set(int slot) {
+            int word = slot >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+            }
+            words[word] |= 1L << slot;
+        }
+
+        void or(Bits other) {
+            if (other.words.length > words.length) {
+                words = Arrays.copyOf(words, other.words.length);
+            }
+            for (int i = 0; i < other.words.length; i++) {
+                words[i] |= other.words[i];
+            }
+        }
+
+        void clear(int slot) {
+            int word = slot >>> 6;
+            if (word < words.length) {
+                words[word] &= ~(1L << slot);
+            }
+        }
+
+        /**
+         * values 와 필터(null 은 조건 없음) 모두에 속한 슬롯 수
+         * 요청마다 패싯 값 수만큼 호출되므로 가변 인자(배열 생성) 대신 고정 개수 인자로 받습니다.
+         */
+        static long countAnd(Bits values, Bits first, Bits second) {
+            long count = 0;
+            int length = length(values, first, second);
+            for (int i = 0; i < length; i++) {
+                count += Long.bitCount(values.words[i] & word(first, i) & word(second, i));
+            }
+            return count;
+        }
+
+        /**
+         * values 와 필터(null 은 조건 없음) 모두에 속한 슬롯을 오름차순으로 전달
+         */
+        static void forEachAnd(IntConsumer consumer, Bits values, Bits first, Bits second) {
+            int length = length(values, first, second);
+            for (int i = 0; i < length; i++) {
+                long word = values.words[i] & word(first, i) & word(second, i);
+                while (word != 0) {
+                    consumer.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        private static int length(Bits values, Bits first, Bits second) {
+            return Math.min(values.words.length, Math.min(length(first), length(second)));
+        }
+
+        /** null 필터는 모든 슬롯을 포함하므로 길이 제한 없음 */
+        private static int length(Bits filter) {
+            return filter == null ? Integer.MAX_VALUE : filter.words.length;
+        }
+
+        private static long word(Bits filter, int index) {
+            return filter == null ? -1L : filter.words[index];
+        }
+    }
+}
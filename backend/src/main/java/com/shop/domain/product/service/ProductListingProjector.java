@@ -0,0 +1,205 @@
+package com.shop.domain.product.service;
+
+import com.shop.domain.category.event.CategoryChangedEvent;
+import com.shop.domain.like.repository.ProductLikeCountRepository;
+import com.shop.domain.product.entity.Product;
+import com.shop.domain.product.entity.ProductListing;
+import com.shop.domain.product.entity.ProductStatus;
+import com.shop.domain.product.event.ProductChangedEvent;
+import com.shop.domain.product.repository.ProductImageRepository;
+import com.shop.domain.product.repository.ProductListingRepository;
+import com.shop.domain.product.repository.ProductRepository;
+import com.shop.global.sql.DatabasePlatform;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 목록 조회 모델(product_listings) 갱신
+ * - 기동 시 판매 중 상품 전체를 INSERT ... SELECT 한 번으로 다시 적재합니다.
+ *   여러 인스턴스가 함께 기동하면 PostgreSQL advisory lock 을 먼저 잡은 인스턴스만 적재하고 나머지는 건너뜁니다.
+ * - 상품 · 이미지 변경이 커밋되면 상품 ID만 모아 두었다가 주기적으로 해당 상품의 행을 다시 만듭니다.
+ * - 카테고리 변경이 커밋되면 다음 주기에 카테고리명 컬럼을 일괄 갱신합니다.
+ * - 좋아요 수는 좋아요 카운터가 DB 반영 시 같은 트랜잭션에서 증감합니다.
+ */
+@Slf4j
+@Component
+public class ProductListingProjector {
+
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ProductListingRepository productListingRepository;
+    private final ProductLikeCountRepository productLikeCountRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean postgreSql;
+
+    /** 반영 대기 중인 상품 ID */
+    private final PendingProductIds pendingProductIds;
+
+    /** 카테고리명 갱신 필요 여부 */
+    private final AtomicBoolean categoriesChanged = new AtomicBoolean();
+
+    /** 전체 적재 중에는 변경 반영을 미뤄 적재가 끝난 뒤 최신 상태로 다시 만들도록 함 */
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public ProductListingProjector(ProductRepository productRepository,
+                                   ProductImageRepository productImageRepository,
+                                   ProductListingRepository productListingRepository,
+                                   ProductLikeCountRepository productLikeCountRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   DataSource dataSource,
+                                   @Value("${shop.listing.batch-size:500}") int batchSize) {
+        this.productRepository = productRepository;
+        this.productImageRepository = productImageRepository;
+        this.productListingRepository = productListingRepository;
+        this.productLikeCountRepository = productLikeCountRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postgreSql = DatabasePlatform.isPostgreSql(dataSource);
+        this.pendingProductIds = new PendingProductIds("상품 목록 조회 모델", batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 조회 모델 전체 재적재 - 삭제와 적재를 한 트랜잭션에서 처리하므로 조회 측은 이전 또는 새 데이터만 봅니다.
+     * 다른 인스턴스가 재적재 중이면(트랜잭션 advisory lock 을 잡지 못하면) 그 결과를 쓰고 건너뜁니다.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        try {
+            Integer inserted = transactionTemplate.execute(status -> {
+                if (postgreSql && !productListingRepository.tryLockRebuild()) {
+                    return null;
+                }
+                productListingRepository.deleteAllInBatch();
+                return productListingRepository.insertAllActive();
+            });
+            if (inserted == null) {
+                log.info("다른 인스턴스가 상품 목록 조회 모델을 적재 중이므로 건너뜁니다.");
+                return;
+            }
+            log.info("상품 목록 조회 모델 적재 완료 - {}건, {}ms", inserted, System.currentTimeMillis() - started);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 상품 변경이 커밋된 뒤 반영 대상으로 등록 - 트랜잭션 밖에서 발행된 경우 즉시 등록
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        pendingProductIds.add(event.productId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        categoriesChanged.set(true);
+    }
+
+    /**
+     * 대기 중인 변경을 조회 모델에 반영 - 실패하면 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${shop.listing.refresh-interval-ms:1000}")
+    public void applyPendingChanges() {
+        if (rebuilding.get()) {
+            return;
+        }
+
+        if (categoriesChanged.getAndSet(false)) {
+            try {
+                transactionTemplate.execute(status -> productListingRepository.refreshCategoryNames());
+            } catch (RuntimeException e) {
+                categoriesChanged.set(true);
+                log.error("상품 목록 조회 모델 카테고리명 갱신 실패 - 다음 주기에 재시도합니다.", e);
+            }
+        }
+
+        if (pendingProductIds.isEmpty()) {
+            return;
+        }
+
+        pendingProductIds.drain(this::project);
+    }
+
+    /**
+     * 지정한 상품의 조회 모델 행을 다시 만듦 - 삭제되었거나 판매 중이 아닌 상품은 행을 제거합니다.
+     * 호출 스레드에 트랜잭션이 있으면 그 트랜잭션에 참여합니다.
+     */
+    public void project(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Product> products = productRepository.findAllWithCategoryByIdIn(ids).stream()
+                    .filter(product -> product.getStatus() == ProductStatus.ACTIVE)
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+            Map<Long, ProductListing> listings = productListingRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(ProductListing::getId, Function.identity()));
+
+            Map<Long, String> firstImageUrls = firstImageUrls(products.values());
+            Map<Long, Long> likeCounts = likeCounts(products.keySet().stream()
+                    .filter(id -> !listings.containsKey(id))
+                    .toList());
+
+            for (Long id : ids) {
+                Product product = products.get(id);
+                ProductListing listing = listings.get(id);
+                if (product == null) {
+                    if (listing != null) {
+                        productListingRepository.delete(listing);
+                    }
+                } else if (listing != null) {
+                    listing.update(product, firstImageUrls.get(id));
+                } else {
+                    productListingRepository.save(
+                            ProductListing.of(product, firstImageUrls.get(id), likeCounts.getOrDefault(id, 0L)));
+                }
+            }
+        });
+    }
+
+    private Map<Long, String> firstImageUrls(Collection<Product> products) {
+        List<Long> idsWithoutThumbnail = products.stream()
+                .filter(product -> !product.hasThumbnail())
+                .map(Product::getId)
+                .toList();
+        if (idsWithoutThumbnail.isEmpty()) {
+            return Map.of();
+        }
+        return productImageRepository.findFirstImageUrlsByProductIdIn(idsWithoutThumbnail).stream()
+                .collect(Collectors.toMap(
+                        row -> (Long) row[0],
+                        row -> (String) row[1],
+                        (first, second) -> first
+                ));
+    }
+
+    private Map<Long, Long> likeCounts(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productLikeCountRepository.findLikeCountsByProductIdIn(productIds).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+    }
+}
@@ -0,0 +1,266 @@
+package com.shop.domain.product.service;
+
+import com.shop.domain.product.dto.ProductSort;
+import com.shop.domain.product.entity.Product;
+import com.shop.domain.product.entity.ProductStatus;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.cjk.CJKAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 상품 검색 역색인 (내장 Lucene)
+ *
+ * - 판매 중(ACTIVE) 상품만 색인하며, 상품명 · 설명 · 카테고리명 · 상품코드를 검색합니다.
+ * - 한글은 CJKAnalyzer 의 bigram 으로 분석하므로 띄어쓰기 없이 입력해도 부분 일치로 검색됩니다.
+ * - 카테고리 필터는 포인트 필드, 가격/등록일 정렬은 DocValues 로 처리하여 DB를 거치지 않습니다.
+ * - 색인 디렉터리(shop.search.index-dir)를 비우면 힙 메모리 색인을 사용합니다. (테스트용)
+ *
+ * 색인 적재와 변경 반영은 {@link ProductSearchIndexer} 가 담당합니다.
+ */
+@Component
+public class ProductSearchIndex {
+
+    private static final String ID = "id";
+    private static final String ID_SORT = "idSort";
+    private static final String CATEGORY_ID = "categoryId";
+    private static final String PRICE = "price";
+    private static final String CREATED_AT = "createdAt";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String CATEGORY_NAME = "categoryName";
+    private static final String PRODUCT_CODE = "productCode";
+    private static final String PRODUCT_CODE_TEXT = "productCodeText";
+
+    private final Directory directory;
+    private final Analyzer analyzer = new CJKAnalyzer();
+    private final QueryBuilder queryBuilder = new QueryBuilder(analyzer);
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    @Autowired
+    public ProductSearchIndex(@Value("${shop.search.index-dir:}") String indexDir) throws IOException {
+        this(openDirectory(indexDir));
+    }
+
+    public ProductSearchIndex(Directory directory) throws IOException {
+        this.directory = directory;
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public record SearchResult(List<Long> productIds, long totalHits) {
+    }
+
+    /**
+     * 상품 검색
+     *
+     * @param categoryIds 카테고리 필터 (하위 카테고리 포함 ID 집합, null 이면 전체)
+     * @param sort        null 이면 관련도순, 아니면 상품 목록과 같은 정렬 (id 보조 정렬)
+     */
+    public SearchResult search(String keyword, Collection<Long> categoryIds, ProductSort sort, int offset, int limit) {
+        Query query = buildQuery(keyword, categoryIds);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopFieldDocs top = searcher.search(query, offset + limit, toLuceneSort(sort), false);
+                long totalHits = top.totalHits.relation == TotalHits.Relation.EQUAL_TO
+                        ? top.totalHits.value
+                        : searcher.count(query);
+
+                List<Long> productIds = new ArrayList<>(limit);
+                for (int i = offset; i < top.scoreDocs.length; i++) {
+                    ScoreDoc scoreDoc = top.scoreDocs[i];
+                    productIds.add(Long.valueOf(searcher.storedFields().document(scoreDoc.doc).get(ID)));
+                }
+                return new SearchResult(productIds, totalHits);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 상품 색인 추가/갱신 - ACTIVE 가 아닌 상품은 색인에서 제거합니다. 검색 반영은 refresh() 이후입니다.
+     */
+    public void upsert(Collection<Product> products) {
+        try {
+            for (Product product : products) {
+                Term idTerm = new Term(ID, String.valueOf(product.getId()));
+                if (product.getStatus() == ProductStatus.ACTIVE) {
+                    writer.updateDocument(idTerm, toDocument(product));
+                } else {
+                    writer.deleteDocuments(idTerm);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void delete(Collection<Long> productIds) {
+        try {
+            for (Long productId : productIds) {
+                writer.deleteDocuments(new Term(ID, String.valueOf(productId)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 지금까지의 변경을 검색에 반영 (near-real-time reopen)
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 변경 내용을 디렉터리에 기록 - 대량 적재 후 색인 버퍼 메모리를 비웁니다.
+     */
+    public void commit() {
+        try {
+            writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private static Directory openDirectory(String indexDir) throws IOException {
+        return StringUtils.hasText(indexDir) ? FSDirectory.open(Path.of(indexDir)) : new ByteBuffersDirectory();
+    }
+
+    private Query buildQuery(String keyword, Collection<Long> categoryIds) {
+        BooleanQuery.Builder text = new BooleanQuery.Builder();
+        addFieldQuery(text, NAME, keyword, 3f);
+        addFieldQuery(text, CATEGORY_NAME, keyword, 2f);
+        addFieldQuery(text, PRODUCT_CODE_TEXT, keyword, 2f);
+        addFieldQuery(text, DESCRIPTION, keyword, 1f);
+        text.add(new BoostQuery(new TermQuery(new Term(PRODUCT_CODE, normalizeCode(keyword))), 5f),
+                BooleanClause.Occur.SHOULD);
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder()
+                .add(text.build(), BooleanClause.Occur.MUST);
+        if (categoryIds != null) {
+            query.add(LongPoint.newSetQuery(CATEGORY_ID, categoryIds), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    /**
+     * 필드별로 검색어의 모든 토큰(bigram)이 포함된 문서만 일치 - 필드 간에는 OR
+     */
+    private void addFieldQuery(BooleanQuery.Builder builder, String field, String keyword, float boost) {
+        Query fieldQuery = queryBuilder.createBooleanQuery(field, keyword, BooleanClause.Occur.MUST);
+        if (fieldQuery != null) {
+            builder.add(new BoostQuery(fieldQuery, boost), BooleanClause.Occur.SHOULD);
+        }
+    }
+
+    private static Sort toLuceneSort(ProductSort sort) {
+        if (sort == null) {
+            return new Sort(SortField.FIELD_SCORE, new SortField(ID_SORT, SortField.Type.LONG, true));
+        }
+        return switch (sort) {
+            case LATEST -> new Sort(
+                    new SortField(CREATED_AT, SortField.Type.LONG, true),
+                    new SortField(ID_SORT, SortField.Type.LONG, true));
+            case PRICE_ASC -> new Sort(
+                    new SortField(PRICE, SortField.Type.LONG),
+                    new SortField(ID_SORT, SortField.Type.LONG));
+            case PRICE_DESC -> new Sort(
+                    new SortField(PRICE, SortField.Type.LONG, true),
+                    new SortField(ID_SORT, SortField.Type.LONG, true));
+        };
+    }
+
+    private static Document toDocument(Product product) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, String.valueOf(product.getId()), Field.Store.YES));
+        doc.add(new NumericDocValuesField(ID_SORT, product.getId()));
+        doc.add(new NumericDocValuesField(PRICE, toMinorUnits(product.getPrice())));
+        doc.add(new NumericDocValuesField(CREATED_AT, product.getCreatedAt() != null
+                ? product.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli()
+                : 0L));
+
+        doc.add(new TextField(NAME, product.getName(), Field.Store.NO));
+        if (product.getDescription() != null) {
+            doc.add(new TextField(DESCRIPTION, product.getDescription(), Field.Store.NO));
+        }
+        if (product.getCategory() != null) {
+            doc.add(new LongPoint(CATEGORY_ID, product.getCategory().getId()));
+            doc.add(new TextField(CATEGORY_NAME, product.getCategory().getName(), Field.Store.NO));
+        }
+        doc.add(new StringField(PRODUCT_CODE, normalizeCode(product.getProductCode()), Field.Store.NO));
+        doc.add(new TextField(PRODUCT_CODE_TEXT, product.getProductCode(), Field.Store.NO));
+        return doc;
+    }
+
+    private static long toMinorUnits(BigDecimal price) {
+        return price.movePointRight(2).longValue();
+    }
+
+    private static String normalizeCode(String code) {
+        return code.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,129 @@
+package com.shop.domain.product.service;
+
+import com.shop.domain.product.entity.Product;
+import com.shop.domain.product.event.ProductChangedEvent;
+import com.shop.domain.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 상품 검색 색인 적재 · 변경 반영
+ * - 기동 시(ApplicationReadyEvent) ProductRepository 에서 판매 중 상품 전체를 id 순으로 나누어 읽어 색인을 새로 만듭니다.
+ *   적재가 끝나야 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로 빈 색인으로 트래픽을 받지 않습니다.
+ * - 상품 변경이 커밋되면 상품 ID만 모아 두었다가 주기적으로 DB에서 다시 읽어 색인을 갱신합니다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndexer {
+
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+
+    /** 색인 갱신 대기 중인 상품 ID */
+    private final PendingProductIds pendingProductIds;
+
+    /** 전체 적재 중에는 변경 반영을 미뤄 적재 배치가 더 최신 문서를 덮어쓰지 않도록 함 */
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public ProductSearchIndexer(ProductSearchIndex productSearchIndex,
+                                ProductRepository productRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${shop.search.batch-size:1000}") int batchSize) {
+        this.productSearchIndex = productSearchIndex;
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.batchSize = batchSize;
+        this.pendingProductIds = new PendingProductIds("상품 검색 색인", batchSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * 색인 전체 재적재
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        long indexed = 0;
+        try {
+            productSearchIndex.deleteAll();
+            Long lastId = 0L;
+            while (true) {
+                Long after = lastId;
+                List<Product> batch = readOnlyTransaction.execute(status ->
+                        productRepository.findActiveWithCategoryAfter(after, PageRequest.ofSize(batchSize)));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                productSearchIndex.upsert(batch);
+                indexed += batch.size();
+                lastId = batch.get(batch.size() - 1).getId();
+            }
+            productSearchIndex.commit();
+            productSearchIndex.refresh();
+            log.info("상품 검색 색인 적재 완료 - {}건, {}ms", indexed, System.currentTimeMillis() - started);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    /**
+     * 상품 변경이 커밋된 뒤 색인 갱신 대상으로 등록 - 트랜잭션 밖에서 발행된 경우 즉시 등록
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        pendingProductIds.add(event.productId());
+    }
+
+    /**
+     * 대기 중인 상품을 DB에서 다시 읽어 색인에 반영 - 실패하면 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${shop.search.refresh-interval-ms:1000}")
+    public void applyPendingChanges() {
+        if (pendingProductIds.isEmpty() || rebuilding.get()) {
+            return;
+        }
+
+        pendingProductIds.drain(this::reindex);
+    }
+
+    /**
+     * 지정한 상품을 DB에서 다시 읽어 색인 갱신 - 삭제되었거나 판매 중이 아닌 상품은 색인에서 제거합니다.
+     * 호출 스레드에 트랜잭션이 있으면 그 트랜잭션에 참여하여 조회합니다.
+     */
+    public void reindex(Collection<Long> productIds) {
+        List<Long> ids = List.copyOf(productIds);
+        List<Product> products = readOnlyTransaction.execute(status -> productRepository.findAllWithCategoryByIdIn(ids));
+
+        Set<Long> missing = new HashSet<>(ids);
+        products.forEach(product -> missing.remove(product.getId()));
+
+        productSearchIndex.upsert(products);
+        productSearchIndex.delete(missing);
+        productSearchIndex.refresh();
+    }
+}
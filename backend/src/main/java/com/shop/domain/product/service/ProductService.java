@@ -1,57 +1,191 @@
 package com.shop.domain.product.service;
 
-import com.shop.domain.like.repository.ProductLikeRepository;
+import com.shop.domain.category.service.CategoryTreeCache;
+import com.shop.domain.like.service.ProductLikeCounter;
+import com.shop.domain.product.dto.ProductCursor;
+import com.shop.domain.product.dto.ProductCursorPageResponse;
 import com.shop.domain.product.dto.ProductDetailResponse;
+import com.shop.domain.product.dto.PriceBand;
 import com.shop.domain.product.dto.ProductPageResponse;
+import com.shop.domain.product.dto.ProductSort;
 import com.shop.domain.product.dto.ProductSummaryResponse;
+import com.shop.domain.product.dto.StockStatus;
 import com.shop.domain.product.entity.ProductStatus;
+import com.shop.domain.product.repository.ProductListingRepository;
+import com.shop.domain.product.repository.ProductListingView;
 import com.shop.domain.product.repository.ProductRepository;
 import com.shop.global.exception.BusinessException;
 import com.shop.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ProductService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_WINDOW = 10_000;
+
     private final ProductRepository productRepository;
-    private final ProductLikeRepository productLikeRepository;
+    private final ProductListingRepository productListingRepository;
+    private final ProductLikeCounter productLikeCounter;
+    private final ProductDetailCache productDetailCache;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductFacetSnapshot productFacetSnapshot;
+    private final CategoryTreeCache categoryTreeCache;
+
+    /**
+     * 상품 목록 조회 - 상품 목록 조회 모델(product_listings)에서 프로젝션으로 페이징 조회
+     * 목록에 필요한 카테고리명 · 대표 이미지 · 좋아요 수가 한 행에 있으므로 조인과 엔티티 로드 없이 응답합니다.
+     * 카테고리 필터는 하위 카테고리 상품까지 포함하며, 필터별 상품 수(facets)는 DB 대신 패싯 스냅샷에서 계산합니다.
+     */
+    public ProductPageResponse getProducts(Long categoryId, String priceBand, String stockStatus,
+                                           String sort, int page, int size) {
+        PriceBand band = PriceBand.from(priceBand);
+        StockStatus stock = StockStatus.from(stockStatus);
+        Set<Long> categoryIds = categoryScope(categoryId);
+        Pageable pageable = PageRequest.of(page, size, ProductSort.from(sort).toSort());
+
+        BigDecimal minPrice = band != null ? band.getMinPrice() : null;
+        BigDecimal maxPrice = band != null ? band.getMaxPrice() : null;
+        Integer minStock = stock == StockStatus.IN_STOCK ? 1 : null;
+        Integer maxStock = stock == StockStatus.SOLD_OUT ? 0 : null;
+
+        Page<ProductListingView> listings = categoryIds == null
+                ? productListingRepository.findPage(minPrice, maxPrice, minStock, maxStock, pageable)
+                : productListingRepository.findPageInCategories(categoryIds, minPrice, maxPrice, minStock, maxStock, pageable);
+        Page<ProductSummaryResponse> listingPage = listings.map(ProductSummaryResponse::from);
+
+        return ProductPageResponse.from(listingPage, productFacetSnapshot.getFacets(categoryIds, band, stock));
+    }
+
+    /**
+     * 커서 기반 상품 목록 조회 - (정렬 키, id) 로 seek 하며 COUNT 쿼리를 실행하지 않습니다.
+     * size + 1 건을 조회해 다음 페이지 존재 여부를 판단합니다.
+     */
+    public ProductCursorPageResponse getProductsByCursor(Long categoryId, String sort, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "페이지 크기는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        ProductSort productSort = ProductSort.from(sort);
+        Set<Long> categoryIds = categoryScope(categoryId);
+        ProductCursor position = (cursor == null || cursor.isBlank())
+                ? ProductCursor.first(productSort)
+                : ProductCursor.decode(cursor, productSort);
+        Pageable limit = PageRequest.ofSize(size + 1);
+
+        List<ProductListingView> listings = switch (productSort) {
+            case PRICE_ASC -> categoryIds == null
+                    ? productListingRepository.findPriceAscAfter(position.getPrice(), position.getId(), limit)
+                    : productListingRepository.findPriceAscInCategoriesAfter(
+                            categoryIds, position.getPrice(), position.getId(), limit);
+            case PRICE_DESC -> categoryIds == null
+                    ? productListingRepository.findPriceDescAfter(position.getPrice(), position.getId(), limit)
+                    : productListingRepository.findPriceDescInCategoriesAfter(
+                            categoryIds, position.getPrice(), position.getId(), limit);
+            case LATEST -> categoryIds == null
+                    ? productListingRepository.findLatestAfter(position.getCreatedAt(), position.getId(), limit)
+                    : productListingRepository.findLatestInCategoriesAfter(
+                            categoryIds, position.getCreatedAt(), position.getId(), limit);
+        };
 
-    public ProductPageResponse getProducts(Long categoryId, String sort, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, resolveSort(sort));
+        boolean hasNext = listings.size() > size;
+        List<ProductListingView> pageContent = hasNext ? listings.subList(0, size) : listings;
+        ProductListingView last = hasNext ? pageContent.get(pageContent.size() - 1) : null;
+        String nextCursor = last != null
+                ? ProductCursor.after(productSort, last.getCreatedAt(), last.getPrice(), last.getId()).encode()
+                : null;
 
-        Page<ProductSummaryResponse> resultPage = productRepository
-                .findAllByCondition(categoryId, pageable)
-                .map(ProductSummaryResponse::from);
+        return ProductCursorPageResponse.builder()
+                .content(pageContent.stream().map(ProductSummaryResponse::from).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(size)
+                .build();
+    }
+
+    /**
+     * 상품 검색 - 검색 색인에서 정렬 · 페이징된 ID를 얻은 뒤, 해당 상품만 목록 조회 모델에서 IN 쿼리로 로드
+     * 정렬을 지정하지 않으면 관련도순이며, 지정하면 상품 목록과 같은 정렬(price,asc | price,desc | createdAt,desc)을 따릅니다.
+     */
+    public ProductPageResponse searchProducts(String keyword, Long categoryId, String sort, int page, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "검색어를 입력해 주세요.");
+        }
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "페이지 크기는 1 이상 " + MAX_SEARCH_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        if (page < 0 || (long) (page + 1) * size > MAX_SEARCH_WINDOW) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT,
+                    "검색 결과는 " + MAX_SEARCH_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+
+        ProductSort productSort = (sort == null || sort.isBlank()) ? null : ProductSort.from(sort);
+        ProductSearchIndex.SearchResult result =
+                productSearchIndex.search(keyword.trim(), categoryScope(categoryId), productSort, page * size, size);
+        List<ProductSummaryResponse> content = findSummariesInOrder(result.productIds());
 
-        return ProductPageResponse.from(resultPage);
+        return ProductPageResponse.from(new PageImpl<>(content, PageRequest.of(page, size), result.totalHits()));
     }
 
+    /**
+     * 상품 상세 조회 - 상세 정보는 캐시에서, 좋아요 수는 좋아요 카운터에서 조회
+     * 캐시 적중 시 커넥션을 잡지 않도록 트랜잭션을 새로 열지 않고, 미스일 때만 리포지토리 트랜잭션으로 로드합니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProductDetailResponse getProduct(Long id) {
+        ProductDetailResponse detail = productDetailCache.getDetail(id, this::loadDetail);
+        long likeCount = productLikeCounter.getLikeCount(id);
+        return detail.withLikeCount(likeCount);
+    }
+
+    /**
+     * 카테고리 필터 범위 - 선택한 카테고리와 모든 하위 카테고리 (카테고리 트리에서 조회하므로 쿼리 없음)
+     */
+    private Set<Long> categoryScope(Long categoryId) {
+        return categoryId == null ? null : categoryTreeCache.get().getSubtreeIds(categoryId);
+    }
+
+    private ProductDetailResponse loadDetail(Long id) {
         return productRepository.findByIdAndStatus(id, ProductStatus.ACTIVE)
-                .map(product -> {
-                    long likeCount = productLikeRepository.countByProductId(product.getId());
-                    return ProductDetailResponse.from(product, likeCount);
-                })
+                .map(product -> ProductDetailResponse.from(product, 0L))
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
     }
 
-    private Sort resolveSort(String sort) {
-        if (sort == null || sort.isBlank()) {
-            return Sort.by(Sort.Direction.DESC, "createdAt");
+    /**
+     * ID 순서대로 목록 응답 조회 - 조회 모델에 없는 상품(판매 중지 등)은 제외
+     */
+    private List<ProductSummaryResponse> findSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
 
-        return switch (sort) {
-            case "price,asc" -> Sort.by(Sort.Direction.ASC, "price");
-            case "price,desc" -> Sort.by(Sort.Direction.DESC, "price");
-            default -> Sort.by(Sort.Direction.DESC, "createdAt");
-        };
+        Map<Long, ProductListingView> listingsById = productListingRepository.findAllViewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProductListingView::getId, Function.identity()));
+
+        return ids.stream()
+                .map(listingsById::get)
+                .filter(Objects::nonNull)
+                .map(ProductSummaryResponse::from)
+                .toList();
     }
 }
@@ -0,0 +1,274 @@
+package com.shop.domain.product.service;
+
+import com.shop.domain.product.entity.Product;
+import com.shop.domain.product.event.ProductChangedEvent;
+import com.shop.domain.product.repository.ProductRepository;
+import com.shop.global.exception.BusinessException;
+import com.shop.global.exception.ErrorCode;
+import com.shop.global.transaction.TransactionCallbacks;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인메모리 재고 예약 - 인기 상품 주문이 products 행 잠금(PESSIMISTIC_WRITE)에 줄 서지 않도록
+ * 상품별 원자 카운터로 재고 차감 가능 여부를 먼저 판정합니다.
+ *
+ * - 카운터는 최초 사용 시 Product.stock 으로 적재되며, 값은 "DB 재고 - 아직 반영되지 않은 차감분" 입니다.
+ * - 주문 트랜잭션이 커밋되면 차감분을 대기열에 쌓고, 롤백되면 예약을 카운터에 되돌립니다.
+ * - 대기열은 주기적으로 한 트랜잭션에서 상대 UPDATE(stock = stock - n)로 DB에 반영됩니다.
+ * - 관리자 재고 수정 등 카운터를 거치지 않은 변경은 주기적인 재동기화(resync-interval-ms)로 반영합니다.
+ *   반영 대기 차감분과 진행 중인 예약이 모두 없는 상품만 카운터를 DB 재고로 맞춥니다.
+ *
+ * 카운터는 애플리케이션 인스턴스 단위이므로 단일 인스턴스(또는 상품별 고정 라우팅) 환경에서만 활성화합니다.
+ * (shop.stock.reservation.enabled, 기본값 false)
+ *
+ * 장애 시 유의점: 커밋된 주문의 차감분은 DB에 반영되기 전까지(최대 flush-interval-ms) 메모리에만 있습니다.
+ * 정상 종료 시에는 남은 차감분을 반영하지만, 그 사이 프로세스가 비정상 종료되면 주문은 저장되었는데
+ * products.stock 은 차감되지 않은 채 남아 재기동 후 그만큼 초과 판매될 수 있습니다.
+ * 비정상 종료 후에는 해당 시간대 order_items 수량과 재고를 대조해 보정해야 합니다.
+ */
+@Slf4j
+@Service
+public class StockReservationService {
+
+    private static final int RESYNC_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+
+    /** 상품별 예약 가능 재고 */
+    private final ConcurrentMap<Long, AtomicInteger> available = new ConcurrentHashMap<>();
+
+    /** 커밋되었으나 DB에 반영되지 않은 재고 차감량 (음수는 복구) */
+    private final ConcurrentMap<Long, Integer> pendingDeltas = new ConcurrentHashMap<>();
+
+    /** 커밋 · 롤백 전인 예약 건수 - 재동기화 대상에서 제외 */
+    private final ConcurrentMap<Long, Integer> inFlight = new ConcurrentHashMap<>();
+
+    /** 카운터 적재(DB 조회 + 대기 차감분 반영) · 재동기화와 DB 반영이 서로 끼어들지 않도록 보호 */
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    public StockReservationService(ProductRepository productRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${shop.stock.reservation.enabled:false}") boolean enabled) {
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 주문 수량 전체를 예약 - 하나라도 부족하면 아무것도 예약하지 않고 OUT_OF_STOCK 예외 발생
+     * 현재 트랜잭션이 커밋되면 확정(DB 반영 대기열), 롤백되면 예약이 해제됩니다.
+     */
+    public void reserve(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> ordered = new TreeMap<>(quantities);
+        ordered.keySet().forEach(this::counterOf);
+
+        // 카운터보다 먼저 진행 중 표시 - 재동기화가 차감 직후의 카운터를 DB 재고로 덮어쓰지 않도록 함
+        ordered.keySet().forEach(this::beginReservation);
+        List<Long> reserved = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : ordered.entrySet()) {
+            if (!tryDecrement(available.get(entry.getKey()), entry.getValue())) {
+                reserved.forEach(productId -> release(productId, ordered.get(productId)));
+                ordered.keySet().forEach(this::endReservation);
+                throw new BusinessException(ErrorCode.OUT_OF_STOCK);
+            }
+            reserved.add(entry.getKey());
+        }
+
+        // 대기열 · 카운터에 반영한 뒤 진행 중 표시 해제
+        TransactionCallbacks.afterCompletion(
+                () -> ordered.forEach((productId, quantity) -> {
+                    addPending(productId, quantity);
+                    endReservation(productId);
+                }),
+                () -> ordered.forEach((productId, quantity) -> {
+                    release(productId, quantity);
+                    endReservation(productId);
+                })
+        );
+    }
+
+    /**
+     * 재고 복구 (주문 취소, 반품 완료)
+     * 예약이 활성화된 경우 커밋 이후 카운터와 DB 반영 대기열에 더하고, 아니면 엔티티 재고를 직접 증가시킵니다.
+     */
+    public void restock(Product product, int quantity) {
+        if (!enabled) {
+            product.increaseStock(quantity);
+            return;
+        }
+
+        Long productId = product.getId();
+        // 대기열에 먼저 더해 재동기화가 카운터 증가분을 DB 재고로 덮어쓰지 않도록 함
+        TransactionCallbacks.afterCommit(() -> available.compute(productId, (id, counter) -> {
+            addPending(id, -quantity);
+            if (counter != null) {
+                counter.addAndGet(quantity);
+            }
+            return counter;
+        }));
+    }
+
+    /**
+     * 확정된 재고 변경분을 DB에 일괄 반영 - 실패하면 대기열에 되돌려 다음 주기에 재시도합니다.
+     * 벌크 UPDATE는 엔티티 리스너를 거치지 않으므로 상품 변경 이벤트를 직접 발행합니다.
+     */
+    @Scheduled(fixedDelayString = "${shop.stock.reservation.flush-interval-ms:500}")
+    public void flush() {
+        if (pendingDeltas.isEmpty()) {
+            return;
+        }
+
+        flushLock.writeLock().lock();
+        SortedMap<Long, Integer> drained = new TreeMap<>();
+        try {
+            for (Long productId : pendingDeltas.keySet()) {
+                Integer delta = pendingDeltas.remove(productId);
+                if (delta != null) {
+                    drained.put(productId, delta);
+                }
+            }
+            if (drained.isEmpty()) {
+                return;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> drained.forEach((productId, delta) -> {
+                productRepository.decreaseStockBy(productId, delta);
+                eventPublisher.publishEvent(new ProductChangedEvent(productId));
+            }));
+            log.debug("재고 예약 반영 완료 - {}개 상품", drained.size());
+        } catch (RuntimeException e) {
+            drained.forEach(this::addPending);
+            log.error("재고 예약 DB 반영 실패 - 다음 주기에 재시도합니다. 대상 상품 수: {}", drained.size(), e);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 카운터를 DB 재고로 재동기화 - 반영 대기 차감분과 진행 중인 예약이 없는 상품만 대상입니다.
+     * DB 반영과 겹치지 않도록 쓰기 잠금 안에서 실행하고, 조회 후 카운터가 바뀌었으면 다음 주기로 미룹니다.
+     */
+    @Scheduled(initialDelayString = "${shop.stock.reservation.resync-interval-ms:60000}",
+               fixedDelayString = "${shop.stock.reservation.resync-interval-ms:60000}")
+    public void resync() {
+        if (!enabled || available.isEmpty()) {
+            return;
+        }
+
+        flushLock.writeLock().lock();
+        try {
+            List<Long> settled = available.keySet().stream().filter(this::isSettled).toList();
+            int corrected = 0;
+            for (int from = 0; from < settled.size(); from += RESYNC_BATCH_SIZE) {
+                List<Long> batch = settled.subList(from, Math.min(from + RESYNC_BATCH_SIZE, settled.size()));
+                for (Object[] row : productRepository.findStocksByIdIn(batch)) {
+                    Long productId = (Long) row[0];
+                    int stock = (Integer) row[1];
+                    AtomicInteger counter = available.get(productId);
+                    if (counter == null) {
+                        continue;
+                    }
+                    int current = counter.get();
+                    // 조회 이후 예약 · 복구가 있었으면 진행 중 표시나 대기열이 남거나 카운터가 바뀌어 건너뜀
+                    if (current != stock && isSettled(productId) && counter.compareAndSet(current, stock)) {
+                        corrected++;
+                    }
+                }
+            }
+            if (corrected > 0) {
+                log.warn("재고 예약 카운터 재동기화 - {}개 상품의 카운터를 DB 재고로 보정", corrected);
+            }
+        } catch (RuntimeException e) {
+            log.error("재고 예약 카운터 재동기화 실패 - 다음 주기에 재시도합니다.", e);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private boolean isSettled(Long productId) {
+        return !inFlight.containsKey(productId) && !pendingDeltas.containsKey(productId);
+    }
+
+    private void beginReservation(Long productId) {
+        inFlight.merge(productId, 1, Integer::sum);
+    }
+
+    private void endReservation(Long productId) {
+        inFlight.merge(productId, -1, (current, added) -> {
+            int sum = current + added;
+            return sum == 0 ? null : sum;
+        });
+    }
+
+    private AtomicInteger counterOf(Long productId) {
+        AtomicInteger counter = available.get(productId);
+        if (counter != null) {
+            return counter;
+        }
+
+        flushLock.readLock().lock();
+        try {
+            int stock = productRepository.findStockById(productId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+            return available.compute(productId, (id, existing) ->
+                    existing != null ? existing : new AtomicInteger(stock - pendingDeltas.getOrDefault(id, 0)));
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    private static boolean tryDecrement(AtomicInteger counter, int quantity) {
+        while (true) {
+            int current = counter.get();
+            if (current < quantity) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    private void release(Long productId, int quantity) {
+        available.get(productId).addAndGet(quantity);
+    }
+
+    private void addPending(Long productId, int delta) {
+        pendingDeltas.merge(productId, delta, (current, added) -> {
+            int sum = current + added;
+            return sum == 0 ? null : sum;
+        });
+    }
+}
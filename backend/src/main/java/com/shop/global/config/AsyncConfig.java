@@ -0,0 +1,13 @@
+package com.shop.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * @Async 작업은 Spring Boot 가 구성하는 applicationTaskExecutor 에서 실행됩니다.
+ * virtual-threads 프로필에서는 해당 실행기가 가상 스레드 기반으로 바뀝니다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,47 @@
+package com.shop.global.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 메트릭 설정
+ * http.server.requests 전체에 히스토그램을 켜면 URI 수만큼 버킷 시계열이 늘어나므로,
+ * SLO 대상 엔드포인트(shop.metrics.slo.uris)에만 퍼센타일 히스토그램과 SLO 경계 버킷을 켭니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    @Bean
+    public MeterFilter sloEndpointHistogramFilter(
+            @Value("${shop.metrics.slo.uris}") List<String> uris,
+            @Value("${shop.metrics.slo.boundaries-ms:100,300,1000}") List<Long> boundariesMs) {
+        Set<String> sloUris = Set.copyOf(uris);
+        double[] boundaries = boundariesMs.stream()
+                .mapToDouble(ms -> Duration.ofMillis(ms).toNanos())
+                .toArray();
+
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName()) || !sloUris.contains(id.getTag("uri"))) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .serviceLevelObjectives(boundaries)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
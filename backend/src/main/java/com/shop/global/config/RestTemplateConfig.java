@@ -1,18 +1,50 @@
 package com.shop.global.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
 
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(30);
+
+    @Bean
+    public RestTemplate restTemplate(ClientHttpRequestFactory clientHttpRequestFactory) {
+        return new RestTemplate(clientHttpRequestFactory);
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ClientHttpRequestFactory simpleClientHttpRequestFactory() {
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5_000);  // 5초
-        factory.setReadTimeout(30_000);    // 30초
-        return new RestTemplate(factory);
+        factory.setConnectTimeout(CONNECT_TIMEOUT);
+        factory.setReadTimeout(READ_TIMEOUT);
+        return factory;
+    }
+
+    /**
+     * 가상 스레드 모드(spring.threads.virtual.enabled, Java 21+) 전용
+     * HttpURLConnection 은 내부 synchronized 구간에서 캐리어 스레드를 고정(pinning)시키므로,
+     * 커넥션 풀을 내장하고 가상 스레드에서 블로킹해도 안전한 JDK HttpClient 를 사용합니다.
+     */
+    @Bean
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ClientHttpRequestFactory jdkClientHttpRequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(READ_TIMEOUT);
+        return factory;
     }
 }
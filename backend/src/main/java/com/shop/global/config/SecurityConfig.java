@@ -6,6 +6,7 @@ import com.shop.global.response.ApiResponse;
 import com.shop.global.security.JwtAuthenticationFilter;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -42,11 +43,17 @@ public class SecurityConfig {
             "/api/payments/**",
             "/api-docs/**",
             "/swagger-ui/**",
-            "/swagger-ui.html"
+            "/swagger-ui.html",
+            "/actuator/health"
     };
 
+    /**
+     * 액추에이터는 별도 관리 포트(management.server.port)에서만 제공되며, 프로메테우스 스크랩은 그 포트로 들어온 요청만 인증 없이 허용합니다.
+     * 관리 포트는 외부에 공개하지 않고 내부 네트워크의 수집기에서만 접근합니다.
+     */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${management.server.port:-1}") int managementPort) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -56,8 +63,11 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/products/*/like").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/products/*/like/status").authenticated()
                         .requestMatchers("/api/my/likes").authenticated()
-                        .requestMatchers("/api/admin/likes").hasRole("ADMIN")
+                        .requestMatchers("/api/admin/likes/**").hasRole("ADMIN")
                         .requestMatchers(PUBLIC_URLS).permitAll()
+                        .requestMatchers(request -> managementPort > 0
+                                && request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
                         .anyRequest().authenticated()
                 )
                 .exceptionHandling(handler -> handler
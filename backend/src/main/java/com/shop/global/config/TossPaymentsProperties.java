@@ -4,10 +4,58 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+
 @ConfigurationProperties(prefix = "toss.payments")
 @Getter
 @Setter
 public class TossPaymentsProperties {
     private String secretKey;
     private String clientKey;
+    private String baseUrl = "https://api.tosspayments.com";
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /**
+     * 결제 승인 - 사용자가 기다리는 호출이며 카드사 승인까지 포함하므로 타임아웃을 길게 둡니다.
+     */
+    private Operation confirm = new Operation(Duration.ofSeconds(30), 200);
+
+    /**
+     * 결제 취소 - 아웃박스에서 재시도하므로 타임아웃을 짧게 두고 동시 호출도 적게 허용합니다.
+     */
+    private Operation cancel = new Operation(Duration.ofSeconds(10), 20);
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * API 별 응답 타임아웃과 벌크헤드(동시 호출 수 제한)
+     */
+    @Getter
+    @Setter
+    public static class Operation {
+        private Duration timeout;
+        private int maxConcurrentCalls;
+        private Duration maxWait = Duration.ZERO;
+
+        public Operation() {
+        }
+
+        public Operation(Duration timeout, int maxConcurrentCalls) {
+            this.timeout = timeout;
+            this.maxConcurrentCalls = maxConcurrentCalls;
+        }
+    }
+
+    /**
+     * 서킷 브레이커 - 최근 호출 중 네트워크 오류 · 5xx · 429 비율이 임계치를 넘으면 일정 시간 호출 없이 바로 실패합니다.
+     */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 20;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+        private int permittedCallsInHalfOpenState = 3;
+    }
 }
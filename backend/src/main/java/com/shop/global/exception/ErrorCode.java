@@ -17,6 +17,7 @@ public enum ErrorCode {
 
     // Cart
     CART_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "CART_ITEM_NOT_FOUND", "장바구니 아이템을 찾을 수 없습니다."),
+    CART_CONCURRENTLY_MODIFIED(HttpStatus.CONFLICT, "CART_CONCURRENTLY_MODIFIED", "장바구니가 동시에 변경되었습니다. 다시 시도해 주세요."),
 
     // Order
     ORDER_NOT_FOUND(HttpStatus.NOT_FOUND, "ORDER_NOT_FOUND", "주문을 찾을 수 없습니다."),
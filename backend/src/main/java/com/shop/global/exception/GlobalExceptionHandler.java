@@ -1,6 +1,9 @@
 package com.shop.global.exception;
 
 import com.shop.global.response.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -15,11 +18,19 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiResponse<Void>> handleBusinessException(BusinessException e) {
         log.warn("BusinessException: code={}, message={}", e.getErrorCode().getCode(), e.getMessage());
+        Counter.builder("business.exceptions")
+                .description("오류 코드별 비즈니스 예외 응답 수 (예: OUT_OF_STOCK 재고 부족 거절)")
+                .tag("code", e.getErrorCode().getCode())
+                .register(meterRegistry)
+                .increment();
         return ResponseEntity
                 .status(e.getErrorCode().getHttpStatus())
                 .body(ApiResponse.fail(e.getErrorCode().getCode(), e.getMessage()));
@@ -0,0 +1,51 @@
+package com.shop.global.migration;
+
+import com.shop.global.sql.DatabasePlatform;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 1회성 스키마 마이그레이션(db/*.sql) 실행기
+ * Hibernate 스키마 반영이 끝난 뒤, 웹 서버 · 스케줄러가 시작되기 전에 SCRIPTS 순서대로 실행합니다.
+ * 스크립트는 각각 PL/pgSQL 블록 하나라서 ';' 로 나누지 않고 통째로 실행하며, 적용 여부 확인(shop_migrations)과
+ * 동시 기동 직렬화(advisory lock)는 스크립트가 직접 처리합니다. PostgreSQL 이 아닌 DB(테스트 · 벤치마크의 H2)에서는 건너뜁니다.
+ */
+@Slf4j
+@Component
+public class SchemaMigrations implements SmartInitializingSingleton {
+
+    /** 주문 · 결제 · 클레임 · 장바구니 ID 를 IDENTITY 에서 pooled 시퀀스로 전환 */
+    static final String SEQUENCE_IDS = "db/sequence-ids.sql";
+    /** payments.payment_status 체크 제약에 CANCEL_FAILED 추가 (ddl-auto: update 는 기존 체크 제약을 갱신하지 않음) */
+    static final String PAYMENT_STATUS_CANCEL_FAILED = "db/payment-status-cancel-failed.sql";
+
+    static final List<String> SCRIPTS = List.of(SEQUENCE_IDS, PAYMENT_STATUS_CANCEL_FAILED);
+
+    private final DataSource dataSource;
+
+    public SchemaMigrations(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!DatabasePlatform.isPostgreSql(dataSource)) {
+            log.info("PostgreSQL 이 아니므로 스키마 마이그레이션을 건너뜁니다.");
+            return;
+        }
+        SCRIPTS.forEach(this::migrate);
+    }
+
+    void migrate(String script) {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(script));
+        populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+        populator.execute(dataSource);
+    }
+}
@@ -3,6 +3,8 @@ package com.shop.global.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.shop.global.exception.ErrorCode;
 import com.shop.global.response.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -18,6 +20,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -26,8 +29,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String BEARER_PREFIX = "Bearer ";
 
-    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -40,27 +44,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (!jwtUtil.validateToken(token)) {
+        // 토큰은 한 번만 파싱 · 검증 (캐시 적중 시 생략)
+        Optional<UserPrincipal> principal = verifiedTokenCache.authenticate(token);
+        if (principal.isEmpty()) {
+            Counter.builder("auth.token.rejected")
+                    .description("검증에 실패한 액세스 토큰 수 (만료 · 서명 오류 · 형식 오류)")
+                    .register(meterRegistry)
+                    .increment();
             sendUnauthorizedResponse(response);
             return;
         }
 
-        try {
-            Long userId = jwtUtil.getUserId(token);
-            String email = jwtUtil.getEmail(token);
-            String role = jwtUtil.getRole(token);
-
-            UserPrincipal principal = UserPrincipal.of(userId, email, role);
-
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        } catch (Exception e) {
-            log.warn("Failed to set authentication from JWT token: {}", e.getMessage());
-            sendUnauthorizedResponse(response);
-            return;
-        }
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(principal.get(), null, principal.get().getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
         filterChain.doFilter(request, response);
     }
@@ -2,6 +2,7 @@ package com.shop.global.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -25,8 +27,14 @@ public class JwtUtil {
 
     private final SecretKey secretKey;
 
+    /** 불변 · 스레드 안전하므로 한 번만 생성하여 재사용 */
+    private final JwtParser jwtParser;
+
     public JwtUtil(@Value("${jwt.secret}") String secret) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     public String generateAccessToken(Long userId, String email, String role) {
@@ -58,15 +66,31 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱 · 서명 검증하여 인증 주체와 만료 시각을 반환 - 유효하지 않으면 empty
+     */
+    public Optional<VerifiedToken> verify(String token) {
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            if (claims.getExpiration() == null) {
+                log.warn("JWT token has no expiration");
+                return Optional.empty();
+            }
+            UserPrincipal principal = UserPrincipal.of(
+                    claims.get(CLAIM_USER_ID, Long.class),
+                    claims.get(CLAIM_EMAIL, String.class),
+                    claims.get(CLAIM_ROLE, String.class)
+            );
+            return Optional.of(new VerifiedToken(principal, claims.getExpiration().toInstant()));
         } catch (JwtException e) {
             log.warn("Invalid JWT token: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (IllegalArgumentException e) {
             log.warn("JWT claims string is empty: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
@@ -83,10 +107,6 @@ public class JwtUtil {
     }
 
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 }
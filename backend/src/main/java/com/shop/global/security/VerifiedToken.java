@@ -0,0 +1,13 @@
+package com.shop.global.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 액세스 토큰 - 인증 주체와 토큰 만료 시각(exp)
+ */
+public record VerifiedToken(UserPrincipal principal, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
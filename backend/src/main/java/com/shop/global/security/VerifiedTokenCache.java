@@ -0,0 +1,100 @@
+package com.shop.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 검증된 액세스 토큰 캐시 - 같은 토큰으로 반복되는 요청에서 파싱과 HMAC 검증을 생략합니다.
+ * - 키는 토큰 원문이 아닌 SHA-256 해시이며, 각 항목은 토큰의 exp 시각에 만료됩니다.
+ * - 검증에 실패한 토큰은 캐싱하지 않습니다.
+ * (shop.security.token-cache.enabled, 기본값 true)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "verifiedToken";
+
+    private final JwtUtil jwtUtil;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Cache<String, VerifiedToken> tokens;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              MeterRegistry meterRegistry,
+                              @Value("${shop.security.token-cache.enabled:true}") boolean enabled,
+                              @Value("${shop.security.token-cache.maximum-size:10000}") long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.clock = Clock.systemUTC();
+        this.enabled = enabled;
+        this.tokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry(clock))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, CACHE_NAME);
+    }
+
+    /**
+     * 토큰의 인증 주체 반환 - 유효하지 않거나 만료된 토큰이면 empty
+     */
+    public Optional<UserPrincipal> authenticate(String token) {
+        if (!enabled) {
+            return jwtUtil.verify(token).map(VerifiedToken::principal);
+        }
+
+        String key = hash(token);
+        VerifiedToken cached = tokens.getIfPresent(key);
+        if (cached != null && !cached.isExpired(clock.instant())) {
+            return Optional.of(cached.principal());
+        }
+
+        Optional<VerifiedToken> verified = jwtUtil.verify(token);
+        verified.ifPresent(value -> tokens.put(key, value));
+        return verified.map(VerifiedToken::principal);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 항목별 만료 - 저장 시점부터 토큰 exp 까지, 이후 조회/갱신으로 연장되지 않음
+     */
+    private record UntilTokenExpiry(Clock clock) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration remaining = Duration.between(clock.instant(), value.expiresAt());
+            return remaining.isNegative() ? 0 : remaining.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.shop.global.sql;
+
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * 연결된 DB 종류 확인 - PostgreSQL 전용 기능(advisory lock, PL/pgSQL)은 운영 DB 에서만 사용하고
+ * 테스트 · 벤치마크의 H2 에서는 건너뛰기 위함
+ */
+public final class DatabasePlatform {
+
+    private DatabasePlatform() {
+    }
+
+    public static boolean isPostgreSql(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equals(productName);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("DB 종류를 확인할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.shop.global.sql;
+
+import jakarta.servlet.ServletRequest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 요청 단위 SQL 실행 통계 - 실행한 문장 수, 읽거나 변경한 행 수, JDBC 실행 시간 합계
+ * 현재 스레드에 바인딩되며, 데이터소스 프록시가 문장 실행마다 기록합니다.
+ * - 배치 실행(executeBatch)은 DB 왕복 기준으로 1건으로 셉니다.
+ * - 같은 SELECT 문이 반복된 횟수를 함께 세어 N+1 의심 여부를 판단합니다.
+ * 테스트에서는 요청 속성(REQUEST_ATTRIBUTE)으로 완료된 통계를 꺼내 쿼리 수와 실행한 SQL 문을 검증할 수 있습니다.
+ */
+public final class SqlStatistics {
+
+    public static final String REQUEST_ATTRIBUTE = SqlStatistics.class.getName();
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+    private final Map<String, Integer> selectCounts = new HashMap<>();
+    private final List<String> executedSql = new ArrayList<>();
+
+    private SqlStatistics() {
+    }
+
+    /**
+     * 현재 스레드에서 통계 수집 시작
+     */
+    public static SqlStatistics start() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * 현재 스레드의 통계 - 수집 중이 아니면 null
+     */
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 요청 처리 중 수집된 통계 - SqlStatisticsFilter 를 거치지 않은 요청이면 null
+     */
+    public static SqlStatistics of(ServletRequest request) {
+        return (SqlStatistics) request.getAttribute(REQUEST_ATTRIBUTE);
+    }
+
+    /**
+     * 현재 스레드의 통계 수집 종료 - 수집 중이 아니었으면 null
+     */
+    public static SqlStatistics stop() {
+        SqlStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    void recordStatement(String sql, long elapsedNanos, long affectedRows) {
+        statements++;
+        jdbcNanos += elapsedNanos;
+        rows += affectedRows;
+        if (sql != null) {
+            executedSql.add(sql);
+        }
+        if (sql != null && sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+            selectCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public Duration getJdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    /**
+     * 실행한 SQL 문 (실행 순서, 배치는 1건)
+     */
+    public List<String> getExecutedSql() {
+        return Collections.unmodifiableList(executedSql);
+    }
+
+    /**
+     * 가장 많이 반복된 SELECT 문과 실행 횟수 - threshold 회 이상 반복된 문장이 없으면 empty
+     */
+    public Optional<Map.Entry<String, Integer>> findRepeatedSelect(int threshold) {
+        return selectCounts.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .max(Map.Entry.comparingByValue());
+    }
+
+    /**
+     * Server-Timing 헤더 값 - 예: db;dur=3.42;desc="5 statements, 20 rows"
+     */
+    public String toServerTiming() {
+        return String.format(Locale.ROOT, "db;dur=%.2f;desc=\"%d statements, %d rows\"",
+                jdbcNanos / 1_000_000.0, statements, rows);
+    }
+}
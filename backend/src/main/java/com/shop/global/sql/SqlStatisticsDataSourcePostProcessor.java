@@ -0,0 +1,106 @@
+package com.shop.global.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * DataSource 빈을 SQL 통계 수집 프록시로 감쌈 - JPA 와 JdbcTemplate 모두 같은 경로로 집계됩니다.
+ * 현재 스레드에서 SqlStatistics 수집 중일 때만 기록하므로, 요청 밖(스케줄러 등)의 쿼리는 비용만 지나갑니다.
+ * (shop.sql.statistics.enabled, 기본값 true)
+ */
+@Component
+public class SqlStatisticsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final String STARTED_AT = "sqlStatistics.startedAt";
+
+    private final boolean enabled;
+
+    public SqlStatisticsDataSourcePostProcessor(@Value("${shop.sql.statistics.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!enabled || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new StatementListener())
+                .methodListener(new RowListener())
+                .proxyResultSet()
+                .build();
+    }
+
+    /**
+     * 문장 실행 시간과 변경 행 수 기록 - 조회 행 수는 ResultSet#next 에서 셉니다.
+     */
+    private static class StatementListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            if (SqlStatistics.current() != null) {
+                execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            SqlStatistics statistics = SqlStatistics.current();
+            Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+            if (statistics == null || startedAt == null) {
+                return;
+            }
+            String sql = queryInfoList.isEmpty() ? null : queryInfoList.get(0).getQuery();
+            statistics.recordStatement(sql, System.nanoTime() - startedAt, updatedRows(execInfo.getResult()));
+        }
+
+        private static long updatedRows(Object result) {
+            if (result instanceof Integer count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof Long count) {
+                return Math.max(count, 0);
+            }
+            if (result instanceof int[] counts) {
+                long total = 0;
+                for (int count : counts) {
+                    total += Math.max(count, 0);
+                }
+                return total;
+            }
+            return 0;
+        }
+    }
+
+    private static class RowListener implements MethodExecutionListener {
+
+        @Override
+        public void beforeMethod(MethodExecutionContext executionContext) {
+        }
+
+        @Override
+        public void afterMethod(MethodExecutionContext executionContext) {
+            if (executionContext.getTarget() instanceof ResultSet
+                    && "next".equals(executionContext.getMethod().getName())
+                    && Boolean.TRUE.equals(executionContext.getResult())) {
+                SqlStatistics statistics = SqlStatistics.current();
+                if (statistics != null) {
+                    statistics.recordRow();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.shop.global.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 요청 단위 SQL 통계 수집 - 요청 처리 동안 SqlStatistics 를 현재 스레드에 바인딩하고, 끝나면
+ * - 컨트롤러 메서드(handler) 태그로 문장 수 · 행 수 · JDBC 시간 메트릭을 기록하고
+ * - 구조화된 로그 한 줄을 남기며
+ * - 같은 SELECT 문이 n-plus-one-threshold 회 이상 반복되면 N+1 의심으로 경고 로그와 카운터를 남깁니다.
+ * Server-Timing 헤더는 응답 본문을 쓰기 직전에 SqlStatisticsResponseAdvice 가 추가합니다.
+ * (shop.sql.statistics.enabled, 기본값 true)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int nPlusOneThreshold;
+
+    public SqlStatisticsFilter(MeterRegistry meterRegistry,
+                               @Value("${shop.sql.statistics.enabled:true}") boolean enabled,
+                               @Value("${shop.sql.statistics.n-plus-one-threshold:5}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatistics.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatistics statistics = SqlStatistics.stop();
+            request.setAttribute(SqlStatistics.REQUEST_ATTRIBUTE, statistics);
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+                record(handlerName(handler), request, response, statistics);
+            }
+        }
+    }
+
+    private void record(String handler, HttpServletRequest request, HttpServletResponse response,
+                        SqlStatistics statistics) {
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("요청당 실행한 SQL 문장 수")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        DistributionSummary.builder("http.server.sql.rows")
+                .description("요청당 조회 · 변경한 행 수")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getRows());
+        Timer.builder("http.server.sql.time")
+                .description("요청당 JDBC 실행 시간 합계")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(statistics.getJdbcTime());
+
+        log.info("sql handler={} method={} uri={} status={} statements={} rows={} jdbcTimeMs={}",
+                handler, request.getMethod(), request.getRequestURI(), response.getStatus(),
+                statistics.getStatements(), statistics.getRows(),
+                String.format(Locale.ROOT, "%.2f", statistics.getJdbcTime().toNanos() / 1_000_000.0));
+
+        statistics.findRepeatedSelect(nPlusOneThreshold).ifPresent(repeated -> {
+            Counter.builder("http.server.sql.n_plus_one")
+                    .description("같은 SELECT 문이 반복 실행된(N+1 의심) 요청 수")
+                    .tag("handler", handler)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("N+1 의심 - handler={} repeated={} sql={}", handler, repeated.getValue(), repeated.getKey());
+        });
+    }
+
+    private static String handlerName(HandlerMethod handler) {
+        return handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+    }
+}
@@ -0,0 +1,44 @@
+package com.shop.global.sql;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문을 쓰기 직전에 지금까지의 SQL 통계를 Server-Timing 헤더로 추가
+ * 본문을 쓰기 시작하면 헤더를 바꿀 수 없으므로 필터가 아닌 이 시점에 붙입니다.
+ * 헤더는 모든 클라이언트에 노출되므로 기본값은 꺼짐이며, 개발 · 테스트 환경에서만 켭니다. (메트릭 · 로그는 설정과 무관하게 기록)
+ * (shop.sql.statistics.server-timing-header, 기본값 false)
+ */
+@RestControllerAdvice
+public class SqlStatisticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String SERVER_TIMING = "Server-Timing";
+
+    private final boolean enabled;
+
+    public SqlStatisticsResponseAdvice(@Value("${shop.sql.statistics.server-timing-header:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null) {
+            response.getHeaders().add(SERVER_TIMING, statistics.toServerTiming());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,39 @@
+-- =============================================
+-- payments.payment_status 체크 제약에 CANCEL_FAILED 추가 (1회성 마이그레이션)
+-- SchemaMigrations 가 기동 시 스크립트 전체를 한 문장으로 실행합니다. (PostgreSQL 전용)
+-- - Hibernate 는 enum 컬럼에 허용 값 체크 제약을 만들지만, ddl-auto: update 는 기존 제약을 갱신하지 않으므로
+--   새 값을 쓰기 전에 제약을 다시 만들어야 합니다. (그대로 두면 취소 실패 기록이 제약 위반으로 롤백됨)
+-- - advisory lock 으로 동시 기동을 직렬화하고, 적용 기록(shop_migrations)이 있으면 바로 끝납니다.
+-- - 제약 이름은 생성 방식에 따라 다를 수 있으므로 payment_status 를 검사하는 체크 제약을 모두 찾아 지운 뒤 다시 만듭니다.
+-- =============================================
+
+DO $$
+DECLARE
+    check_name text;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('shop.migration.payment-status-cancel-failed'));
+
+    CREATE TABLE IF NOT EXISTS shop_migrations (
+        name       varchar(100) PRIMARY KEY,
+        applied_at timestamp    NOT NULL DEFAULT now()
+    );
+    IF EXISTS (SELECT 1 FROM shop_migrations WHERE name = 'payment-status-cancel-failed') THEN
+        RETURN;
+    END IF;
+
+    FOR check_name IN
+        SELECT con.conname
+        FROM pg_constraint con
+        WHERE con.conrelid = 'payments'::regclass
+          AND con.contype = 'c'
+          AND pg_get_constraintdef(con.oid) LIKE '%payment_status%'
+    LOOP
+        EXECUTE format('ALTER TABLE payments DROP CONSTRAINT %I', check_name);
+    END LOOP;
+
+    ALTER TABLE payments ADD CONSTRAINT payments_payment_status_check
+        CHECK (payment_status IN ('PENDING', 'COMPLETED', 'FAILED', 'REFUNDED', 'CANCEL_FAILED'));
+
+    INSERT INTO shop_migrations (name) VALUES ('payment-status-cancel-failed');
+END
+$$;
@@ -0,0 +1,47 @@
+-- =============================================
+-- 주문 · 결제 · 클레임 · 장바구니 ID를 IDENTITY 에서 시퀀스(allocationSize 50, pooled)로 전환 (1회성 마이그레이션)
+-- SchemaMigrations 가 기동 시 스크립트 전체를 한 문장으로 실행합니다. (PostgreSQL 전용)
+-- - 여러 인스턴스가 동시에 기동해도 advisory lock 으로 한 번에 하나만 실행되고,
+--   적용 기록(shop_migrations)이 있으면 바로 끝나므로 이후 기동에서는 테이블 잠금 · 시퀀스 변경이 없습니다.
+-- - 테이블마다
+--   1. 시퀀스가 없으면 생성 (Hibernate ddl-auto 가 이미 만든 경우 그대로 사용)
+--   2. IDENTITY 속성을 제거하고 ID 기본값을 새 시퀀스로 지정 (SQL 로 직접 INSERT 해도 ID 충돌 없음)
+--   3. 기존 최대 ID 가 시퀀스 현재 값보다 클 때만 시퀀스를 최대 ID 로 올림 - pooled 방식은 시퀀스 값 V 를 받으면
+--      (V-49 ~ V) 를 사용하므로, 이후 할당되는 ID 는 모두 기존 ID 보다 큼 (시퀀스를 되돌리는 경우는 없음)
+-- 기존 bigserial/IDENTITY 용 시퀀스(*_id_seq)는 더 이상 사용되지 않습니다.
+-- =============================================
+
+DO $$
+DECLARE
+    target_table text;
+    sequence_name text;
+    max_id bigint;
+    sequence_value bigint;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('shop.migration.sequence-ids'));
+
+    CREATE TABLE IF NOT EXISTS shop_migrations (
+        name       varchar(100) PRIMARY KEY,
+        applied_at timestamp    NOT NULL DEFAULT now()
+    );
+    IF EXISTS (SELECT 1 FROM shop_migrations WHERE name = 'sequence-ids') THEN
+        RETURN;
+    END IF;
+
+    FOREACH target_table IN ARRAY ARRAY['orders', 'order_items', 'payments', 'claims', 'claim_items', 'cart_items'] LOOP
+        sequence_name := target_table || '_seq';
+
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', sequence_name);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id DROP IDENTITY IF EXISTS', target_table);
+        EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET DEFAULT nextval(%L)', target_table, sequence_name);
+
+        EXECUTE format('SELECT COALESCE(MAX(id), 0) FROM %I', target_table) INTO max_id;
+        EXECUTE format('SELECT last_value FROM %I', sequence_name) INTO sequence_value;
+        IF max_id > sequence_value THEN
+            PERFORM setval(sequence_name, max_id);
+        END IF;
+    END LOOP;
+
+    INSERT INTO shop_migrations (name) VALUES ('sequence-ids');
+END
+$$;
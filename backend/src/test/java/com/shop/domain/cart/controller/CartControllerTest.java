@@ -1,12 +1,17 @@
 package com.shop.domain.cart.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.domain.cart.service.CartStore;
+import com.shop.domain.product.repository.ProductListingRepository;
+import com.shop.domain.product.service.ProductListingProjector;
+import com.shop.global.sql.SqlStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
@@ -14,12 +19,18 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@SpringBootTest(properties = "shop.cart.store.enabled=true")
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
 @Transactional
@@ -29,6 +40,9 @@ class CartControllerTest {
     @Autowired MockMvc mockMvc;
     @Autowired ObjectMapper objectMapper;
     @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired ProductListingProjector productListingProjector;
+    @Autowired CartStore cartStore;
+    @SpyBean ProductListingRepository productListingRepository;
 
     private Long categoryId;
     private Long productId;
@@ -58,6 +72,7 @@ class CartControllerTest {
         productId = jdbcTemplate.queryForObject(
                 "SELECT id FROM products WHERE name = ?", Long.class, "테스트 상품"
         );
+        productListingProjector.rebuild();
 
         // 회원가입 후 토큰 획득
         MvcResult result = mockMvc.perform(post("/api/auth/signup")
@@ -264,4 +279,185 @@ class CartControllerTest {
                 .header("Authorization", "Bearer " + accessToken))
                 .andExpect(jsonPath("$.data.items.length()").value(0));
     }
+
+    // ─── PATCH /api/cart/items ─────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("장바구니 일괄 변경 - 성공한 변경만 적용하고 변경별 결과와 적용 후 장바구니 반환")
+    void applyOperations_partialFailure() throws Exception {
+        jdbcTemplate.update(
+                "INSERT INTO products (name, description, price, stock, category_id, product_code, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                "두번째 상품", "두번째 상품 설명", 20000, 3, categoryId, "TST-CART-002"
+        );
+        Long secondProductId = jdbcTemplate.queryForObject(
+                "SELECT id FROM products WHERE name = ?", Long.class, "두번째 상품"
+        );
+        productListingProjector.rebuild();
+
+        MvcResult addResult = mockMvc.perform(post("/api/cart")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of("productId", productId, "quantity", 1))))
+                .andExpect(status().isOk())
+                .andReturn();
+        Long cartItemId = objectMapper.readTree(addResult.getResponse().getContentAsString())
+                .path("data").path("id").asLong();
+
+        MvcResult measured = mockMvc.perform(patch("/api/cart/items")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of("operations", List.of(
+                        Map.of("type", "UPDATE", "cartItemId", cartItemId, "quantity", 4),
+                        Map.of("type", "ADD", "productId", secondProductId, "quantity", 2),
+                        Map.of("type", "ADD", "productId", secondProductId, "quantity", 2),
+                        Map.of("type", "REMOVE", "cartItemId", 999999L),
+                        Map.of("type", "ADD", "productId", 999999L, "quantity", 1)
+                )))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.results.length()").value(5))
+                .andExpect(jsonPath("$.data.results[0].success").value(true))
+                .andExpect(jsonPath("$.data.results[0].quantity").value(4))
+                .andExpect(jsonPath("$.data.results[1].success").value(true))
+                .andExpect(jsonPath("$.data.results[2].success").value(false))
+                .andExpect(jsonPath("$.data.results[2].errorCode").value("OUT_OF_STOCK"))
+                .andExpect(jsonPath("$.data.results[3].errorCode").value("CART_ITEM_NOT_FOUND"))
+                .andExpect(jsonPath("$.data.results[4].errorCode").value("PRODUCT_NOT_FOUND"))
+                .andExpect(jsonPath("$.data.cart.totalCount").value(2))
+                .andExpect(jsonPath("$.data.cart.items[0].quantity").value(4))
+                .andExpect(jsonPath("$.data.cart.items[1].productId").value(secondProductId))
+                .andExpect(jsonPath("$.data.cart.items[1].quantity").value(2))
+                .andReturn();
+        List<String> statements = SqlStatistics.of(measured.getRequest()).getExecutedSql();
+        // 소유 확인은 메모리 장바구니로, 재고 확인은 관련 상품 전체를 한 번에 조회 (시퀀스 조회 외에는 이 한 문장뿐)
+        assertThat(statements).filteredOn(sql -> !sql.contains("cart_items_seq"))
+                .singleElement().asString().contains("from product_listings");
+    }
+
+    @Test
+    @DisplayName("장바구니 일괄 변경 - 다른 사용자 아이템은 변경되지 않음")
+    void applyOperations_otherUserItem_notFound() throws Exception {
+        MvcResult signup = mockMvc.perform(post("/api/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of(
+                        "email", "batch-other@test.com",
+                        "password", "password1234",
+                        "name", "다른유저"
+                ))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String otherToken = objectMapper.readTree(signup.getResponse().getContentAsString())
+                .path("data").path("accessToken").asText();
+
+        MvcResult addResult = mockMvc.perform(post("/api/cart")
+                .header("Authorization", "Bearer " + otherToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of("productId", productId, "quantity", 1))))
+                .andExpect(status().isOk())
+                .andReturn();
+        Long otherCartItemId = objectMapper.readTree(addResult.getResponse().getContentAsString())
+                .path("data").path("id").asLong();
+
+        mockMvc.perform(patch("/api/cart/items")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of("operations", List.of(
+                        Map.of("type", "REMOVE", "cartItemId", otherCartItemId)
+                )))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.results[0].success").value(false))
+                .andExpect(jsonPath("$.data.results[0].errorCode").value("CART_ITEM_NOT_FOUND"));
+
+        mockMvc.perform(get("/api/cart")
+                .header("Authorization", "Bearer " + otherToken))
+                .andExpect(jsonPath("$.data.items.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("장바구니 일괄 변경 - 상품 조회와 장바구니 잠금 사이에 다른 요청이 담은 줄도 응답 장바구니에서 빠지지 않음")
+    void applyOperations_lineAddedConcurrently() throws Exception {
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'cart@test.com'", Long.class);
+        jdbcTemplate.update(
+                "INSERT INTO products (name, description, price, stock, category_id, product_code, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                "동시 상품", "동시 상품 설명", 20000, 3, categoryId, "TST-CART-003"
+        );
+        Long concurrentProductId = jdbcTemplate.queryForObject(
+                "SELECT id FROM products WHERE name = ?", Long.class, "동시 상품"
+        );
+        productListingProjector.rebuild();
+
+        // 일괄 변경이 처음 상품을 읽는 순간 다른 요청이 새 상품을 담음
+        AtomicBoolean added = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (added.compareAndSet(false, true)) {
+                cartStore.add(userId, concurrentProductId, 1, 3);
+            }
+            return invocation.callRealMethod();
+        }).when(productListingRepository).findAllViewsByIdIn(anyCollection());
+
+        mockMvc.perform(patch("/api/cart/items")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of("operations", List.of(
+                        Map.of("type", "ADD", "productId", productId, "quantity", 1)
+                )))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.results[0].success").value(true))
+                .andExpect(jsonPath("$.data.cart.totalCount").value(2))
+                .andExpect(jsonPath("$.data.cart.items[?(@.productId == " + concurrentProductId + ")].quantity").value(1));
+    }
+
+    // ─── 인메모리 장바구니 (write-behind) ───────────────────────────────────────
+
+    @Test
+    @DisplayName("장바구니 변경은 메모리에 먼저 반영되고 flush 때 DB에 일괄 저장, 조회는 조인 없이 조회 모델만 읽음")
+    void cartStore_writeBehind() throws Exception {
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'cart@test.com'", Long.class);
+
+        MvcResult addResult = mockMvc.perform(post("/api/cart")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of("productId", productId, "quantity", 2))))
+                .andExpect(status().isOk())
+                .andReturn();
+        Long cartItemId = objectMapper.readTree(addResult.getResponse().getContentAsString())
+                .path("data").path("id").asLong();
+        assertThat(cartItemCount(userId)).isZero();
+
+        MvcResult measured = mockMvc.perform(get("/api/cart")
+                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].id").value(cartItemId))
+                .andExpect(jsonPath("$.data.items[0].quantity").value(2))
+                .andReturn();
+        List<String> statements = SqlStatistics.of(measured.getRequest()).getExecutedSql();
+        assertThat(statements).noneMatch(sql -> sql.contains("cart_items"));
+        assertThat(statements).allMatch(sql -> sql.contains("from product_listings") && !sql.contains(" join "));
+
+        cartStore.flush();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT quantity FROM cart_items WHERE id = ? AND user_id = ? AND product_id = ?",
+                Integer.class, cartItemId, userId, productId)).isEqualTo(2);
+
+        mockMvc.perform(put("/api/cart/" + cartItemId)
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of("quantity", 4))))
+                .andExpect(status().isOk());
+        cartStore.flush();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT quantity FROM cart_items WHERE id = ?", Integer.class, cartItemId)).isEqualTo(4);
+
+        mockMvc.perform(delete("/api/cart/" + cartItemId)
+                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        assertThat(cartItemCount(userId)).isEqualTo(1);
+        cartStore.flush();
+        assertThat(cartItemCount(userId)).isZero();
+    }
+
+    private int cartItemCount(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart_items WHERE user_id = ?", Integer.class, userId);
+    }
 }
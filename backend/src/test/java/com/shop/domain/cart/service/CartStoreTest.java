@@ -0,0 +1,132 @@
+package com.shop.domain.cart.service;
+
+import com.shop.domain.cart.repository.CartItemBatchRepository;
+import com.shop.domain.cart.repository.CartItemRepository;
+import com.shop.support.CommittedFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모리 장바구니 테스트 - 다른 인스턴스가 같은 사용자의 장바구니 행을 바꾼 충돌을 DB 기준으로 다시 맞추는지 확인합니다.
+ * 일괄 반영은 별도 트랜잭션에서 커밋되므로 테스트 데이터는 {@link CommittedFixtures} 로 만듭니다.
+ */
+@SpringBootTest(properties = {
+        "shop.cart.store.enabled=true",
+        "shop.cart.store.flush-interval-ms=600000"
+})
+@ActiveProfiles("test")
+@DisplayName("메모리 장바구니 테스트")
+class CartStoreTest {
+
+    @Autowired CartStore cartStore;
+    @Autowired CartItemRepository cartItemRepository;
+    @Autowired CartItemBatchRepository cartItemBatchRepository;
+    @Autowired CartItemIdGenerator cartItemIdGenerator;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired MeterRegistry meterRegistry;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private CommittedFixtures fixtures;
+    private Long productId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new CommittedFixtures(jdbcTemplate);
+        Long categoryId = fixtures.category("장바구니 저장소");
+        productId = fixtures.product(categoryId, "TST-CART-STORE-001", "장바구니 저장소 상품", 10000, 10);
+        userId = fixtures.user("cartstore@test.com", "장바구니유저");
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 같은 상품을 먼저 담았으면 그 행에 이 장바구니의 수량을 반영")
+    void flush_sameProductInsertedElsewhere_rebasesOntoStoredRow() {
+        double conflictsBefore = counter("cart.store.conflicts");
+        assertThat(cartStore.getLines(userId)).isEmpty();
+
+        Long storedId = insertCartItem(1);
+        cartStore.add(userId, productId, 3, 10);
+        cartStore.flush();
+
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT id, quantity FROM cart_items WHERE user_id = ?", userId))
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(((Number) row.get("ID")).longValue()).isEqualTo(storedId);
+                    assertThat(((Number) row.get("QUANTITY")).intValue()).isEqualTo(3);
+                });
+        assertThat(cartStore.getLines(userId))
+                .containsExactly(new CartLine(storedId, productId, 3));
+        assertThat(counter("cart.store.conflicts")).isEqualTo(conflictsBefore + 1);
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 삭제된 줄의 수량 변경은 삭제를 따르고 버린 장바구니로 집계")
+    void flush_lineDeletedElsewhere_dropsLineAndCountsDiscard() {
+        double discardedBefore = counter("cart.store.discarded");
+        Long storedId = insertCartItem(1);
+        assertThat(cartStore.getLines(userId)).hasSize(1);
+
+        jdbcTemplate.update("DELETE FROM cart_items WHERE id = ?", storedId);
+        cartStore.updateQuantity(userId, storedId, 4);
+        cartStore.flush();
+
+        assertThat(cartItemCount()).isZero();
+        assertThat(cartStore.getLines(userId)).isEmpty();
+        assertThat(counter("cart.store.discarded")).isEqualTo(discardedBefore + 1);
+    }
+
+    @Test
+    @DisplayName("메모리 장바구니를 끄면 변경을 바로 DB 에 저장")
+    void disabled_writesImmediately() {
+        CartStore direct = new CartStore(cartItemRepository, cartItemBatchRepository, cartItemIdGenerator,
+                transactionManager, new SimpleMeterRegistry(), false, 100, Duration.ofSeconds(30));
+
+        CartLine added = direct.add(userId, productId, 2, 10);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT quantity FROM cart_items WHERE id = ?", Integer.class, added.id())).isEqualTo(2);
+
+        direct.updateQuantity(userId, added.id(), 5);
+        assertThat(direct.getLines(userId)).containsExactly(new CartLine(added.id(), productId, 5));
+
+        direct.remove(userId, added.id());
+        assertThat(cartItemCount()).isZero();
+    }
+
+    private Long insertCartItem(int quantity) {
+        // 다른 인스턴스가 발급한 ID 대신 시퀀스(pooled) 블록과 겹치지 않는 음수 ID 사용
+        Long id = jdbcTemplate.queryForObject("SELECT LEAST(COALESCE(MIN(id), 0), 0) - 1 FROM cart_items", Long.class);
+        jdbcTemplate.update(
+                "INSERT INTO cart_items (id, user_id, product_id, quantity, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                id, userId, productId, quantity
+        );
+        return id;
+    }
+
+    private int cartItemCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cart_items WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+}
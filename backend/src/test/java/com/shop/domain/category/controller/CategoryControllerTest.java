@@ -1,6 +1,7 @@
 package com.shop.domain.category.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.domain.category.service.CategoryTreeCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -24,6 +25,7 @@ class CategoryControllerTest {
 
     @Autowired MockMvc mockMvc;
     @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired CategoryTreeCache categoryTreeCache;
 
     private Long categoryId;
 
@@ -42,6 +44,7 @@ class CategoryControllerTest {
         categoryId = jdbcTemplate.queryForObject(
                 "SELECT id FROM categories WHERE name = ?", Long.class, "여성"
         );
+        categoryTreeCache.rebuild();
     }
 
     @Test
@@ -83,4 +86,61 @@ class CategoryControllerTest {
         mockMvc.perform(get("/api/categories"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("카테고리 트리 조회 - 하위 카테고리를 노출 순서대로 중첩")
+    void getCategoryTree_success() throws Exception {
+        Long outerId = insertChild("여성 아우터", 2);
+        insertChild("여성 상의", 1);
+        jdbcTemplate.update(
+                "INSERT INTO categories (name, description, display_order, depth, parent_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 2, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                "여성 코트", "여성 코트", 1, outerId
+        );
+        categoryTreeCache.rebuild();
+
+        mockMvc.perform(get("/api/categories/tree"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].name").value("여성"))
+                .andExpect(jsonPath("$.data[0].children[0].name").value("여성 상의"))
+                .andExpect(jsonPath("$.data[0].children[1].name").value("여성 아우터"))
+                .andExpect(jsonPath("$.data[0].children[1].children[0].name").value("여성 코트"))
+                .andExpect(jsonPath("$.data[1].name").value("남성"))
+                .andExpect(jsonPath("$.data[1].children").isEmpty());
+    }
+
+    @Test
+    @DisplayName("상위 카테고리 경로 조회 - 최상위부터 순서대로")
+    void getAncestors_success() throws Exception {
+        Long outerId = insertChild("여성 아우터", 1);
+        jdbcTemplate.update(
+                "INSERT INTO categories (name, description, display_order, depth, parent_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 2, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                "여성 코트", "여성 코트", 1, outerId
+        );
+        Long coatId = jdbcTemplate.queryForObject(
+                "SELECT id FROM categories WHERE name = ?", Long.class, "여성 코트"
+        );
+        categoryTreeCache.rebuild();
+
+        mockMvc.perform(get("/api/categories/{id}/ancestors", coatId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(2))
+                .andExpect(jsonPath("$.data[0].id").value(categoryId))
+                .andExpect(jsonPath("$.data[1].id").value(outerId));
+
+        mockMvc.perform(get("/api/categories/{id}/ancestors", 999999L))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error.code").value("CATEGORY_NOT_FOUND"));
+    }
+
+    private Long insertChild(String name, int displayOrder) {
+        jdbcTemplate.update(
+                "INSERT INTO categories (name, description, display_order, depth, parent_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 1, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                name, name, displayOrder, categoryId
+        );
+        return jdbcTemplate.queryForObject("SELECT id FROM categories WHERE name = ?", Long.class, name);
+    }
 }
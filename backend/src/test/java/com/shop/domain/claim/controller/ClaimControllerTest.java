@@ -0,0 +1,233 @@
+package com.shop.domain.claim.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.global.sql.SqlStatistics;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Claim API 테스트")
+class ClaimControllerTest {
+
+    private static final int ORDER_ITEM_COUNT = 30;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager em;
+
+    private String accessToken;
+    private Long orderId;
+    private List<Long> orderItemIds;
+
+    private String toJson(Object obj) throws Exception {
+        return objectMapper.writeValueAsString(obj);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of(
+                        "email", "claim@test.com",
+                        "password", "password1234",
+                        "name", "클레임유저"
+                ))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        accessToken = objectMapper.readTree(result.getResponse().getContentAsString())
+                .path("data").path("accessToken").asText();
+        Long userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'claim@test.com'", Long.class);
+
+        jdbcTemplate.update(
+                "INSERT INTO categories (name, description, display_order, depth, created_at, updated_at) " +
+                "VALUES ('클레임', '클레임 테스트', 1, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)"
+        );
+        Long categoryId = jdbcTemplate.queryForObject("SELECT id FROM categories WHERE name = '클레임'", Long.class);
+
+        // 배송 완료된 주문 - 상품 30개, 주문 상품마다 수량 2
+        jdbcTemplate.update(
+                "INSERT INTO orders (id, user_id, total_price, status, order_number, shipping_address, receiver_name, receiver_phone, created_at, updated_at) " +
+                "VALUES (NEXT VALUE FOR orders_seq, ?, 600000, 'DELIVERED', 'ORD202501010099', '서울시', '홍길동', '010-0000-0000', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                userId
+        );
+        orderId = jdbcTemplate.queryForObject(
+                "SELECT id FROM orders WHERE order_number = 'ORD202501010099'", Long.class);
+
+        List<Object[]> products = new ArrayList<>();
+        for (int i = 1; i <= ORDER_ITEM_COUNT; i++) {
+            products.add(new Object[]{"클레임 상품 " + i, categoryId, "TST-CLM-" + i});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO products (name, description, price, stock, category_id, product_code, status, created_at, updated_at) " +
+                "VALUES (?, '클레임 테스트 상품', 10000, 10, ?, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                products
+        );
+        jdbcTemplate.update(
+                "INSERT INTO order_items (id, order_id, product_id, quantity, price_at_order, product_name) " +
+                "SELECT NEXT VALUE FOR order_items_seq, ?, id, 2, 10000, name FROM products WHERE product_code LIKE 'TST-CLM-%'",
+                orderId
+        );
+        orderItemIds = jdbcTemplate.queryForList(
+                "SELECT id FROM order_items WHERE order_id = ? ORDER BY id", Long.class, orderId);
+
+        jdbcTemplate.update(
+                "INSERT INTO payments (id, order_id, payment_method, payment_amount, payment_status, payment_key, created_at, updated_at) " +
+                "VALUES (NEXT VALUE FOR payments_seq, ?, 'CARD', 600000, 'COMPLETED', 'pk_test_claim', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                orderId
+        );
+    }
+
+    // ─── POST /api/claims ───────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("반품 접수 - 주문 상품 30개도 기존 클레임 수량은 집계 쿼리 한 번으로 확인")
+    void createClaim_manyItems_singleAggregateQuery() throws Exception {
+        List<Map<String, Object>> items = orderItemIds.stream()
+                .map(id -> Map.<String, Object>of("orderItemId", id, "quantity", 1))
+                .toList();
+
+        MvcResult measured = mockMvc.perform(post("/api/claims")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(returnRequest(items))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.items.length()").value(ORDER_ITEM_COUNT))
+                .andReturn();
+        List<String> statements = SqlStatistics.of(measured.getRequest()).getExecutedSql();
+
+        assertThat(statements).filteredOn(sql -> sql.contains("sum(")).hasSize(1);
+        assertThat(statements).hasSizeLessThan(10);
+
+        // 주문 상품마다 1개씩 남았으므로 2개 반품은 거절
+        mockMvc.perform(post("/api/claims")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(returnRequest(List.of(
+                        Map.of("orderItemId", orderItemIds.get(0), "quantity", 2))))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_INPUT"));
+
+        mockMvc.perform(post("/api/claims")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(returnRequest(List.of(
+                        Map.of("orderItemId", orderItemIds.get(0), "quantity", 1))))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("반품 접수 - 같은 주문 상품을 여러 줄로 요청하면 합산 수량으로 검증")
+    void createClaim_duplicateLines_validatedTogether() throws Exception {
+        mockMvc.perform(post("/api/claims")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(returnRequest(List.of(
+                        Map.of("orderItemId", orderItemIds.get(0), "quantity", 1),
+                        Map.of("orderItemId", orderItemIds.get(0), "quantity", 2))))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_INPUT"));
+    }
+
+    @Test
+    @DisplayName("반품 접수 - 다른 주문의 상품은 400")
+    void createClaim_foreignOrderItem_badRequest() throws Exception {
+        mockMvc.perform(post("/api/claims")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(returnRequest(List.of(
+                        Map.of("orderItemId", 999999L, "quantity", 1))))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_INPUT"));
+    }
+
+    // ─── GET /api/claims/{id} ───────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("클레임 상세 조회 - 소유자 검증과 주문, 클레임 상품 로드를 SQL 한 문장으로 처리")
+    void getClaim_singleStatement() throws Exception {
+        Long claimId = createReturnClaim();
+        em.flush();
+        em.clear();
+
+        MvcResult measured = mockMvc.perform(get("/api/claims/" + claimId)
+                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.orderNumber").value("ORD202501010099"))
+                .andExpect(jsonPath("$.data.items.length()").value(1))
+                .andReturn();
+        List<String> statements = SqlStatistics.of(measured.getRequest()).getExecutedSql();
+
+        assertThat(statements)
+                .singleElement()
+                .satisfies(sql -> assertThat(sql.toLowerCase()).contains("from claims").contains("join orders"));
+    }
+
+    @Test
+    @DisplayName("클레임 상세 조회 - 다른 사용자의 클레임 404")
+    void getClaim_otherUserClaim_notFound() throws Exception {
+        Long claimId = createReturnClaim();
+
+        MvcResult result = mockMvc.perform(post("/api/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of(
+                        "email", "claim_other@test.com",
+                        "password", "password1234",
+                        "name", "다른유저"
+                ))))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String otherToken = objectMapper.readTree(result.getResponse().getContentAsString())
+                .path("data").path("accessToken").asText();
+
+        mockMvc.perform(get("/api/claims/" + claimId)
+                .header("Authorization", "Bearer " + otherToken))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error.code").value("CLAIM_NOT_FOUND"));
+    }
+
+    /** 첫 번째 주문 상품 1개 반품 클레임을 접수하고 claimId를 반환 */
+    private Long createReturnClaim() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/claims")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(returnRequest(List.of(
+                        Map.of("orderItemId", orderItemIds.get(0), "quantity", 1))))))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        return objectMapper.readTree(result.getResponse().getContentAsString())
+                .path("data").path("id").asLong();
+    }
+
+    private Map<String, Object> returnRequest(List<? extends Map<String, Object>> items) {
+        return Map.of(
+                "orderId", orderId,
+                "claimType", "RETURN",
+                "reason", "단순 변심",
+                "items", items
+        );
+    }
+}
@@ -0,0 +1,111 @@
+package com.shop.domain.curation.controller;
+
+import com.shop.domain.curation.service.CurationSnapshot;
+import com.shop.domain.product.event.ProductChangedEvent;
+import com.shop.global.sql.SqlStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Curation API 테스트")
+class CurationControllerTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired CurationSnapshot curationSnapshot;
+    @Autowired MeterRegistry meterRegistry;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update(
+                "INSERT INTO categories (name, description, display_order, depth, created_at, updated_at) " +
+                "VALUES ('브랜드A', '큐레이션 테스트', 1, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)"
+        );
+        Long categoryId = jdbcTemplate.queryForObject("SELECT id FROM categories WHERE name = '브랜드A'", Long.class);
+
+        jdbcTemplate.update(
+                "INSERT INTO products (name, description, price, stock, category_id, product_code, status, created_at, updated_at) " +
+                "VALUES ('린넨 셔츠', '큐레이션 상품', 80000, 10, ?, 'TST-CUR-001', 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                categoryId
+        );
+        productId = jdbcTemplate.queryForObject("SELECT id FROM products WHERE product_code = 'TST-CUR-001'", Long.class);
+
+        jdbcTemplate.update(
+                "INSERT INTO curations (title, description, image_url, display_order, active, created_at, updated_at) " +
+                "VALUES ('여름 추천', '여름 큐레이션', 'https://img.test/curation.jpg', 1, true, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)"
+        );
+        Long curationId = jdbcTemplate.queryForObject("SELECT id FROM curations WHERE title = '여름 추천'", Long.class);
+
+        jdbcTemplate.update(
+                "INSERT INTO curation_products (curation_id, product_id, display_order, badge_text, original_price, created_at, updated_at) " +
+                "VALUES (?, ?, 1, 'BEST', 100000, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                curationId, productId
+        );
+
+        curationSnapshot.rebuild();
+    }
+
+    @Test
+    @DisplayName("큐레이션 조회 - 미리 만들어 둔 스냅샷으로 SQL 없이 응답")
+    void getCurations_servedFromSnapshot() throws Exception {
+        MvcResult measured = mockMvc.perform(get("/api/curations"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data[0].title").value("여름 추천"))
+                .andExpect(jsonPath("$.data[0].products[0].productName").value("린넨 셔츠"))
+                .andExpect(jsonPath("$.data[0].products[0].brandName").value("브랜드A"))
+                .andExpect(jsonPath("$.data[0].products[0].discountRate").value(20))
+                .andExpect(jsonPath("$.data[0].products[0].likeCount").value(0))
+                .andReturn();
+        List<String> statements = SqlStatistics.of(measured.getRequest()).getExecutedSql();
+
+        assertThat(statements).as("스냅샷 조회 시 SQL 이 실행되지 않아야 함").isEmpty();
+    }
+
+    @Test
+    @DisplayName("포함 상품의 재고만 바뀌면 스냅샷을 다시 만들지 않고, 표시 필드가 바뀌면 다시 만듦")
+    void productChanged_rebuildsOnlyWhenRenderedFieldsChange() throws Exception {
+        long rebuilds = rebuildCount();
+
+        jdbcTemplate.update("UPDATE products SET stock = stock - 1 WHERE id = ?", productId);
+        curationSnapshot.onProductChanged(new ProductChangedEvent(productId));
+        curationSnapshot.refreshIfStale();
+        assertThat(rebuildCount()).isEqualTo(rebuilds);
+
+        jdbcTemplate.update("UPDATE products SET name = '린넨 셔츠 (리뉴얼)' WHERE id = ?", productId);
+        curationSnapshot.onProductChanged(new ProductChangedEvent(productId));
+        curationSnapshot.refreshIfStale();
+        assertThat(rebuildCount()).isEqualTo(rebuilds + 1);
+
+        mockMvc.perform(get("/api/curations"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].products[0].productName").value("린넨 셔츠 (리뉴얼)"));
+    }
+
+    private long rebuildCount() {
+        return meterRegistry.get("curation.snapshot.rebuild").timer().count();
+    }
+}
@@ -0,0 +1,169 @@
+package com.shop.domain.like.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.global.security.JwtUtil;
+import com.shop.support.CommittedFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 관리자 좋아요 API 테스트 - 내보내기는 요청 트랜잭션과 별개인 StatelessSession 커넥션으로 읽으므로,
+ * 테스트 트랜잭션 안의 미커밋 데이터는 보이지 않습니다. 좋아요는 CommittedFixtures 가 만든 사용자 · 상품에 직접 커밋합니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("관리자 좋아요 API 테스트")
+class ProductLikeControllerTest {
+
+    private static final int USER_COUNT = 5;
+
+    @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired JwtUtil jwtUtil;
+
+    private CommittedFixtures fixtures;
+    private Long productId;
+    private Long otherProductId;
+    private final List<Long> userIds = new ArrayList<>();
+    private String adminToken;
+    private String userToken;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new CommittedFixtures(jdbcTemplate);
+        Long categoryId = fixtures.category("좋아요 관리");
+        productId = fixtures.product(categoryId, "TST-ADM-LIKE-1", "니트, \"겨울\" 에디션", 10000, 10);
+        otherProductId = fixtures.product(categoryId, "TST-ADM-LIKE-2", "머플러", 10000, 10);
+
+        for (int i = 0; i < USER_COUNT; i++) {
+            Long userId = fixtures.user("admin_like" + i + "@test.com", "좋아요유저" + i, i == 0 ? "ADMIN" : "USER");
+            userIds.add(userId);
+
+            // 모든 사용자가 productId 에, 첫 번째 사용자만 otherProductId 에도 좋아요
+            jdbcTemplate.update(
+                    "INSERT INTO product_likes (user_id, product_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+                    userId, productId);
+        }
+        jdbcTemplate.update(
+                "INSERT INTO product_likes (user_id, product_id, created_at) VALUES (?, ?, CURRENT_TIMESTAMP)",
+                userIds.get(0), otherProductId);
+
+        adminToken = jwtUtil.generateAccessToken(userIds.get(0), "admin_like0@test.com", "ADMIN");
+        userToken = jwtUtil.generateAccessToken(userIds.get(1), "admin_like1@test.com", "USER");
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+        userIds.clear();
+    }
+
+    // ─── GET /api/admin/likes ───────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("관리자 좋아요 목록 - 상품 조건 + 커서로 최신순 페이지를 이어서 조회")
+    void getAdminLikes_keysetPages() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/admin/likes")
+                .header("Authorization", "Bearer " + adminToken)
+                .param("productId", String.valueOf(productId))
+                .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(3))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.content[0].userId").value(userIds.get(USER_COUNT - 1)))
+                .andReturn();
+        long cursor = objectMapper.readTree(first.getResponse().getContentAsString())
+                .path("data").path("nextCursor").asLong();
+
+        mockMvc.perform(get("/api/admin/likes")
+                .header("Authorization", "Bearer " + adminToken)
+                .param("productId", String.valueOf(productId))
+                .param("cursor", String.valueOf(cursor))
+                .param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(USER_COUNT - 3))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.data.content[1].userId").value(userIds.get(0)))
+                .andExpect(jsonPath("$.data.content[1].productName").value("니트, \"겨울\" 에디션"));
+    }
+
+    @Test
+    @DisplayName("관리자 좋아요 목록 - 일반 사용자는 403")
+    void getAdminLikes_user_forbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/likes")
+                .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/likes/export")
+                .header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
+    // ─── GET /api/admin/likes/export ────────────────────────────────────────────
+
+    @Test
+    @DisplayName("좋아요 내보내기 CSV - 조건에 맞는 행을 최신순으로, 쉼표 · 따옴표가 있는 값은 따옴표로 감쌈")
+    void exportLikes_csv() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/admin/likes/export")
+                .header("Authorization", "Bearer " + adminToken)
+                .param("productId", String.valueOf(productId)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"product-likes.csv\""))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(lines).hasSize(USER_COUNT + 1);
+        assertThat(lines[0]).isEqualTo("\uFEFFlikeId,userId,userEmail,userName,productId,productName,createdAt");
+        assertThat(lines[1]).contains("," + userIds.get(USER_COUNT - 1) + ",admin_like" + (USER_COUNT - 1) + "@test.com,");
+        assertThat(lines[USER_COUNT]).contains("," + productId + ",\"니트, \"\"겨울\"\" 에디션\",");
+    }
+
+    @Test
+    @DisplayName("좋아요 내보내기 JSON - 사용자 조건을 적용한 배열")
+    void exportLikes_json() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/admin/likes/export")
+                .header("Authorization", "Bearer " + adminToken)
+                .param("userId", String.valueOf(userIds.get(0)))
+                .param("format", "json"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/json"))
+                .andReturn();
+
+        JsonNode likes = objectMapper.readTree(result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+        assertThat(likes.isArray()).isTrue();
+        assertThat(likes).hasSize(2);
+        assertThat(likes.get(0).path("productId").asLong()).isEqualTo(otherProductId);
+        assertThat(likes.get(1).path("productId").asLong()).isEqualTo(productId);
+        assertThat(likes.get(0).path("userEmail").asText()).isEqualTo("admin_like0@test.com");
+    }
+
+    @Test
+    @DisplayName("좋아요 내보내기 - 지원하지 않는 형식은 400")
+    void exportLikes_unknownFormat_badRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/likes/export")
+                .header("Authorization", "Bearer " + adminToken)
+                .param("format", "xlsx"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_INPUT"));
+    }
+}
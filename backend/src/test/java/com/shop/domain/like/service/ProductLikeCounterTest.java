@@ -0,0 +1,102 @@
+package com.shop.domain.like.service;
+
+import com.shop.support.CommittedFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 수 카운터 테스트 - 여러 스레드의 토글이 각자 커밋된 뒤 메모리 증감분이 일괄 반영 · 정합성 보정으로
+ * product_like_counts 에 맞춰지는지 확인합니다. 스레드마다 트랜잭션이 따로 커밋되므로 테스트 데이터는 {@link CommittedFixtures} 로 만듭니다.
+ */
+@SpringBootTest(properties = {
+        "shop.like.counter.flush-interval-ms=600000",
+        "shop.like.counter.reconcile-initial-delay-ms=600000"
+})
+@ActiveProfiles("test")
+@DisplayName("좋아요 수 카운터 테스트")
+class ProductLikeCounterTest {
+
+    private static final int USER_COUNT = 30;
+
+    @Autowired ProductLikeService productLikeService;
+    @Autowired ProductLikeCounter productLikeCounter;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private CommittedFixtures fixtures;
+    private Long productId;
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new CommittedFixtures(jdbcTemplate);
+        Long categoryId = fixtures.category("좋아요");
+        productId = fixtures.product(categoryId, "TST-LIKE-001", "좋아요 상품", 10000, 10);
+        userIds = fixtures.users("like", "좋아요유저", USER_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    @DisplayName("동시 좋아요 토글은 반영 전에도 조회 값에 포함되고, 일괄 반영 후 카운터 테이블과 일치")
+    void concurrentToggles_countedAndFlushed() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        for (Long userId : userIds) {
+            executor.submit(() -> {
+                start.await();
+                productLikeService.toggleLike(userId, productId);
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+
+        // 첫 번째 사용자는 좋아요 취소
+        assertThat(productLikeService.toggleLike(userIds.get(0), productId).getLikeCount())
+                .isEqualTo(USER_COUNT - 1);
+        assertThat(productLikeService.getLikeCount(productId)).isEqualTo(USER_COUNT - 1);
+
+        productLikeCounter.flush();
+
+        assertThat(storedLikeCount()).isEqualTo(USER_COUNT - 1);
+        assertThat(productLikeService.getLikeCount(productId)).isEqualTo(USER_COUNT - 1);
+        assertThat(productLikeService.getLikeCountMap(List.of(productId))).containsEntry(productId, (long) USER_COUNT - 1);
+    }
+
+    @Test
+    @DisplayName("정합성 보정은 카운터 테이블을 product_likes 실제 건수로 맞춤")
+    void reconcile_fixesDrift() {
+        productLikeService.toggleLike(userIds.get(0), productId);
+        productLikeService.toggleLike(userIds.get(1), productId);
+        productLikeCounter.flush();
+
+        jdbcTemplate.update("UPDATE product_like_counts SET like_count = 999 WHERE product_id = ?", productId);
+        productLikeCounter.reconcile();
+
+        assertThat(storedLikeCount()).isEqualTo(2);
+        assertThat(productLikeService.getLikeCount(productId)).isEqualTo(2);
+    }
+
+    private Long storedLikeCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT like_count FROM product_like_counts WHERE product_id = ?", Long.class, productId);
+    }
+}
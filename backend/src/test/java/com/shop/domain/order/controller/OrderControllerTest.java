@@ -1,6 +1,10 @@
 package com.shop.domain.order.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.global.sql.SqlStatistics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,9 +19,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -32,6 +40,7 @@ class OrderControllerTest {
     @Autowired ObjectMapper objectMapper;
     @Autowired JdbcTemplate jdbcTemplate;
     @Autowired EntityManager em;
+    @Autowired MeterRegistry meterRegistry;
 
     private Long categoryId;
     private Long productId;
@@ -105,6 +114,7 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.success").value(true))
                 .andExpect(jsonPath("$.data.id").isNumber())
                 .andExpect(jsonPath("$.data.status").value("PENDING"))
+                .andExpect(jsonPath("$.data.orderNumber").value(matchesPattern("ORD\\d{20}")))
                 .andExpect(jsonPath("$.data.items").isArray())
                 .andExpect(jsonPath("$.data.items.length()").value(1))
                 .andExpect(jsonPath("$.data.items[0].quantity").value(2))
@@ -133,6 +143,30 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.error.code").value("OUT_OF_STOCK"));
     }
 
+    @Test
+    @DisplayName("주문 생성 - 재고 부족 거절은 주문 생성 타이머와 재고 거절 카운터에 기록")
+    void createOrder_outOfStock_recordsMetrics() throws Exception {
+        double rejectedBefore = counterValue("order.stock.rejected");
+        long successBefore = orderCreateCount("success");
+
+        mockMvc.perform(post("/api/orders")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(buildOrderRequest(999))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/orders")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(buildOrderRequest(1))))
+                .andExpect(status().isCreated());
+
+        assertThat(counterValue("order.stock.rejected")).isEqualTo(rejectedBefore + 1);
+        assertThat(meterRegistry.get("order.create").tag("outcome", "OUT_OF_STOCK").timer().count()).isPositive();
+        assertThat(meterRegistry.get("business.exceptions").tag("code", "OUT_OF_STOCK").counter().count()).isPositive();
+        // 성공 기록은 커밋 이후이므로 테스트 트랜잭션 안에서는 아직 기록되지 않음
+        assertThat(orderCreateCount("success")).isEqualTo(successBefore);
+    }
+
     @Test
     @DisplayName("주문 생성 - 존재하지 않는 상품 404")
     void createOrder_productNotFound() throws Exception {
@@ -150,6 +184,94 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.error.code").value("PRODUCT_NOT_FOUND"));
     }
 
+    @Test
+    @DisplayName("주문 생성 - 여러 상품 주문 시 상품 잠금은 한 번의 SELECT ... FOR UPDATE 로 처리")
+    void createOrder_multipleItems_locksInSingleStatement() throws Exception {
+        jdbcTemplate.update(
+                "INSERT INTO products (name, description, price, stock, category_id, product_code, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                "주문용 상품2", "주문 테스트 상품2", 10000, 5, categoryId, "TST-ORD-002"
+        );
+        Long secondProductId = jdbcTemplate.queryForObject(
+                "SELECT id FROM products WHERE name = ?", Long.class, "주문용 상품2"
+        );
+        Map<String, Object> body = Map.of(
+                "items", List.of(
+                        Map.of("productId", secondProductId, "quantity", 2),
+                        Map.of("productId", productId, "quantity", 1)
+                ),
+                "shippingAddress", "서울시 강남구 테헤란로 1",
+                "receiverName", "홍길동",
+                "receiverPhone", "010-1234-5678"
+        );
+
+        MvcResult measured = mockMvc.perform(post("/api/orders")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(body)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.items.length()").value(2))
+                .andExpect(jsonPath("$.data.totalPrice").value(50000))
+                .andReturn();
+        List<String> statements = SqlStatistics.of(measured.getRequest()).getExecutedSql();
+
+        assertThat(statements)
+                .filteredOn(sql -> sql.toLowerCase().contains("for update"))
+                .singleElement()
+                .satisfies(sql -> assertThat(sql.toLowerCase()).contains("from products").contains("order by"));
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 주문 상품 INSERT 와 재고 UPDATE 는 상품 수와 무관하게 JDBC 배치 한 번으로 처리")
+    void createOrder_manyItems_batchesStatements() throws Exception {
+        int itemCount = 20;
+        List<Object[]> products = new ArrayList<>();
+        for (int i = 1; i <= itemCount; i++) {
+            products.add(new Object[]{"배치 상품 " + i, "배치 테스트 상품", 1000 * i, 10, categoryId, "TST-BAT-" + i});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO products (name, description, price, stock, category_id, product_code, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                products
+        );
+        List<Map<String, Object>> items = jdbcTemplate.queryForList(
+                "SELECT id FROM products WHERE product_code LIKE 'TST-BAT-%'", Long.class).stream()
+                .map(id -> Map.<String, Object>of("productId", id, "quantity", 1))
+                .toList();
+        Map<String, Object> body = new HashMap<>(ORDER_BODY_TEMPLATE);
+        body.put("items", items);
+
+        MvcResult measured = mockMvc.perform(post("/api/orders")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(body)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.items.length()").value(itemCount))
+                .andReturn();
+        List<String> statements = new ArrayList<>(SqlStatistics.of(measured.getRequest()).getExecutedSql());
+        // 요청 이후 테스트 트랜잭션에서 flush 되는 문장도 함께 수집
+        SqlStatistics.start();
+        em.flush();
+        statements.addAll(SqlStatistics.stop().getExecutedSql());
+
+        assertThat(statements)
+                .as("주문 상품 %d건이 하나의 배치 INSERT 문으로 실행되어야 함", itemCount)
+                .filteredOn(sql -> sql.toLowerCase().contains("insert into order_items"))
+                .hasSize(1);
+        assertThat(statements)
+                .filteredOn(sql -> sql.toLowerCase().contains("insert into orders"))
+                .hasSize(1);
+        assertThat(statements)
+                .filteredOn(sql -> sql.toLowerCase().contains("insert into payments"))
+                .hasSize(1);
+        assertThat(statements)
+                .as("재고 차감 %d건이 하나의 배치 UPDATE 문으로 실행되어야 함", itemCount)
+                .filteredOn(sql -> sql.toLowerCase().startsWith("update products"))
+                .hasSize(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_items", Integer.class))
+                .isEqualTo(itemCount);
+    }
+
     @Test
     @DisplayName("주문 생성 - 필수 필드 누락 시 400")
     void createOrder_missingField_badRequest() throws Exception {
@@ -197,6 +319,33 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.data.totalElements").value(2));
     }
 
+    @Test
+    @DisplayName("주문 목록 조회 - 페이지 크기와 무관하게 SQL 3문장 이하, Server-Timing 헤더 포함")
+    void getOrders_statementCountIndependentOfPageSize() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            createOrder(1);
+        }
+        em.flush();
+        em.clear();
+
+        for (String size : List.of("1", "10")) {
+            MvcResult result = mockMvc.perform(get("/api/orders")
+                    .header("Authorization", "Bearer " + accessToken)
+                    .param("size", size))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.totalElements").value(3))
+                    .andExpect(header().string("Server-Timing", matchesPattern("db;dur=[0-9.]+;desc=\"\\d+ statements, \\d+ rows\"")))
+                    .andReturn();
+            em.clear();
+
+            SqlStatistics statistics = SqlStatistics.of(result.getRequest());
+            assertThat(statistics.getStatements())
+                    .as("size=%s 주문 목록 조회 SQL 문장 수", size)
+                    .isLessThanOrEqualTo(3);
+            assertThat(statistics.getRows()).isPositive();
+        }
+    }
+
     // ─── 주문 단건 조회 ────────────────────────────────────────────────────────────
 
     @Test
@@ -213,6 +362,25 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.data.items").isArray());
     }
 
+    @Test
+    @DisplayName("주문 단건 조회 - 소유자 검증과 items, product 로드를 SQL 한 문장으로 처리")
+    void getOrder_singleStatement() throws Exception {
+        Long orderId = createOrder(1);
+        em.flush();
+        em.clear();
+
+        MvcResult measured = mockMvc.perform(get("/api/orders/" + orderId)
+                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].productId").value(productId))
+                .andReturn();
+        List<String> statements = SqlStatistics.of(measured.getRequest()).getExecutedSql();
+
+        assertThat(statements)
+                .singleElement()
+                .satisfies(sql -> assertThat(sql.toLowerCase()).contains("from orders").contains("join products"));
+    }
+
     @Test
     @DisplayName("주문 단건 조회 - 다른 사용자의 주문 404")
     void getOrder_otherUserOrder_notFound() throws Exception {
@@ -268,6 +436,26 @@ class OrderControllerTest {
                 .andExpect(status().isCreated());
     }
 
+    @Test
+    @DisplayName("주문 취소 - 주문은 소유자 조건을 포함한 조회 한 번으로 로드")
+    void cancelOrder_loadsOrderOnce() throws Exception {
+        Long orderId = createOrder(1);
+        em.flush();
+        em.clear();
+
+        MvcResult measured = mockMvc.perform(delete("/api/orders/" + orderId)
+                .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("CANCELLED"))
+                .andReturn();
+        List<String> statements = SqlStatistics.of(measured.getRequest()).getExecutedSql();
+
+        assertThat(statements)
+                .filteredOn(sql -> sql.toLowerCase().startsWith("select") && sql.toLowerCase().contains("from orders"))
+                .singleElement()
+                .satisfies(sql -> assertThat(sql.toLowerCase()).contains("user_id"));
+    }
+
     @Test
     @DisplayName("주문 취소 - SHIPPING 상태는 취소 불가 400")
     void cancelOrder_shipping_badRequest() throws Exception {
@@ -326,6 +514,16 @@ class OrderControllerTest {
                 .path("data").path("id").asLong();
     }
 
+    private double counterValue(String name) {
+        Counter counter = meterRegistry.find(name).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private long orderCreateCount(String outcome) {
+        Timer timer = meterRegistry.find("order.create").tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
     /** 표준 주문 요청 본문 생성 */
     private Map<String, Object> buildOrderRequest(int quantity) {
         return Map.of(
@@ -0,0 +1,114 @@
+package com.shop.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.domain.order.dto.CreateOrderRequest;
+import com.shop.support.CommittedFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 다중 상품 주문 일괄 잠금 동시성 테스트 - 상품 순서가 반대인 주문들이 각자의 트랜잭션에서 같은 두 상품 행을 잠그므로,
+ * 테스트 트랜잭션으로 감싸지 않고 커밋된 데이터(CommittedFixtures)로 교착 · 잠금 실패가 없는지 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("주문 상품 일괄 잠금 동시성 테스트")
+class OrderBatchLockConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 10_000;
+    private static final int USER_COUNT = 10;
+
+    @Autowired OrderService orderService;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired ObjectMapper objectMapper;
+
+    private CommittedFixtures fixtures;
+    private Long productA;
+    private Long productB;
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new CommittedFixtures(jdbcTemplate);
+        Long categoryId = fixtures.category("일괄잠금");
+        productA = fixtures.product(categoryId, "TST-LCK-001", "잠금 상품 A", 10000, INITIAL_STOCK);
+        productB = fixtures.product(categoryId, "TST-LCK-002", "잠금 상품 B", 10000, INITIAL_STOCK);
+        userIds = fixtures.users("lock", "잠금유저", USER_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    @DisplayName("상품 순서가 반대인 주문이 동시에 들어와도 교착 상태 없이 모두 처리")
+    void oppositeItemOrder_noDeadlock() throws Exception {
+        int attempts = 400;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger lockFailures = new AtomicInteger();
+        AtomicInteger otherFailures = new AtomicInteger();
+
+        for (int i = 0; i < attempts; i++) {
+            Long userId = userIds.get(i % USER_COUNT);
+            boolean reversed = i % 2 == 1;
+            executor.submit(() -> {
+                start.await();
+                try {
+                    orderService.createOrder(userId, reversed
+                            ? orderRequest(productB, productA)
+                            : orderRequest(productA, productB));
+                } catch (PessimisticLockingFailureException e) {
+                    lockFailures.incrementAndGet();
+                } catch (RuntimeException e) {
+                    otherFailures.incrementAndGet();
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        assertThat(lockFailures.get()).isZero();
+        // 주문번호가 노드 · 밀리초 · 순번으로 발급되어 중복되지 않으므로 주문번호 유니크 위반 등 다른 실패도 없어야 함
+        assertThat(otherFailures.get()).isZero();
+        for (Long productId : List.of(productA, productB)) {
+            Integer stock = jdbcTemplate.queryForObject(
+                    "SELECT stock FROM products WHERE id = ?", Integer.class, productId);
+            Integer ordered = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(SUM(quantity), 0) FROM order_items WHERE product_id = ?", Integer.class, productId);
+            assertThat(stock + ordered).isEqualTo(INITIAL_STOCK);
+        }
+    }
+
+    private CreateOrderRequest orderRequest(Long first, Long second) {
+        return objectMapper.convertValue(Map.of(
+                "items", List.of(
+                        Map.of("productId", first, "quantity", 1),
+                        Map.of("productId", second, "quantity", 1)
+                ),
+                "shippingAddress", "서울시 강남구 테헤란로 1",
+                "receiverName", "홍길동",
+                "receiverPhone", "010-1234-5678"
+        ), CreateOrderRequest.class);
+    }
+}
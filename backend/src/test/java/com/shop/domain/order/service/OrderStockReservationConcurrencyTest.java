@@ -0,0 +1,156 @@
+package com.shop.domain.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.domain.order.dto.CreateOrderRequest;
+import com.shop.domain.product.service.StockReservationService;
+import com.shop.global.exception.BusinessException;
+import com.shop.global.exception.ErrorCode;
+import com.shop.support.CommittedFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인메모리 재고 예약 동시성 테스트 - 예약된 재고가 주문 트랜잭션 커밋 후 주기적으로 DB 에 반영되므로,
+ * 커밋된 상품 · 사용자(CommittedFixtures)로 초과 판매가 없고 DB 재고와 주문 수량이 맞는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "shop.stock.reservation.enabled=true",
+        "shop.stock.reservation.flush-interval-ms=20"
+})
+@ActiveProfiles("test")
+@DisplayName("재고 예약 동시성 테스트")
+class OrderStockReservationConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 100;
+    private static final int USER_COUNT = 20;
+
+    @Autowired OrderService orderService;
+    @Autowired StockReservationService stockReservationService;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired ObjectMapper objectMapper;
+
+    private CommittedFixtures fixtures;
+    private Long productId;
+    private List<Long> userIds;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new CommittedFixtures(jdbcTemplate);
+        Long categoryId = fixtures.category("재고예약");
+        productId = fixtures.product(categoryId, "TST-RSV-001", "한정판 스니커즈", 159000, INITIAL_STOCK);
+        userIds = fixtures.users("reserve", "예약유저", USER_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    @DisplayName("수천 건의 동시 주문에도 재고 이상으로 판매되지 않고, DB 재고와 주문 수량이 일치")
+    void concurrentOrders_neverOversell() throws Exception {
+        int attempts = 2000;
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+
+        for (int i = 0; i < attempts; i++) {
+            Long userId = userIds.get(i % USER_COUNT);
+            executor.submit(() -> {
+                start.await();
+                try {
+                    orderService.createOrder(userId, orderRequest(productId, 1));
+                    succeeded.incrementAndGet();
+                } catch (BusinessException e) {
+                    if (e.getErrorCode() == ErrorCode.OUT_OF_STOCK) {
+                        outOfStock.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(2, TimeUnit.MINUTES)).isTrue();
+
+        stockReservationService.flush();
+
+        Integer stock = jdbcTemplate.queryForObject("SELECT stock FROM products WHERE id = ?", Integer.class, productId);
+        Integer ordered = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(quantity), 0) FROM order_items WHERE product_id = ?", Integer.class, productId);
+
+        // 주문번호 충돌로 실패하는 주문이 없으므로 재고만큼 정확히 성공하고 나머지는 모두 재고 부족
+        assertThat(succeeded.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(outOfStock.get()).isEqualTo(attempts - INITIAL_STOCK);
+        assertThat(ordered).isEqualTo(succeeded.get());
+        assertThat(stock).isGreaterThanOrEqualTo(0);
+        assertThat(stock + ordered).isEqualTo(INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("롤백된 주문의 예약은 해제되어 다른 주문이 구매 가능")
+    void rolledBackOrder_releasesReservation() {
+        jdbcTemplate.update("UPDATE products SET stock = 1 WHERE id = ?", productId);
+        Long missingUserId = Long.MAX_VALUE;
+
+        // 존재하지 않는 사용자 → 주문 INSERT 시 FK 위반으로 롤백
+        assertThatThrownBy(() -> orderService.createOrder(missingUserId, orderRequest(productId, 1)))
+                .isNotInstanceOf(BusinessException.class);
+
+        orderService.createOrder(userIds.get(0), orderRequest(productId, 1));
+        assertThatThrownBy(() -> orderService.createOrder(userIds.get(1), orderRequest(productId, 1)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.OUT_OF_STOCK);
+
+        stockReservationService.flush();
+        Integer stock = jdbcTemplate.queryForObject("SELECT stock FROM products WHERE id = ?", Integer.class, productId);
+        assertThat(stock).isZero();
+    }
+
+    @Test
+    @DisplayName("카운터를 거치지 않은 재고 수정은 재동기화 후 예약에 반영")
+    void resync_picksUpStockChangedOutsideCounter() {
+        orderService.createOrder(userIds.get(0), orderRequest(productId, 1));
+        stockReservationService.flush();
+
+        // 관리자 화면 등에서 DB 재고를 직접 수정
+        jdbcTemplate.update("UPDATE products SET stock = 3 WHERE id = ?", productId);
+        stockReservationService.resync();
+
+        assertThatThrownBy(() -> orderService.createOrder(userIds.get(1), orderRequest(productId, 4)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.OUT_OF_STOCK);
+        orderService.createOrder(userIds.get(1), orderRequest(productId, 3));
+
+        stockReservationService.flush();
+        Integer stock = jdbcTemplate.queryForObject("SELECT stock FROM products WHERE id = ?", Integer.class, productId);
+        assertThat(stock).isZero();
+    }
+
+    private CreateOrderRequest orderRequest(Long productId, int quantity) {
+        return objectMapper.convertValue(Map.of(
+                "items", List.of(Map.of("productId", productId, "quantity", quantity)),
+                "shippingAddress", "서울시 강남구 테헤란로 1",
+                "receiverName", "홍길동",
+                "receiverPhone", "010-1234-5678"
+        ), CreateOrderRequest.class);
+    }
+}
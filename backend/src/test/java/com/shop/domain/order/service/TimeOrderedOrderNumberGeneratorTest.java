@@ -0,0 +1,102 @@
+package com.shop.domain.order.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("주문번호 생성기 테스트")
+class TimeOrderedOrderNumberGeneratorTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    @Test
+    @DisplayName("같은 밀리초에 100건을 넘게 발급해도 중복 없이 증가하는 순서로 발급")
+    void sameMillisecond_uniqueAndOrdered() {
+        Clock fixed = Clock.fixed(Instant.parse("2025-03-01T03:04:05.678Z"), SEOUL);
+        TimeOrderedOrderNumberGenerator generator = new TimeOrderedOrderNumberGenerator(7, fixed);
+
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            numbers.add(generator.generate());
+        }
+
+        assertThat(numbers).doesNotHaveDuplicates().isSorted();
+        assertThat(numbers.get(0)).isEqualTo("ORD20250301" + "43445678" + "00" + "07");
+        assertThat(numbers).allSatisfy(number -> assertThat(OrderNumberGenerator.isWellFormed(number)).isTrue());
+    }
+
+    @Test
+    @DisplayName("노드가 다르면 같은 시각에 발급해도 충돌하지 않음")
+    void differentNodes_neverCollide() {
+        Clock fixed = Clock.fixed(Instant.parse("2025-03-01T00:00:00Z"), SEOUL);
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 4).parallel().forEach(node -> {
+            TimeOrderedOrderNumberGenerator generator = new TimeOrderedOrderNumberGenerator(node, fixed);
+            for (int i = 0; i < 5_000; i++) {
+                issued.add(generator.generate());
+            }
+        });
+
+        assertThat(issued).hasSize(20_000);
+    }
+
+    @Test
+    @DisplayName("이전 15자리 주문번호 형식도 유효한 주문번호로 인식")
+    void legacyFormat_isWellFormed() {
+        assertThat(OrderNumberGenerator.isWellFormed("ORD202401150042")).isTrue();
+        assertThat(OrderNumberGenerator.isWellFormed("ORD123")).isFalse();
+        assertThat(OrderNumberGenerator.isWellFormed("PAY202401150042")).isFalse();
+        assertThat(OrderNumberGenerator.isWellFormed(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("밀리초당 100건을 넘는 발급이 이어져도 현재 시각보다 MAX_AHEAD_MILLIS 이상 앞서 발급하지 않음")
+    void burst_borrowsAtMostMaxAhead() {
+        Instant start = Instant.parse("2025-03-01T00:00:00Z");
+        AtomicLong calls = new AtomicLong();
+        // 시계 조회 1,000번마다 1ms 흐르는 시계 - 발급 속도가 시계보다 빠른 상황
+        Clock slow = new Clock() {
+            @Override public ZoneId getZone() { return SEOUL; }
+            @Override public Clock withZone(ZoneId zone) { return this; }
+            @Override public Instant instant() { return start.plusMillis(calls.getAndIncrement() / 1_000); }
+        };
+        TimeOrderedOrderNumberGenerator generator = new TimeOrderedOrderNumberGenerator(1, slow);
+
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            numbers.add(generator.generate());
+            long issuedMillis = Long.parseLong(numbers.get(i).substring(11, 19));
+            long nowMillis = slow.millis() - start.toEpochMilli() + 9 * 3_600_000L;
+            assertThat(issuedMillis).isLessThanOrEqualTo(nowMillis + TimeOrderedOrderNumberGenerator.MAX_AHEAD_MILLIS);
+        }
+        assertThat(numbers).doesNotHaveDuplicates().isSorted();
+    }
+
+    @Test
+    @DisplayName("노드 ID 를 설정하지 않으면 기동 실패 - 모든 인스턴스가 같은 기본 노드가 되지 않도록")
+    void missingNodeId_rejected() {
+        assertThatThrownBy(() -> new TimeOrderedOrderNumberGenerator(""))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("ORDER_NODE_ID");
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위를 벗어나면 생성 실패")
+    void invalidNodeId_rejected() {
+        assertThatThrownBy(() -> new TimeOrderedOrderNumberGenerator(100, Clock.systemUTC()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
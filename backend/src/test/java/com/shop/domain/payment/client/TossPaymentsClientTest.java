@@ -0,0 +1,168 @@
+package com.shop.domain.payment.client;
+
+import com.shop.global.config.TossPaymentsProperties;
+import com.shop.support.TossPaymentsStubServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+/**
+ * 토스페이먼츠 클라이언트 테스트 - 로컬 HTTP 스텁으로 지연 · 오류 · 연결 끊김을 주입합니다.
+ */
+@DisplayName("토스페이먼츠 클라이언트 테스트")
+class TossPaymentsClientTest {
+
+    private static final String SERVER_ERROR = "{\"code\":\"PROVIDER_ERROR\",\"message\":\"일시적인 오류입니다.\"}";
+    private static final TossPaymentsStubServer TOSS = new TossPaymentsStubServer().start();
+
+    private SimpleMeterRegistry meterRegistry;
+    private TossPaymentsProperties properties;
+
+    @AfterAll
+    static void stopStub() {
+        TOSS.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        TOSS.reset();
+        meterRegistry = new SimpleMeterRegistry();
+
+        properties = new TossPaymentsProperties();
+        properties.setSecretKey("test_sk");
+        properties.setBaseUrl(TOSS.baseUrl());
+        properties.setConfirm(new TossPaymentsProperties.Operation(Duration.ofMillis(300), 10));
+        properties.setCancel(new TossPaymentsProperties.Operation(Duration.ofSeconds(2), 1));
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(4);
+        properties.getCircuitBreaker().setWaitDurationInOpenState(Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("연속 호출은 같은 커넥션을 재사용하고, 미리 계산한 인증 헤더를 보냄")
+    void confirm_reusesConnection() {
+        TossPaymentsClient client = new TossPaymentsClient(properties, meterRegistry);
+
+        client.confirm("pk_1", "ORD1", 1000);
+        client.confirm("pk_2", "ORD2", 2000);
+
+        List<TossPaymentsStubServer.RecordedRequest> requests = TOSS.requests();
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(0).clientPort()).isEqualTo(requests.get(1).clientPort());
+        assertThat(requests).allSatisfy(request -> {
+            assertThat(request.authorization()).isEqualTo("Basic dGVzdF9zazo=");
+            assertThat(request.path()).isEqualTo("/v1/payments/confirm");
+        });
+        assertThat(requests.get(0).idempotencyKey()).isEqualTo("ORD1");
+    }
+
+    @Test
+    @DisplayName("승인 타임아웃을 넘기면 응답을 기다리지 않고 TIMEOUT 으로 실패")
+    void confirm_timeout() {
+        TossPaymentsClient client = new TossPaymentsClient(properties, meterRegistry);
+        TOSS.enqueueDelayed(200, "{}", Duration.ofSeconds(2));
+
+        long startedAt = System.nanoTime();
+        TossPaymentsException e = catchThrowableOfType(
+                () -> client.confirm("pk_1", "ORD1", 1000), TossPaymentsException.class);
+
+        assertThat(e.getCode()).isEqualTo("TIMEOUT");
+        assertThat(e.isRetryable()).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(2));
+        assertThat(meterRegistry.get("toss.payments.requests")
+                .tag("operation", "confirm").tag("code", "TIMEOUT").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("응답 없이 연결이 끊기면 NETWORK_ERROR")
+    void cancel_disconnect() {
+        TossPaymentsClient client = new TossPaymentsClient(properties, meterRegistry);
+        TOSS.enqueueDisconnect();
+
+        TossPaymentsException e = catchThrowableOfType(
+                () -> client.cancel("pk 1", "CANCEL-1", "고객 요청"), TossPaymentsException.class);
+
+        assertThat(e.getStatus()).isZero();
+        assertThat(e.getCode()).isEqualTo("NETWORK_ERROR");
+        assertThat(TOSS.requests().get(0).path()).isEqualTo("/v1/payments/pk 1/cancel");
+    }
+
+    @Test
+    @DisplayName("5xx 가 임계치를 넘으면 서킷이 열려 토스를 호출하지 않고 바로 실패")
+    void serverErrors_openCircuit() {
+        TossPaymentsClient client = new TossPaymentsClient(properties, meterRegistry);
+        for (int i = 0; i < 4; i++) {
+            TOSS.enqueue(503, SERVER_ERROR);
+        }
+
+        for (int i = 0; i < 4; i++) {
+            int attempt = i;
+            assertThatThrownBy(() -> client.confirm("pk_" + attempt, "ORD" + attempt, 1000))
+                    .isInstanceOf(TossPaymentsException.class)
+                    .extracting("code").isEqualTo("PROVIDER_ERROR");
+        }
+
+        TossPaymentsException e = catchThrowableOfType(
+                () -> client.cancel("pk_0", "CANCEL-0", "고객 요청"), TossPaymentsException.class);
+        assertThat(e.getCode()).isEqualTo("CIRCUIT_OPEN");
+        assertThat(e.isRetryable()).isTrue();
+        assertThat(TOSS.requests()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("4xx 는 토스가 정상 응답한 것이므로 서킷을 열지 않음")
+    void clientErrors_keepCircuitClosed() {
+        TossPaymentsClient client = new TossPaymentsClient(properties, meterRegistry);
+        for (int i = 0; i < 4; i++) {
+            TOSS.enqueue(400, "{\"code\":\"REJECT_CARD_COMPANY\",\"message\":\"카드사 거절\"}");
+        }
+
+        for (int i = 0; i < 4; i++) {
+            int attempt = i;
+            assertThatThrownBy(() -> client.confirm("pk_" + attempt, "ORD" + attempt, 1000))
+                    .isInstanceOf(TossPaymentsException.class)
+                    .extracting("code").isEqualTo("REJECT_CARD_COMPANY");
+        }
+
+        client.confirm("pk_4", "ORD4", 1000);
+        assertThat(TOSS.requests()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("취소 벌크헤드가 가득 차면 대기하지 않고 BULKHEAD_FULL, 승인 호출은 영향받지 않음")
+    void cancelBulkhead_full() throws Exception {
+        TossPaymentsClient client = new TossPaymentsClient(properties, meterRegistry);
+        TOSS.enqueueDelayed(200, "{}", Duration.ofMillis(500));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<Void> slowCancel = CompletableFuture.runAsync(
+                    () -> client.cancel("pk_1", "CANCEL-1", "고객 요청"), executor);
+            while (TOSS.requests().isEmpty()) {
+                Thread.sleep(10);
+            }
+
+            TossPaymentsException e = catchThrowableOfType(
+                    () -> client.cancel("pk_2", "CANCEL-2", "고객 요청"), TossPaymentsException.class);
+            assertThat(e.getCode()).isEqualTo("BULKHEAD_FULL");
+
+            client.confirm("pk_3", "ORD3", 1000);
+            slowCancel.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(TOSS.requests()).hasSize(2);
+    }
+}
@@ -0,0 +1,161 @@
+package com.shop.domain.payment.controller;
+
+import com.shop.support.TossPaymentsStubServer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 승인 부하 테스트 - 응답이 느린 로컬 토스 스텁을 대상으로 처리량을 측정합니다.
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행합니다. (-PjavaVersion=21 -PvirtualThreads 로 가상 스레드 모드)
+ */
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "toss.payments.confirm.max-concurrent-calls=400")
+@ActiveProfiles("test")
+@DisplayName("결제 승인 부하 테스트")
+class PaymentConfirmLoadTest {
+
+    private static final int ORDER_COUNT = 1_000;
+    private static final int CONCURRENCY = 400;
+    private static final Duration TOSS_LATENCY = Duration.ofMillis(300);
+    private static final TossPaymentsStubServer TOSS = new TossPaymentsStubServer().start();
+
+    @DynamicPropertySource
+    static void tossProperties(DynamicPropertyRegistry registry) {
+        registry.add("toss.payments.base-url", TOSS::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        TOSS.stop();
+    }
+
+    @LocalServerPort int port;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired Environment environment;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        TOSS.reset();
+        TOSS.setDelay(TOSS_LATENCY);
+
+        jdbcTemplate.update(
+                "INSERT INTO users (email, password, name, role, login_type, created_at, updated_at) " +
+                "VALUES ('load@test.com', 'password', '부하유저', 'USER', 'LOCAL', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)"
+        );
+        userId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = 'load@test.com'", Long.class);
+
+        List<Object[]> orders = IntStream.range(0, ORDER_COUNT)
+                .mapToObj(i -> new Object[]{userId, orderNumber(i)})
+                .toList();
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO orders (id, user_id, total_price, status, order_number, shipping_address, receiver_name, receiver_phone, created_at, updated_at) " +
+                "VALUES (NEXT VALUE FOR orders_seq, ?, 30000, 'PENDING', ?, '서울시', '홍길동', '010-0000-0000', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                orders
+        );
+        jdbcTemplate.update(
+                "INSERT INTO payments (id, order_id, payment_method, payment_amount, payment_status, created_at, updated_at) " +
+                "SELECT NEXT VALUE FOR payments_seq, id, 'CARD', 30000, 'PENDING', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM orders WHERE user_id = ?",
+                userId
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM payments WHERE order_id IN (SELECT id FROM orders WHERE user_id = ?)", userId);
+        jdbcTemplate.update("DELETE FROM orders WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("느린 토스 응답에도 결제 승인 요청을 동시에 처리")
+    void confirmThroughput(TestReporter testReporter) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newFixedThreadPool(CONCURRENCY))
+                .build();
+        ExecutorService callers = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            HttpRequest request = confirmRequest(orderNumber(i));
+            results.add(callers.submit(() -> {
+                start.await();
+                return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        List<Integer> statuses = new ArrayList<>();
+        for (Future<Integer> result : results) {
+            statuses.add(result.get());
+        }
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        callers.shutdown();
+
+        String throughput = String.format("%.1f", ORDER_COUNT * 1000.0 / elapsedMs);
+        log.info("결제 승인 부하 테스트 - profiles={}, orders={}, concurrency={}, tossLatency={}ms, elapsed={}ms, throughput={} req/s",
+                Arrays.toString(environment.getActiveProfiles()), ORDER_COUNT, CONCURRENCY, TOSS_LATENCY.toMillis(),
+                elapsedMs, throughput);
+        testReporter.publishEntry(Map.of(
+                "profiles", Arrays.toString(environment.getActiveProfiles()),
+                "elapsedMs", String.valueOf(elapsedMs),
+                "throughputPerSecond", throughput));
+
+        assertThat(statuses).containsOnly(200);
+        assertThat(TOSS.requests()).hasSize(ORDER_COUNT);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM payments p JOIN orders o ON p.order_id = o.id " +
+                "WHERE o.user_id = ? AND p.payment_status = 'COMPLETED' AND o.status = 'PAID'",
+                Integer.class, userId))
+                .isEqualTo(ORDER_COUNT);
+    }
+
+    private HttpRequest confirmRequest(String orderNumber) {
+        String body = "{\"paymentKey\":\"pk_" + orderNumber + "\",\"orderId\":\"" + orderNumber + "\",\"amount\":30000}";
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/payments/confirm"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static String orderNumber(int index) {
+        return String.format("ORD20250101%04d", index);
+    }
+}
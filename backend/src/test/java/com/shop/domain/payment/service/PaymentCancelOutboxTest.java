@@ -0,0 +1,216 @@
+package com.shop.domain.payment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.domain.order.service.OrderService;
+import com.shop.domain.payment.dto.PaymentResponse;
+import com.shop.domain.payment.dto.TossPaymentConfirmRequest;
+import com.shop.global.exception.BusinessException;
+import com.shop.global.exception.ErrorCode;
+import com.shop.support.CommittedFixtures;
+import com.shop.support.TossPaymentsStubServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 결제 취소 아웃박스 테스트 - 주문 취소가 커밋된 뒤에만 디스패처가 아웃박스 행을 집어 토스 취소를 호출하므로,
+ * 커밋된 주문 · 결제(CommittedFixtures + 직접 INSERT)와 로컬 HTTP 스텁(토스 API)으로 재시도 · 실패 처리와
+ * 토스 승인 호출 도중 주문이 취소되는 경우까지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "shop.payment.cancel-outbox.poll-interval-ms=50",
+        "shop.payment.cancel-outbox.initial-backoff-ms=20",
+        "shop.payment.cancel-outbox.max-attempts=3"
+})
+@ActiveProfiles("test")
+@DisplayName("결제 취소 아웃박스 테스트")
+class PaymentCancelOutboxTest {
+
+    private static final String ORDER_NUMBER = "ORD202501010001";
+    private static final TossPaymentsStubServer TOSS = new TossPaymentsStubServer().start();
+
+    @DynamicPropertySource
+    static void tossProperties(DynamicPropertyRegistry registry) {
+        registry.add("toss.payments.base-url", TOSS::baseUrl);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        TOSS.stop();
+    }
+
+    @Autowired OrderService orderService;
+    @Autowired PaymentService paymentService;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired MeterRegistry meterRegistry;
+
+    private CommittedFixtures fixtures;
+    private Long userId;
+    private Long orderId;
+    private Long paymentId;
+
+    @BeforeEach
+    void setUp() {
+        TOSS.reset();
+
+        fixtures = new CommittedFixtures(jdbcTemplate);
+        userId = fixtures.user("cancel@test.com", "취소유저");
+        Long categoryId = fixtures.category("결제취소");
+        Long productId = fixtures.product(categoryId, "TST-CNL-001", "취소 상품", 30000, 5);
+
+        jdbcTemplate.update(
+                "INSERT INTO orders (id, user_id, total_price, status, order_number, shipping_address, receiver_name, receiver_phone, created_at, updated_at) " +
+                "VALUES (NEXT VALUE FOR orders_seq, ?, 30000, 'PAID', ?, '서울시', '홍길동', '010-0000-0000', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                userId, ORDER_NUMBER
+        );
+        orderId = jdbcTemplate.queryForObject("SELECT id FROM orders WHERE order_number = ?", Long.class, ORDER_NUMBER);
+
+        jdbcTemplate.update(
+                "INSERT INTO order_items (id, order_id, product_id, quantity, price_at_order, product_name) " +
+                "VALUES (NEXT VALUE FOR order_items_seq, ?, ?, 1, 30000, '취소 상품')",
+                orderId, productId
+        );
+        jdbcTemplate.update(
+                "INSERT INTO payments (id, order_id, payment_method, payment_amount, payment_status, payment_key, created_at, updated_at) " +
+                "VALUES (NEXT VALUE FOR payments_seq, ?, 'CARD', 30000, 'COMPLETED', 'pk_test_cancel', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                orderId
+        );
+        paymentId = jdbcTemplate.queryForObject("SELECT id FROM payments WHERE order_id = ?", Long.class, orderId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    @DisplayName("주문 취소 커밋 후 디스패처가 토스 취소를 호출하고 결제 환불 · 클레임 완료 처리")
+    void cancelOrder_dispatchesTossCancelAfterCommit() {
+        TOSS.enqueueDelayed(200, "{}", Duration.ofSeconds(1));
+        orderService.cancelOrder(userId, orderId);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, orderId))
+                .isEqualTo("CANCELLED");
+        // 토스 취소가 끝나기 전까지 클레임은 처리중, 결제는 완료 상태
+        assertThat(claimStatus()).isEqualTo("PROCESSING");
+        assertThat(paymentStatus()).isEqualTo("COMPLETED");
+
+        awaitUntil(() -> "COMPLETED".equals(outboxStatus()));
+
+        assertThat(paymentStatus()).isEqualTo("REFUNDED");
+        assertThat(claimStatus()).isEqualTo("COMPLETED");
+        assertThat(TOSS.requests()).singleElement().satisfies(request -> {
+            assertThat(request.path()).isEqualTo("/v1/payments/pk_test_cancel/cancel");
+            assertThat(request.idempotencyKey()).isEqualTo("cancel_" + ORDER_NUMBER);
+        });
+    }
+
+    @Test
+    @DisplayName("토스 일시 장애(5xx) 시 백오프 후 같은 멱등키로 재시도하여 환불 완료")
+    void transientFailure_retriedWithBackoff() {
+        TOSS.enqueue(503, "{\"code\":\"PROVIDER_ERROR\",\"message\":\"일시적인 오류입니다.\"}");
+        TOSS.enqueue(503, "{\"code\":\"PROVIDER_ERROR\",\"message\":\"일시적인 오류입니다.\"}");
+
+        orderService.cancelOrder(userId, orderId);
+        awaitUntil(() -> "COMPLETED".equals(outboxStatus()));
+
+        assertThat(paymentStatus()).isEqualTo("REFUNDED");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT attempts FROM payment_cancel_outbox WHERE payment_id = ?", Integer.class, paymentId))
+                .isEqualTo(3);
+        assertThat(TOSS.requests())
+                .hasSize(3)
+                .allSatisfy(request -> assertThat(request.idempotencyKey()).isEqualTo("cancel_" + ORDER_NUMBER));
+    }
+
+    @Test
+    @DisplayName("재시도해도 성공할 수 없는 실패(4xx)는 FAILED 로 종료하고 결제를 CANCEL_FAILED 로 표시 · 알림 지표 증가")
+    void permanentFailure_markedFailed() {
+        TOSS.enqueue(400, "{\"code\":\"NOT_CANCELABLE_PAYMENT\",\"message\":\"취소할 수 없는 결제입니다.\"}");
+        double gaveUpBefore = meterRegistry.counter("payment.cancel.gave_up").count();
+
+        orderService.cancelOrder(userId, orderId);
+        awaitUntil(() -> "FAILED".equals(outboxStatus()));
+
+        assertThat(paymentStatus()).isEqualTo("CANCEL_FAILED");
+        assertThat(claimStatus()).isEqualTo("PROCESSING");
+        assertThat(meterRegistry.counter("payment.cancel.gave_up").count()).isEqualTo(gaveUpBefore + 1);
+        assertThat(meterRegistry.get("payment.cancel.outbox.failed").gauge().value()).isGreaterThanOrEqualTo(1);
+        assertThat(TOSS.requests()).hasSize(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT last_error FROM payment_cancel_outbox WHERE payment_id = ?", String.class, paymentId))
+                .contains("NOT_CANCELABLE_PAYMENT");
+    }
+
+    @Test
+    @DisplayName("토스 승인 호출 중 주문이 취소되면 승인 반영 대신 토스 취소를 등록 - 주문은 CANCELLED 유지, 결제는 환불 처리")
+    void confirmDuringCancel_queuesTossCancel() throws Exception {
+        jdbcTemplate.update("UPDATE orders SET status = 'PENDING' WHERE id = ?", orderId);
+        jdbcTemplate.update("UPDATE payments SET payment_status = 'PENDING', payment_key = NULL WHERE id = ?", paymentId);
+        TOSS.enqueueDelayed(200, "{}", Duration.ofMillis(500));
+        TossPaymentConfirmRequest request = objectMapper.readValue(
+                "{\"paymentKey\":\"pk_test_late\",\"orderId\":\"" + ORDER_NUMBER + "\",\"amount\":30000}",
+                TossPaymentConfirmRequest.class);
+
+        CompletableFuture<PaymentResponse> confirm = CompletableFuture.supplyAsync(() -> paymentService.confirmTossPayment(request));
+        awaitUntil(() -> !TOSS.requests().isEmpty());
+        orderService.cancelOrder(userId, orderId);
+
+        assertThatThrownBy(confirm::join)
+                .hasCauseInstanceOf(BusinessException.class)
+                .cause().extracting("errorCode").isEqualTo(ErrorCode.ORDER_ALREADY_CANCELLED);
+        awaitUntil(() -> "COMPLETED".equals(outboxStatus()));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, orderId))
+                .isEqualTo("CANCELLED");
+        assertThat(paymentStatus()).isEqualTo("REFUNDED");
+        assertThat(TOSS.requests()).extracting(TossPaymentsStubServer.RecordedRequest::path)
+                .containsExactly("/v1/payments/confirm", "/v1/payments/pk_test_late/cancel");
+    }
+
+    private String outboxStatus() {
+        return jdbcTemplate.query(
+                "SELECT status FROM payment_cancel_outbox WHERE payment_id = ?",
+                rs -> rs.next() ? rs.getString(1) : null, paymentId);
+    }
+
+    private String claimStatus() {
+        return jdbcTemplate.queryForObject("SELECT status FROM claims WHERE order_id = ?", String.class, orderId);
+    }
+
+    private String paymentStatus() {
+        return jdbcTemplate.queryForObject("SELECT payment_status FROM payments WHERE id = ?", String.class, paymentId);
+    }
+
+    private static void awaitUntil(Supplier<Boolean> condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.get()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건이 시간 내에 충족되지 않았습니다.");
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
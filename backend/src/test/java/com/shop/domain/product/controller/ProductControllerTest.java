@@ -1,6 +1,12 @@
 package com.shop.domain.product.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.domain.category.service.CategoryTreeCache;
+import com.shop.domain.product.service.ProductFacetSnapshot;
+import com.shop.domain.product.service.ProductListingProjector;
+import com.shop.domain.product.service.ProductSearchIndexer;
+import com.shop.global.sql.SqlStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,8 +16,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -23,7 +34,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class ProductControllerTest {
 
     @Autowired MockMvc mockMvc;
+    @Autowired ObjectMapper objectMapper;
     @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired ProductSearchIndexer productSearchIndexer;
+    @Autowired ProductFacetSnapshot productFacetSnapshot;
+    @Autowired ProductListingProjector productListingProjector;
+    @Autowired CategoryTreeCache categoryTreeCache;
 
     private Long categoryId;
     private Long productId;
@@ -61,6 +77,7 @@ class ProductControllerTest {
         productId = jdbcTemplate.queryForObject(
                 "SELECT id FROM products WHERE name = ?", Long.class, "프리미엄 코트"
         );
+        productListingProjector.rebuild();
     }
 
     @Test
@@ -123,6 +140,138 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.data.totalPages").value(2));
     }
 
+    @Test
+    @DisplayName("상품 목록 조회 - 썸네일이 없으면 imageOrder가 가장 작은 이미지를 사용")
+    void getProducts_firstImageAsThumbnail() throws Exception {
+        jdbcTemplate.update(
+                "INSERT INTO product_images (product_id, url, image_order) VALUES (?, ?, ?)",
+                productId, "https://img.test/coat-2.jpg", 2
+        );
+        jdbcTemplate.update(
+                "INSERT INTO product_images (product_id, url, image_order) VALUES (?, ?, ?)",
+                productId, "https://img.test/coat-1.jpg", 1
+        );
+        productListingProjector.rebuild();
+
+        mockMvc.perform(get("/api/products").param("sort", "price,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(productId))
+                .andExpect(jsonPath("$.data.content[0].thumbnailUrl").value("https://img.test/coat-1.jpg"))
+                .andExpect(jsonPath("$.data.content[1].thumbnailUrl").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 조회 모델에서 DB LIMIT으로 페이징하고 Join 하지 않음")
+    void getProducts_paginatesInDatabase() throws Exception {
+        jdbcTemplate.update(
+                "INSERT INTO product_images (product_id, url, image_order) VALUES (?, ?, ?)",
+                productId, "https://img.test/coat-1.jpg", 1
+        );
+        productListingProjector.rebuild();
+
+        MvcResult measured = mockMvc.perform(get("/api/products").param("page", "0").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andReturn();
+        List<String> statements = SqlStatistics.of(measured.getRequest()).getExecutedSql();
+
+        assertThat(statements)
+                .as("상품 페이지 쿼리는 product_listings 에서 LIMIT(fetch first) 절로 조회해야 함")
+                .anySatisfy(sql -> assertThat(sql.toLowerCase())
+                        .contains("from product_listings")
+                        .containsAnyOf(" limit ", "fetch first"));
+        assertThat(statements)
+                .as("상품 목록 조회 시 어떤 테이블도 Join 하지 않아야 함")
+                .noneSatisfy(sql -> assertThat(sql.toLowerCase()).contains(" join "));
+        assertThat(statements)
+                .as("상품 목록 조회 시 products 테이블을 읽지 않아야 함")
+                .noneSatisfy(sql -> assertThat(sql.toLowerCase()).contains("from products"));
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 좋아요 수 포함, 판매 중지된 상품은 조회 모델에서 제거")
+    void getProducts_listingProjection_likeCountAndRemoval() throws Exception {
+        jdbcTemplate.update(
+                "INSERT INTO product_like_counts (product_id, like_count) VALUES (?, ?)", productId, 7L
+        );
+        productListingProjector.rebuild();
+
+        mockMvc.perform(get("/api/products").param("sort", "price,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(productId))
+                .andExpect(jsonPath("$.data.content[0].likeCount").value(7))
+                .andExpect(jsonPath("$.data.content[0].categoryName").value("여성"));
+
+        jdbcTemplate.update("DELETE FROM products WHERE id = ?", productId);
+        productListingProjector.project(List.of(productId));
+
+        mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.content[0].name").value("베이직 티셔츠"));
+    }
+
+    @Test
+    @DisplayName("상품 커서 조회 - 가격 오름차순으로 다음 커서를 따라 끝까지 조회")
+    void getProductsByCursor_priceAsc() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/products/scroll")
+                .param("sort", "price,asc")
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].name").value("베이직 티셔츠"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").isString())
+                .andExpect(jsonPath("$.data.totalElements").doesNotExist())
+                .andReturn();
+
+        String nextCursor = objectMapper.readTree(first.getResponse().getContentAsString())
+                .path("data").path("nextCursor").asText();
+
+        mockMvc.perform(get("/api/products/scroll")
+                .param("sort", "price,asc")
+                .param("size", "1")
+                .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].name").value("프리미엄 코트"))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("상품 커서 조회 - 최신순, 동일 등록시각은 id로 구분하여 중복 없이 조회")
+    void getProductsByCursor_latest() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/products/scroll").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn();
+
+        JsonNode firstData = objectMapper.readTree(first.getResponse().getContentAsString()).path("data");
+        long firstId = firstData.path("content").get(0).path("id").asLong();
+
+        MvcResult second = mockMvc.perform(get("/api/products/scroll")
+                .param("size", "1")
+                .param("cursor", firstData.path("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.hasNext").value(false)) // inactive 상품 제외
+                .andReturn();
+
+        long secondId = objectMapper.readTree(second.getResponse().getContentAsString())
+                .path("data").path("content").get(0).path("id").asLong();
+        assertNotEquals(firstId, secondId);
+    }
+
+    @Test
+    @DisplayName("상품 커서 조회 - 정렬과 맞지 않거나 잘못된 커서는 400")
+    void getProductsByCursor_invalidCursor() throws Exception {
+        mockMvc.perform(get("/api/products/scroll").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_INPUT"));
+    }
+
     @Test
     @DisplayName("상품 단건 조회 - 200, 상세 정보 반환")
     void getProduct_success() throws Exception {
@@ -136,6 +285,22 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.data.categoryName").value("여성"));
     }
 
+    @Test
+    @DisplayName("상품 단건 조회 - 두 번째 조회부터는 캐시에서 응답하여 쿼리를 실행하지 않음")
+    void getProduct_servedFromCache() throws Exception {
+        mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk());
+
+        MvcResult measured = mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.name").value("프리미엄 코트"))
+                .andExpect(jsonPath("$.data.likeCount").value(0))
+                .andReturn();
+        List<String> statements = SqlStatistics.of(measured.getRequest()).getExecutedSql();
+
+        assertThat(statements).isEmpty();
+    }
+
     @Test
     @DisplayName("상품 단건 조회 - 존재하지 않는 ID 시 404")
     void getProduct_notFound() throws Exception {
@@ -162,4 +327,214 @@ class ProductControllerTest {
         mockMvc.perform(get("/api/products"))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 카테고리 필터는 하위 카테고리 상품 포함")
+    void getProducts_categoryFilter_includesSubcategories() throws Exception {
+        jdbcTemplate.update(
+                "INSERT INTO categories (name, description, display_order, depth, parent_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 1, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                "여성 아우터", "여성 아우터", 1, categoryId
+        );
+        Long childId = jdbcTemplate.queryForObject(
+                "SELECT id FROM categories WHERE name = ?", Long.class, "여성 아우터"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO products (name, description, price, stock, category_id, product_code, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                "트렌치 코트", "하위 카테고리 상품", 159000, 5, childId, "TST-PRD-005"
+        );
+        categoryTreeCache.rebuild();
+        productFacetSnapshot.rebuild();
+        productListingProjector.rebuild();
+
+        mockMvc.perform(get("/api/products").param("categoryId", String.valueOf(categoryId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(3))
+                .andExpect(jsonPath("$.data.facets.stockStatuses[0].count").value(3));
+
+        mockMvc.perform(get("/api/products").param("categoryId", String.valueOf(childId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.content[0].name").value("트렌치 코트"));
+
+        mockMvc.perform(get("/api/products/scroll").param("categoryId", String.valueOf(categoryId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(3));
+    }
+
+    // ─── Facets ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("상품 목록 조회 - 필터별 상품 수는 자기 자신을 제외한 필터만 적용")
+    void getProducts_facetCounts() throws Exception {
+        jdbcTemplate.update(
+                "INSERT INTO products (name, description, price, stock, category_id, product_code, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                "품절 니트", "재고 없는 니트", 45000, 0, categoryId, "TST-PRD-004"
+        );
+        productFacetSnapshot.rebuild();
+        productListingProjector.rebuild();
+
+        mockMvc.perform(get("/api/products")
+                .param("categoryId", String.valueOf(categoryId))
+                .param("stockStatus", "IN_STOCK"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(2))
+                .andExpect(jsonPath("$.data.facets.categories[0].value").value(String.valueOf(categoryId)))
+                .andExpect(jsonPath("$.data.facets.categories[0].label").value("여성"))
+                .andExpect(jsonPath("$.data.facets.categories[0].count").value(2))
+                .andExpect(jsonPath("$.data.facets.priceBands[0].value").value("UNDER_30K"))
+                .andExpect(jsonPath("$.data.facets.priceBands[0].count").value(1))
+                .andExpect(jsonPath("$.data.facets.priceBands[1].count").value(0)) // 품절 상품 제외
+                .andExpect(jsonPath("$.data.facets.priceBands[4].value").value("OVER_200K"))
+                .andExpect(jsonPath("$.data.facets.priceBands[4].count").value(1))
+                .andExpect(jsonPath("$.data.facets.stockStatuses[0].count").value(2))
+                .andExpect(jsonPath("$.data.facets.stockStatuses[1].value").value("SOLD_OUT"))
+                .andExpect(jsonPath("$.data.facets.stockStatuses[1].count").value(1));
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 카테고리별 상품 수는 하위 카테고리 상품 포함")
+    void getProducts_categoryFacetRollsUpSubcategories() throws Exception {
+        jdbcTemplate.update(
+                "INSERT INTO categories (name, description, display_order, depth, parent_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 1, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                "여성 아우터", "여성 아우터", 1, categoryId
+        );
+        Long childId = jdbcTemplate.queryForObject(
+                "SELECT id FROM categories WHERE name = ?", Long.class, "여성 아우터"
+        );
+        jdbcTemplate.update(
+                "INSERT INTO products (name, description, price, stock, category_id, product_code, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                "트렌치 코트", "하위 카테고리 상품", 159000, 5, childId, "TST-PRD-005"
+        );
+        categoryTreeCache.rebuild();
+        productFacetSnapshot.rebuild();
+        productListingProjector.rebuild();
+
+        mockMvc.perform(get("/api/products"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.facets.categories.length()").value(2))
+                .andExpect(jsonPath("$.data.facets.categories[0].value").value(String.valueOf(categoryId)))
+                .andExpect(jsonPath("$.data.facets.categories[0].count").value(3))
+                .andExpect(jsonPath("$.data.facets.categories[1].value").value(String.valueOf(childId)))
+                .andExpect(jsonPath("$.data.facets.categories[1].label").value("여성 아우터"))
+                .andExpect(jsonPath("$.data.facets.categories[1].count").value(1));
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 가격대 · 재고 필터, 추가된 상품 반영")
+    void getProducts_priceBandFilter_refreshedAfterChange() throws Exception {
+        productFacetSnapshot.rebuild();
+
+        mockMvc.perform(get("/api/products")
+                .param("categoryId", String.valueOf(categoryId))
+                .param("priceBand", "OVER_200K"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.content[0].name").value("프리미엄 코트"))
+                .andExpect(jsonPath("$.data.facets.stockStatuses[0].count").value(1));
+
+        jdbcTemplate.update(
+                "INSERT INTO products (name, description, price, stock, category_id, product_code, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                "캐시미어 코트", "재고 없는 코트", 350000, 0, categoryId, "TST-PRD-004"
+        );
+        Long addedId = jdbcTemplate.queryForObject(
+                "SELECT id FROM products WHERE product_code = ?", Long.class, "TST-PRD-004");
+        productFacetSnapshot.refresh(List.of(addedId));
+        productListingProjector.project(List.of(addedId));
+
+        mockMvc.perform(get("/api/products")
+                .param("categoryId", String.valueOf(categoryId))
+                .param("priceBand", "OVER_200K")
+                .param("stockStatus", "SOLD_OUT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.content[0].id").value(addedId))
+                .andExpect(jsonPath("$.data.facets.priceBands[4].count").value(1))
+                .andExpect(jsonPath("$.data.facets.stockStatuses[0].count").value(1))
+                .andExpect(jsonPath("$.data.facets.stockStatuses[1].count").value(1));
+    }
+
+    @Test
+    @DisplayName("상품 목록 조회 - 알 수 없는 가격대는 400")
+    void getProducts_unknownPriceBand_badRequest() throws Exception {
+        mockMvc.perform(get("/api/products").param("priceBand", "CHEAP"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_INPUT"));
+    }
+
+    // ─── Search ───────────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("상품 검색 - 한글 부분 일치, 판매 중이 아닌 상품 제외")
+    void searchProducts_koreanPartialMatch() throws Exception {
+        productSearchIndexer.rebuild();
+
+        mockMvc.perform(get("/api/products/search").param("q", "코트"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.content[0].name").value("프리미엄 코트"));
+
+        mockMvc.perform(get("/api/products/search").param("q", "삭제된"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(0));
+    }
+
+    @Test
+    @DisplayName("상품 검색 - 카테고리명 일치 + 카테고리 필터 + 가격 내림차순")
+    void searchProducts_categoryFilterAndPriceSort() throws Exception {
+        productSearchIndexer.rebuild();
+
+        mockMvc.perform(get("/api/products/search")
+                .param("q", "여성")
+                .param("categoryId", String.valueOf(categoryId))
+                .param("sort", "price,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(2))
+                .andExpect(jsonPath("$.data.content[0].name").value("프리미엄 코트"))
+                .andExpect(jsonPath("$.data.content[1].name").value("베이직 티셔츠"));
+
+        mockMvc.perform(get("/api/products/search")
+                .param("q", "여성")
+                .param("categoryId", "999999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(0));
+    }
+
+    @Test
+    @DisplayName("상품 검색 - 상품코드 일치, 삭제된 상품은 재색인 후 제외")
+    void searchProducts_productCodeAndReindex() throws Exception {
+        Long tshirtId = jdbcTemplate.queryForObject(
+                "SELECT id FROM products WHERE product_code = ?", Long.class, "TST-PRD-002");
+        jdbcTemplate.update("UPDATE products SET name = '오버핏 맨투맨' WHERE id = ?", tshirtId);
+        productSearchIndexer.rebuild();
+
+        mockMvc.perform(get("/api/products/search").param("q", "tst-prd-002"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].id").value(tshirtId));
+        mockMvc.perform(get("/api/products/search").param("q", "맨투맨"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(1))
+                .andExpect(jsonPath("$.data.content[0].id").value(tshirtId));
+
+        jdbcTemplate.update("DELETE FROM products WHERE id = ?", tshirtId);
+        productSearchIndexer.reindex(List.of(tshirtId));
+
+        mockMvc.perform(get("/api/products/search").param("q", "맨투맨"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(0));
+    }
+
+    @Test
+    @DisplayName("상품 검색 - 검색어가 비어 있으면 400")
+    void searchProducts_blankKeyword_badRequest() throws Exception {
+        mockMvc.perform(get("/api/products/search").param("q", " "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.code").value("INVALID_INPUT"));
+    }
 }
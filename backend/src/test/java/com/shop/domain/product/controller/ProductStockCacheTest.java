@@ -0,0 +1,85 @@
+package com.shop.domain.product.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.shop.domain.order.dto.CreateOrderRequest;
+import com.shop.domain.order.dto.OrderResponse;
+import com.shop.domain.order.service.OrderService;
+import com.shop.support.CommittedFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 상품 상세 캐시 무효화 테스트 - 주문 · 취소로 재고가 바뀐 뒤 상세 조회가 캐시된 이전 재고를 돌려주지 않는지 확인합니다.
+ * 캐시는 상품 변경이 커밋된 뒤에 무효화되므로 @Transactional 없이 {@link CommittedFixtures} 로 데이터를 만듭니다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("상품 상세 재고 캐시 테스트")
+class ProductStockCacheTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired OrderService orderService;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private CommittedFixtures fixtures;
+    private Long productId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new CommittedFixtures(jdbcTemplate);
+        Long categoryId = fixtures.category("재고캐시");
+        productId = fixtures.product(categoryId, "TST-STOCK-CACHE-001", "캐시 코트", 120000, 10);
+        userId = fixtures.user("stockcache@test.com", "재고캐시유저");
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    @DisplayName("주문 후 상품 조회 - 캐시가 무효화되어 차감된 재고 반환, 취소 후 복구된 재고 반환")
+    void getProduct_afterOrderAndCancel_returnsCurrentStock() throws Exception {
+        mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.stock").value(10));
+
+        OrderResponse order = orderService.createOrder(userId, orderRequest(3));
+
+        mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.stock").value(7));
+
+        orderService.cancelOrder(userId, order.getId());
+
+        mockMvc.perform(get("/api/products/{id}", productId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.stock").value(10));
+    }
+
+    private CreateOrderRequest orderRequest(int quantity) {
+        return objectMapper.convertValue(Map.of(
+                "items", List.of(Map.of("productId", productId, "quantity", quantity)),
+                "shippingAddress", "서울시 강남구 테헤란로 1",
+                "receiverName", "홍길동",
+                "receiverPhone", "010-1234-5678"
+        ), CreateOrderRequest.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.shop.domain.product.service;
+
+import com.shop.domain.product.repository.ProductRepository;
+import com.shop.support.CommittedFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 목록 조회 모델 갱신 테스트 - 엔티티 리스너가 발행한 변경 이벤트가 커밋된 뒤에만(AFTER_COMMIT) 반영 대상이 되는지
+ * 확인합니다. 테스트 트랜잭션은 끝까지 커밋되지 않아 AFTER_COMMIT 이 실행되지 않으므로, 상품은 CommittedFixtures 로 만들고
+ * 변경은 TransactionTemplate 으로 직접 커밋 · 롤백합니다.
+ */
+@SpringBootTest(properties = "shop.listing.refresh-interval-ms=600000")
+@ActiveProfiles("test")
+@DisplayName("상품 목록 조회 모델 갱신 테스트")
+class ProductListingProjectorTest {
+
+    @Autowired ProductListingProjector productListingProjector;
+    @Autowired ProductRepository productRepository;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private CommittedFixtures fixtures;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new CommittedFixtures(jdbcTemplate);
+        Long categoryId = fixtures.category("목록 갱신");
+        productId = fixtures.product(categoryId, "TST-LISTING-001", "목록 상품", 10000, 10);
+        productListingProjector.project(List.of(productId));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fixtures.deleteAll();
+    }
+
+    @Test
+    @DisplayName("커밋된 상품 변경은 엔티티 리스너 → AFTER_COMMIT 을 거쳐 다음 반영 주기에 목록 행에 반영")
+    void committedChange_projectedOnNextRefresh() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                productRepository.findById(productId).orElseThrow().decreaseStock(3));
+
+        assertThat(listingStock()).as("반영 주기 전에는 이전 값").isEqualTo(10);
+
+        productListingProjector.applyPendingChanges();
+
+        assertThat(listingStock()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("롤백된 상품 변경은 반영 대상으로 등록되지 않음")
+    void rolledBackChange_notProjected() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            productRepository.findById(productId).orElseThrow().decreaseStock(3);
+            productRepository.flush();
+            status.setRollbackOnly();
+        });
+        // 이벤트 없이 바뀐 값은 다음 반영 대상이 되어야만 목록 행에 나타남
+        jdbcTemplate.update("UPDATE products SET stock = 4 WHERE id = ?", productId);
+
+        productListingProjector.applyPendingChanges();
+
+        assertThat(listingStock()).isEqualTo(10);
+    }
+
+    private Integer listingStock() {
+        return jdbcTemplate.queryForObject(
+                "SELECT stock FROM product_listings WHERE product_id = ?", Integer.class, productId);
+    }
+}
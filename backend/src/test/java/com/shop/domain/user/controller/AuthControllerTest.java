@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -171,4 +173,46 @@ class AuthControllerTest {
                 .andExpect(jsonPath("$.success").value(false))
                 .andExpect(jsonPath("$.error.code").value("USER_NOT_FOUND"));
     }
+
+    // ─── Access Token ─────────────────────────────────────────────────────────
+
+    @Test
+    @DisplayName("액세스 토큰 인증 - 같은 토큰으로 반복 요청해도 인증 유지")
+    void accessToken_reusedAcrossRequests() throws Exception {
+        String token = signupAndGetToken("token@test.com");
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/cart")
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true));
+        }
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 인증 실패 - 서명이 변조된 토큰은 401")
+    void accessToken_tampered_unauthorized() throws Exception {
+        String token = signupAndGetToken("tampered@test.com");
+        int index = token.lastIndexOf('.') + 5;
+        char replaced = token.charAt(index) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, index) + replaced + token.substring(index + 1);
+
+        mockMvc.perform(get("/api/cart")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error.code").value("INVALID_TOKEN"));
+    }
+
+    private String signupAndGetToken(String email) throws Exception {
+        String response = mockMvc.perform(post("/api/auth/signup")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(toJson(Map.of(
+                        "email", email,
+                        "password", "password1234",
+                        "name", "홍길동"
+                ))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response).path("data").path("accessToken").asText();
+    }
 }
@@ -0,0 +1,77 @@
+package com.shop.global.migration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 결제 상태 체크 제약 마이그레이션 테스트 - Hibernate 가 예전 enum 값으로 만든 체크 제약이 있는 payments 테이블을
+ * PostgreSQL 컨테이너에 재현한 뒤 스크립트를 실행합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("결제 상태 체크 제약 마이그레이션 테스트")
+class PaymentStatusCancelFailedMigrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS shop_migrations");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS payments");
+        jdbcTemplate.execute("CREATE TABLE payments (id bigint PRIMARY KEY, payment_status varchar(255) NOT NULL " +
+                "CHECK (payment_status IN ('PENDING', 'COMPLETED', 'FAILED', 'REFUNDED')))");
+        jdbcTemplate.update("INSERT INTO payments (id, payment_status) VALUES (1, 'COMPLETED')");
+    }
+
+    @Test
+    @DisplayName("예전 체크 제약을 CANCEL_FAILED 를 허용하는 제약으로 교체하고, 목록에 없는 값은 계속 거부")
+    void migrate_allowsCancelFailed() {
+        assertThatThrownBy(this::markCancelFailed).isInstanceOf(DataIntegrityViolationException.class);
+
+        runMigration();
+
+        markCancelFailed();
+        assertThat(jdbcTemplate.queryForObject("SELECT payment_status FROM payments WHERE id = 1", String.class))
+                .isEqualTo("CANCEL_FAILED");
+        assertThatThrownBy(() -> jdbcTemplate.update("UPDATE payments SET payment_status = 'UNKNOWN' WHERE id = 1"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("이미 적용된 뒤 재기동하면 제약을 다시 만들지 않음")
+    void migrate_rerun_isNoOp() {
+        runMigration();
+        // 재기동 때 제약이 다시 만들어지지 않는지 확인하기 위한 표시
+        jdbcTemplate.execute("ALTER TABLE payments DROP CONSTRAINT payments_payment_status_check");
+
+        runMigration();
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_constraint WHERE conrelid = 'payments'::regclass AND contype = 'c'",
+                Integer.class)).isZero();
+    }
+
+    private void markCancelFailed() {
+        jdbcTemplate.update("UPDATE payments SET payment_status = 'CANCEL_FAILED' WHERE id = 1");
+    }
+
+    private void runMigration() {
+        new SchemaMigrations(dataSource).migrate(SchemaMigrations.PAYMENT_STATUS_CANCEL_FAILED);
+    }
+}
@@ -0,0 +1,139 @@
+package com.shop.global.migration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ID 시퀀스 전환 스크립트 테스트 - PL/pgSQL 스크립트이므로 H2 가 아닌 PostgreSQL 컨테이너에서 실제로 실행합니다.
+ * IDENTITY · bigserial 로 만들어진 기존 테이블에 행이 있는 상태를 재현한 뒤 마이그레이션을 돌립니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ID 시퀀스 마이그레이션 테스트")
+class SequenceIdMigrationTest {
+
+    private static final List<String> TABLES =
+            List.of("orders", "order_items", "payments", "claims", "claim_items", "cart_items");
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS shop_migrations");
+        for (String table : TABLES) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+            jdbcTemplate.execute("DROP SEQUENCE IF EXISTS " + table + "_seq");
+            // 이전 스키마 - cart_items 는 bigserial, 나머지는 IDENTITY
+            jdbcTemplate.execute(table.equals("cart_items")
+                    ? "CREATE TABLE cart_items (id bigserial PRIMARY KEY, note varchar(20))"
+                    : "CREATE TABLE " + table + " (id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, note varchar(20))");
+            for (int i = 0; i < 3; i++) {
+                jdbcTemplate.update("INSERT INTO " + table + " (note) VALUES ('legacy')");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("기존 IDENTITY · bigserial 테이블을 시퀀스 기본값으로 전환하고, 시퀀스를 최대 ID 이상으로 맞춤")
+    void migrate_legacyTables() {
+        runMigration();
+
+        for (String table : TABLES) {
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT is_identity FROM information_schema.columns WHERE table_name = ? AND column_name = 'id'",
+                    String.class, table)).as(table).isEqualTo("NO");
+            assertThat(columnDefault(table)).as(table).isEqualTo("nextval('" + table + "_seq'::regclass)");
+            assertThat(lastValue(table)).as(table).isGreaterThanOrEqualTo(3);
+
+            // 기본값으로 직접 INSERT 한 행도 기존 ID 와 겹치지 않음
+            Long id = jdbcTemplate.queryForObject(
+                    "INSERT INTO " + table + " (note) VALUES ('new') RETURNING id", Long.class);
+            assertThat(id).as(table).isGreaterThan(3);
+        }
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM shop_migrations WHERE name = 'sequence-ids'", Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 적용된 뒤 재기동하면 테이블 · 시퀀스를 건드리지 않음 - 다른 인스턴스가 앞서 받은 시퀀스 값이 되돌아가지 않음")
+    void migrate_rerun_isNoOp() {
+        runMigration();
+
+        // 실행 중인 다른 인스턴스가 pooled 블록을 몇 번 더 받아 감
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.queryForObject("SELECT nextval('orders_seq')", Long.class);
+        }
+        long advanced = lastValue("orders");
+        // 재기동 때 ALTER TABLE 이 다시 실행되지 않는지 확인하기 위한 표시
+        jdbcTemplate.execute("ALTER TABLE payments ALTER COLUMN id DROP DEFAULT");
+
+        runMigration();
+
+        assertThat(lastValue("orders")).isEqualTo(advanced);
+        assertThat(columnDefault("payments")).isNull();
+    }
+
+    @Test
+    @DisplayName("시퀀스가 이미 최대 ID 보다 앞서 있으면 그대로 둠")
+    void migrate_sequenceAhead_keepsValue() {
+        jdbcTemplate.execute("CREATE SEQUENCE orders_seq INCREMENT BY 50");
+        jdbcTemplate.queryForObject("SELECT setval('orders_seq', 500)", Long.class);
+
+        runMigration();
+
+        assertThat(lastValue("orders")).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 기동해도 한 번만 적용되고 오류 없이 끝남")
+    void migrate_concurrentStarts() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            CompletableFuture<?>[] starts = new CompletableFuture<?>[4];
+            for (int i = 0; i < starts.length; i++) {
+                starts[i] = CompletableFuture.runAsync(this::runMigration, executor);
+            }
+            CompletableFuture.allOf(starts).get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM shop_migrations", Integer.class)).isEqualTo(1);
+        for (String table : TABLES) {
+            assertThat(columnDefault(table)).as(table).isEqualTo("nextval('" + table + "_seq'::regclass)");
+        }
+    }
+
+    private void runMigration() {
+        new SchemaMigrations(dataSource).migrate(SchemaMigrations.SEQUENCE_IDS);
+    }
+
+    private String columnDefault(String table) {
+        return jdbcTemplate.queryForObject(
+                "SELECT column_default FROM information_schema.columns WHERE table_name = ? AND column_name = 'id'",
+                String.class, table);
+    }
+
+    private long lastValue(String table) {
+        return jdbcTemplate.queryForObject("SELECT last_value FROM " + table + "_seq", Long.class);
+    }
+}
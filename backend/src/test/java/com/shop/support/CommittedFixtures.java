@@ -0,0 +1,104 @@
+package com.shop.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 커밋되는 테스트 데이터 - @Transactional 없이 실행하는 테스트가 카테고리 · 상품 · 사용자를 만들고 직접 정리할 때 사용합니다.
+ * deleteAll 은 만든 사용자 · 상품에 딸린 주문 · 결제 · 클레임 · 좋아요 · 장바구니 · 목록 조회 모델 행까지 외래 키 순서대로 지웁니다.
+ */
+public class CommittedFixtures {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final List<Long> categoryIds = new ArrayList<>();
+    private final List<Long> productIds = new ArrayList<>();
+    private final List<Long> userIds = new ArrayList<>();
+
+    public CommittedFixtures(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Long category(String name) {
+        jdbcTemplate.update(
+                "INSERT INTO categories (name, description, display_order, depth, created_at, updated_at) " +
+                "VALUES (?, ?, 1, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                name, name + " 테스트"
+        );
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM categories WHERE name = ?", Long.class, name);
+        categoryIds.add(id);
+        return id;
+    }
+
+    public Long product(Long categoryId, String productCode, String name, int price, int stock) {
+        jdbcTemplate.update(
+                "INSERT INTO products (name, description, price, stock, category_id, product_code, status, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, 'ACTIVE', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                name, name + " 설명", price, stock, categoryId, productCode
+        );
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM products WHERE product_code = ?", Long.class, productCode);
+        productIds.add(id);
+        return id;
+    }
+
+    public Long user(String email, String name) {
+        return user(email, name, "USER");
+    }
+
+    public Long user(String email, String name, String role) {
+        jdbcTemplate.update(
+                "INSERT INTO users (email, password, name, role, login_type, created_at, updated_at) " +
+                "VALUES (?, 'password', ?, ?, 'LOCAL', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+                email, name, role
+        );
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", Long.class, email);
+        userIds.add(id);
+        return id;
+    }
+
+    /**
+     * emailPrefix + 순번 @test.com 사용자를 count 명 생성
+     */
+    public List<Long> users(String emailPrefix, String namePrefix, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(user(emailPrefix + i + "@test.com", namePrefix + i));
+        }
+        return ids;
+    }
+
+    public void deleteAll() {
+        if (!userIds.isEmpty()) {
+            String users = in(userIds);
+            String orders = "SELECT id FROM orders WHERE user_id IN (" + users + ")";
+            jdbcTemplate.update("DELETE FROM claim_items WHERE claim_id IN (SELECT id FROM claims WHERE order_id IN (" + orders + "))");
+            jdbcTemplate.update("DELETE FROM claims WHERE order_id IN (" + orders + ")");
+            jdbcTemplate.update("DELETE FROM payment_cancel_outbox WHERE payment_id IN (SELECT id FROM payments WHERE order_id IN (" + orders + "))");
+            jdbcTemplate.update("DELETE FROM payments WHERE order_id IN (" + orders + ")");
+            jdbcTemplate.update("DELETE FROM order_items WHERE order_id IN (" + orders + ")");
+            jdbcTemplate.update("DELETE FROM orders WHERE user_id IN (" + users + ")");
+            jdbcTemplate.update("DELETE FROM cart_items WHERE user_id IN (" + users + ")");
+            jdbcTemplate.update("DELETE FROM product_likes WHERE user_id IN (" + users + ")");
+            jdbcTemplate.update("DELETE FROM users WHERE id IN (" + users + ")");
+        }
+        if (!productIds.isEmpty()) {
+            String products = in(productIds);
+            jdbcTemplate.update("DELETE FROM product_like_counts WHERE product_id IN (" + products + ")");
+            jdbcTemplate.update("DELETE FROM product_listings WHERE product_id IN (" + products + ")");
+            jdbcTemplate.update("DELETE FROM products WHERE id IN (" + products + ")");
+        }
+        if (!categoryIds.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM categories WHERE id IN (" + in(categoryIds) + ")");
+        }
+        userIds.clear();
+        productIds.clear();
+        categoryIds.clear();
+    }
+
+    private static String in(List<Long> ids) {
+        return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+}
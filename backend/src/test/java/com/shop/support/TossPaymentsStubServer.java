@@ -0,0 +1,132 @@
+package com.shop.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 테스트용 토스페이먼츠 API 스텁 - 로컬 포트에서 요청을 기록하고, 미리 지정한 응답을 순서대로 돌려줍니다.
+ * 지정된 응답이 없으면 200 {} 을 반환하며, 응답 지연(setDelay, enqueueDelayed)으로 느린 외부 API 를,
+ * 응답 없이 연결 끊기(enqueueDisconnect)로 네트워크 장애를 흉내낼 수 있습니다.
+ * 요청마다 클라이언트 포트를 기록하므로 커넥션 재사용(keep-alive) 여부도 확인할 수 있습니다.
+ */
+public class TossPaymentsStubServer {
+
+    public record RecordedRequest(String method, String path, String idempotencyKey, String authorization,
+                                  String body, int clientPort) {
+    }
+
+    private record StubResponse(int status, String body, Duration delay, boolean disconnect) {
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Queue<StubResponse> responses = new ConcurrentLinkedQueue<>();
+    private final List<RecordedRequest> requests = new CopyOnWriteArrayList<>();
+    private volatile Duration delay = Duration.ZERO;
+
+    public TossPaymentsStubServer() {
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+    }
+
+    public TossPaymentsStubServer start() {
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void enqueue(int status, String body) {
+        responses.add(new StubResponse(status, body, Duration.ZERO, false));
+    }
+
+    public void enqueueDelayed(int status, String body, Duration delay) {
+        responses.add(new StubResponse(status, body, delay, false));
+    }
+
+    /**
+     * 응답 헤더를 보내지 않고 연결을 끊음 - 클라이언트는 IOException 을 받습니다.
+     */
+    public void enqueueDisconnect() {
+        responses.add(new StubResponse(0, "", Duration.ZERO, true));
+    }
+
+    public void setDelay(Duration delay) {
+        this.delay = delay;
+    }
+
+    public List<RecordedRequest> requests() {
+        return List.copyOf(requests);
+    }
+
+    public void reset() {
+        responses.clear();
+        requests.clear();
+        delay = Duration.ZERO;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        StubResponse response = responses.poll();
+        if (response == null) {
+            response = new StubResponse(200, "{}", Duration.ZERO, false);
+        }
+        requests.add(new RecordedRequest(
+                exchange.getRequestMethod(),
+                exchange.getRequestURI().getPath(),
+                exchange.getRequestHeaders().getFirst("Idempotency-Key"),
+                exchange.getRequestHeaders().getFirst("Authorization"),
+                body,
+                exchange.getRemoteAddress().getPort()
+        ));
+
+        sleep(delay.plus(response.delay()));
+        if (response.disconnect()) {
+            // 응답 헤더를 보내기 전에 close 하면 커넥션 자체가 닫힘
+            exchange.close();
+            return;
+        }
+
+        byte[] bytes = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}